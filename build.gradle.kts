@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -16,4 +17,69 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// Benchmarks live in src/jmh/java and run with ./gradlew jmh
+// Narrow the run with -PjmhIncludes=<regex>, results land in build/results/jmh
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(2)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
+tasks.register<JavaExec>("simulate") {
+    description = "Runs headless computer-vs-computer battles for every starter pairing"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.artefact.pokemon.battle.BattleSimulator")
+    if (project.hasProperty("teams")) args("--teams")
+    args((project.findProperty("battles") ?: "1000000").toString())
+    project.findProperty("seed")?.let { args(it.toString()) }
+}
+
+tasks.register<JavaExec>("tournament") {
+    description = "Runs a generated round-robin, elimination or Swiss tournament"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.artefact.pokemon.tournament.Tournament")
+    args((project.findProperty("format") ?: "elimination").toString(),
+        (project.findProperty("entrants") ?: "10000").toString())
+    project.findProperty("seed")?.let { args(it.toString()) }
+}
+
+tasks.register<JavaExec>("balance") {
+    description = "Sweeps move, type and heal settings for the most even species matchups"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.artefact.pokemon.balance.BalanceSweep")
+    args((project.findProperty("battles") ?: "5000").toString())
+    project.findProperty("seed")?.let { args(it.toString()) }
+}
+
+tasks.register<JavaExec>("winTables") {
+    description = "Solves exact win probabilities for every species pairing"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.artefact.pokemon.ai.WinProbabilityTables")
+}
+
+tasks.register<JavaExec>("train") {
+    description = "Trains the computer opponent by self-play and saves its policy"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.artefact.pokemon.ai.SelfPlayTrainer")
+    project.findProperty("episodes")?.let { args(it.toString()) }
+    project.findProperty("seed")?.let { args(it.toString()) }
+}
+
+tasks.register<JavaExec>("serve") {
+    description = "Hosts player-vs-computer battles over a local HTTP JSON API"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.artefact.server.BattleServer")
+    project.findProperty("port")?.let { args(it.toString()) }
+}
@@ -0,0 +1,53 @@
+package com.artefact.pokemon;
+
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.PokemonType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Pokemon rendering and construction.
+ * Direct construction is included as a baseline for the cached constructor factory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PokemonBenchmark {
+
+    @Param({"100", "37", "0"})
+    public int health;
+
+    private Pokemon pokemon;
+
+    @Setup
+    public void setUp() {
+        pokemon = FirePokemon.create("Charizard", 100, 20);
+        pokemon.health = health;
+    }
+
+    @Benchmark
+    public String getHealthBar() {
+        return pokemon.getHealthBar();
+    }
+
+    @Benchmark
+    public Pokemon createPokemon() {
+        return Pokemon.createPokemon("Charizard", PokemonType.FIRE, 100, 20,
+                "A powerful Fire-type Pokemon that breathes scorching flames.", FirePokemon.class);
+    }
+
+    @Benchmark
+    public Pokemon directConstruction() {
+        FirePokemon created = new FirePokemon("Charizard", 100, 20);
+        created.initialiseMoves();
+        return created;
+    }
+}
@@ -0,0 +1,104 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.event.BattleEventLog;
+import com.artefact.pokemon.battle.event.BattleEventPublisher;
+import com.artefact.pokemon.battle.event.BattleEventSnapshot;
+import com.artefact.pokemon.battle.event.BattleEventType;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-turn battle hot paths in PokemonBattler:
+ * move execution, type effectiveness lookup and event publishing,
+ * with and without ten thousand spectators attached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BattleBenchmark {
+
+    private PokemonBattler headless;      // Battler used for move execution
+    private BattleEventLog events;        // Event ring with no sinks attached
+    private BattleEventLog spectated;     // Event ring feeding a spectator publisher
+    private BattleEventPublisher publisher;
+    private Pokemon attacker;
+    private Pokemon defender;
+    private Move move;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        headless = PokemonBattler.headless();
+        events = new BattleEventLog(64);
+        spectated = new BattleEventLog(64);
+        publisher = new BattleEventPublisher(1024, 256, BattleEventPublisher.OverflowPolicy.DROP_OLDEST);
+        spectated.addSink(publisher);
+        for (int i = 0; i < 10_000; i++) {
+            publisher.subscribe(new Flow.Subscriber<BattleEventSnapshot>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(BattleEventSnapshot item) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+        attacker = FirePokemon.create("Charizard", 100, 20);
+        defender = GrassPokemon.create("Venusaur", 100, 20);
+        move = attacker.moves.get(1);
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public int executeMove() {
+        defender.health = 100;
+        headless.executeMove(attacker, defender, move, random);
+        return defender.health;
+    }
+
+    @Benchmark
+    public double getTypeMultiplier() {
+        return headless.getTypeMultiplier(attacker, defender);
+    }
+
+    @Benchmark
+    public long publishEvent() {
+        events.publish(BattleEventType.HIT, attacker, defender, move, 16, 1.1);
+        return events.publishedCount();
+    }
+
+    @Benchmark
+    public long publishEventToSpectators() {
+        spectated.publish(BattleEventType.HIT, attacker, defender, move, 16, 1.1);
+        return spectated.publishedCount();
+    }
+}
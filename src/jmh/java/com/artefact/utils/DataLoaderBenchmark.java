@@ -0,0 +1,60 @@
+package com.artefact.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks DataLoader.loadMostRecentUserData against directories
+ * holding increasing numbers of user data files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataLoaderBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int fileCount;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("dataloader-bench");
+        for (int i = 0; i < fileCount; i++) {
+            Files.writeString(directory.resolve("User" + i + "_2024-12-08" + Constants.FILE_EXTENSION),
+                    "Student information --\n\n" +
+                    "First name: Matt\n" +
+                    "Last name: User" + i + "\n" +
+                    "Place of work: Ciptex\n" +
+                    "Years worked in current role: 1\n");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> loadMostRecentUserData() {
+        return DataLoader.loadMostRecentUserData(directory.toFile());
+    }
+}
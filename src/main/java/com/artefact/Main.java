@@ -1,9 +1,13 @@
 package com.artefact;
 
+import com.artefact.jfr.StartupFlightEvent;
 import com.artefact.menu.MenuSystem;
+import com.artefact.metrics.Metrics;
+import com.artefact.metrics.MetricsServer;
 import com.artefact.utils.Constants;
 import com.artefact.utils.DataLoader;
 import java.io.File;
+import java.io.IOException;
 import java.util.Scanner;
 import java.util.Map;
 
@@ -21,12 +25,19 @@ public class Main {
      * Collects user information and initialises the menu system
      */
     public static void main(String[] args) {
+        StartupFlightEvent startup = new StartupFlightEvent();
+        startup.begin();
+
         // Create output directory first
         createOutputDirectory();
+        Metrics.registerMBeans();
+        MetricsServer metricsServer = startMetricsServer();
 
         System.out.println("Hello and welcome to the programme. \nBefore we start, lets collect some data about you.");
 
         Map<String, String> previousData = DataLoader.loadMostRecentUserData();
+        startup.previousData = previousData != null;
+        startup.commit();
 
         String firstName, lastName, placeOfWork;
         int yearsOfWork;
@@ -85,6 +96,26 @@ public class Main {
             menuSystem.displayMenu();
         } catch (Exception e) {
             System.err.println("An error has occurred: " + e.getMessage());
+        } finally {
+            if (metricsServer != null) metricsServer.stop();
+        }
+    }
+
+    /**
+     * Starts the metrics endpoint if a port is given with -Dartefact.metrics.port
+     * @return Running server, or null if none was requested or it could not start
+     */
+    private static MetricsServer startMetricsServer() {
+        String port = System.getProperty(Constants.METRICS_PORT_PROPERTY);
+        if (port == null) return null;
+        try {
+            MetricsServer server = new MetricsServer(Integer.parseInt(port), Metrics.REGISTRY);
+            server.start();
+            System.out.println("Metrics available at http://localhost:" + server.getPort() + "/metrics");
+            return server;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Warning: Failed to start metrics server on port " + port + ": " + e.getMessage());
+            return null;
         }
     }
 
@@ -0,0 +1,37 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one move being resolved, including publishing
+ * it to the battle's event sinks.
+ */
+@Name("com.artefact.Attack")
+@Label("Attack")
+@Category({"Artefact", "Battle"})
+@Description("A move hitting or missing")
+@StackTrace(false)
+public final class AttackFlightEvent extends jdk.jfr.Event {
+
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Defender")
+    public String defender;
+
+    @Label("Move")
+    public String move;
+
+    @Label("Hit")
+    public boolean hit;
+
+    @Label("Damage")
+    public int damage;
+
+    @Label("Type Multiplier")
+    public double typeMultiplier;
+}
@@ -0,0 +1,32 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one player battle, from the first turn to
+ * the winner being decided or the player surrendering.
+ */
+@Name("com.artefact.Battle")
+@Label("Battle")
+@Category({"Artefact", "Battle"})
+@Description("A player battle from start to finish")
+@StackTrace(false)
+public final class BattleFlightEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Opponent")
+    public String opponent;
+
+    @Label("Outcome")
+    @Description("won, lost or surrendered, from the player's side")
+    public String outcome;
+
+    @Label("Turns")
+    public int turns;
+}
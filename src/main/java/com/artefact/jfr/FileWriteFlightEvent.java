@@ -0,0 +1,35 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for saving a user data file or a battle result
+ */
+@Name("com.artefact.FileWrite")
+@Label("File Write")
+@Category({"Artefact", "File I/O"})
+@Description("A user data file or battle result being saved")
+public final class FileWriteFlightEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    @Description("user data or battle history")
+    public String kind;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytes;
+
+    @Label("Queued")
+    @Description("true if the battle was handed to the background writer instead of written")
+    public boolean queued;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,33 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a potion or computer heal being used
+ */
+@Name("com.artefact.Heal")
+@Label("Heal")
+@Category({"Artefact", "Battle"})
+@Description("A potion or computer heal")
+@StackTrace(false)
+public final class HealFlightEvent extends jdk.jfr.Event {
+
+    @Label("Pokemon")
+    public String pokemon;
+
+    @Label("Potion")
+    @Description("true for a player potion, false for a computer heal")
+    public boolean potion;
+
+    @Label("Amount")
+    @Description("HP recovered, or -1 if no potions were left")
+    public int amount;
+
+    @Label("Remaining")
+    @Description("Potions or heals left afterwards")
+    public int remaining;
+}
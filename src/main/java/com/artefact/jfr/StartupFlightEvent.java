@@ -0,0 +1,21 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning application startup, up to the point the
+ * first question is put to the user
+ */
+@Name("com.artefact.Startup")
+@Label("Startup")
+@Category({"Artefact"})
+@Description("Application startup before the first prompt")
+public final class StartupFlightEvent extends jdk.jfr.Event {
+
+    @Label("Previous User Data")
+    @Description("true if earlier user data was found")
+    public boolean previousData;
+}
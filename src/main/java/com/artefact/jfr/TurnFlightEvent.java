@@ -0,0 +1,31 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one side's turn. A player turn includes the
+ * time spent waiting for input; a computer turn includes the opponent
+ * strategy's thinking time. Attack and heal events for the turn nest inside it.
+ */
+@Name("com.artefact.BattleTurn")
+@Label("Battle Turn")
+@Category({"Artefact", "Battle"})
+@Description("One side's turn, including input or thinking time")
+@StackTrace(false)
+public final class TurnFlightEvent extends jdk.jfr.Event {
+
+    @Label("Turn")
+    @Description("Turn number within the battle, counting both sides")
+    public int turn;
+
+    @Label("Pokemon")
+    public String pokemon;
+
+    @Label("Computer")
+    @Description("true for the computer's turn, false for the player's")
+    public boolean computer;
+}
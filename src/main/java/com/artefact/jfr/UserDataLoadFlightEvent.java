@@ -0,0 +1,31 @@
+package com.artefact.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for finding and reading the most recent user data file
+ */
+@Name("com.artefact.UserDataLoad")
+@Label("User Data Load")
+@Category({"Artefact", "File I/O"})
+@Description("Scanning for and reading the most recent user data file")
+public final class UserDataLoadFlightEvent extends jdk.jfr.Event {
+
+    @Label("Directory")
+    public String directory;
+
+    @Label("Files Scanned")
+    public int filesScanned;
+
+    @Label("File")
+    @Description("File that was read, or null if none was found")
+    public String file;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytes;
+}
@@ -1,8 +1,12 @@
 package com.artefact.menu;
 
 import com.artefact.pokemon.battle.PokemonBattler;
+import com.artefact.pokemon.history.AsyncBattleWriter;
+import com.artefact.pokemon.history.BattleHistory;
+import com.artefact.utils.Constants;
 import com.artefact.utils.WriteFile;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Scanner;
 
@@ -20,6 +24,7 @@ public class MenuSystem {
     private String placeOfWork;
     private int yearsOfWork;
     private final TDEE tdee = new TDEE();
+    private AsyncBattleWriter battleWriter;  // Saves battle results in the background
 
     // ====== Data Management Methods ======
 
@@ -129,6 +134,7 @@ public class MenuSystem {
             writeFile.setUserData(firstName, lastName, placeOfWork, yearsOfWork,
                     menuHistory, tdee.getTdeeResult());
             writeFile.writeToFile();
+            shutdownBattleWriter();
             System.out.println("Thank you for using the programme! Have a great day!");
             return false;
         } else if (!userInput.equals("yes")) {
@@ -141,6 +147,38 @@ public class MenuSystem {
     public void startPokemonBattle() {
         System.out.println("Welcome to the Pokemon Battler!");
         PokemonBattler battler = new PokemonBattler();
+        battler.setBattleWriter(getBattleWriter());
         battler.startBattle();
     }
+
+    /**
+     * Opens the background battle writer on first use
+     * @return Shared writer, or null if the battle history cannot be opened
+     */
+    private AsyncBattleWriter getBattleWriter() {
+        if (battleWriter == null) {
+            try {
+                battleWriter = new AsyncBattleWriter(BattleHistory.open(),
+                        Constants.BATTLE_WRITER_QUEUE_CAPACITY,
+                        Constants.BATTLE_WRITER_FLUSH_MILLIS,
+                        AsyncBattleWriter.SyncPolicy.EVERY_BATCH);
+            } catch (IOException e) {
+                System.err.println("Failed to open battle history: " + e.getMessage());
+            }
+        }
+        return battleWriter;
+    }
+
+    /**
+     * Waits for queued battle results to be written, then closes the history
+     */
+    private void shutdownBattleWriter() {
+        if (battleWriter == null) return;
+        try {
+            battleWriter.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close battle history: " + e.getMessage());
+        }
+        battleWriter = null;
+    }
 }
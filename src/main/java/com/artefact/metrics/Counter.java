@@ -0,0 +1,59 @@
+package com.artefact.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter is a monotonically increasing total. Increments go to a striped
+ * LongAdder, so threads recording at once do not contend on one memory word.
+ */
+public final class Counter implements CounterMXBean {
+
+    // ====== Class Fields ======
+
+    private final String name;         // Name used in the text exposition
+    private final String description;
+    private final LongAdder count = new LongAdder();
+
+    // ====== Constructor ======
+
+    Counter(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    // ====== Recording Methods ======
+
+    /**
+     * Adds one to the counter
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds an amount to the counter
+     * @param amount Amount to add; negative amounts are ignored
+     */
+    public void add(long amount) {
+        if (amount > 0) count.add(amount);
+    }
+
+    // ====== Accessor Methods ======
+
+    /**
+     * @return Name of the counter
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.artefact.metrics;
+
+/**
+ * Management interface a Counter is exposed through over JMX
+ */
+public interface CounterMXBean {
+
+    /**
+     * @return Total counted since the process started
+     */
+    long getCount();
+
+    /**
+     * @return What the counter measures
+     */
+    String getDescription();
+}
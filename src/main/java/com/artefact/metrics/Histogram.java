@@ -0,0 +1,166 @@
+package com.artefact.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram counts recorded values in power-of-two buckets. Recording finds
+ * the bucket with a leading-zero count and bumps a striped LongAdder, so it
+ * never locks and never allocates. Buckets are fixed when the histogram is
+ * created, which keeps the exported bucket bounds stable between scrapes.
+ *
+ * Values are recorded as whole numbers, such as nanoseconds or bytes, and
+ * multiplied by an export scale when read, such as 1e-9 to report seconds.
+ */
+public final class Histogram implements HistogramMXBean {
+
+    // ====== Class Fields ======
+
+    private final String name;         // Name used in the text exposition
+    private final String description;
+    private final int lowestExponent;  // First bucket holds values up to 2^lowestExponent
+    private final double scale;        // Export units per recorded unit
+    private final LongAdder[] buckets; // One per power of two, then one for larger values
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    // ====== Constructor ======
+
+    Histogram(String name, String description, int lowestExponent, int highestExponent, double scale) {
+        if (lowestExponent < 0 || highestExponent < lowestExponent || highestExponent > 62) {
+            throw new IllegalArgumentException("Bucket exponents must satisfy 0 <= lowest <= highest <= 62");
+        }
+        this.name = name;
+        this.description = description;
+        this.lowestExponent = lowestExponent;
+        this.scale = scale;
+        this.buckets = new LongAdder[highestExponent - lowestExponent + 2];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    // ====== Recording Methods ======
+
+    /**
+     * Records one value
+     * @param value Value in recorded units; negative values count as 0
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets[bucketOf(clamped)].increment();
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Records the time elapsed since a System.nanoTime() reading
+     * @param startNanos Reading taken when the timed work began
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    private int bucketOf(long value) {
+        int exponent = value <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(value - 1);  // Smallest e with value <= 2^e
+        return Math.min(Math.max(0, exponent - lowestExponent), buckets.length - 1);
+    }
+
+    // ====== Bucket Methods ======
+
+    /**
+     * @return Number of buckets, including the final unbounded one
+     */
+    public int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * @param bucket Bucket index
+     * @return Largest value the bucket holds in export units, or infinity for the last bucket
+     */
+    public double upperBound(int bucket) {
+        return bucket == buckets.length - 1
+                ? Double.POSITIVE_INFINITY
+                : (1L << (lowestExponent + bucket)) * scale;
+    }
+
+    /**
+     * @param bucket Bucket index
+     * @return Values recorded in that bucket alone
+     */
+    public long bucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * Estimates a quantile as the upper bound of the bucket that holds it,
+     * never more than the largest value recorded
+     * @param quantile Quantile between 0.0 and 1.0
+     * @return Estimated value in export units, or 0 if nothing has been recorded
+     */
+    public double quantile(double quantile) {
+        long total = 0;
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) return 0.0;
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) return Math.min(upperBound(i), getMax());
+        }
+        return getMax();
+    }
+
+    // ====== Accessor Methods ======
+
+    /**
+     * @return Name of the histogram
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getSum() {
+        return sum.sum() * scale;
+    }
+
+    @Override
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : sum.sum() * scale / n;
+    }
+
+    @Override
+    public double getMax() {
+        return max.get() * scale;
+    }
+
+    @Override
+    public double getMedian() {
+        return quantile(0.5);
+    }
+
+    @Override
+    public double get99thPercentile() {
+        return quantile(0.99);
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+}
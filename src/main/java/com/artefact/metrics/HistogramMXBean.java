@@ -0,0 +1,43 @@
+package com.artefact.metrics;
+
+/**
+ * Management interface a Histogram is exposed through over JMX.
+ * Values are in the histogram's export unit, such as seconds or bytes.
+ */
+public interface HistogramMXBean {
+
+    /**
+     * @return Number of values recorded
+     */
+    long getCount();
+
+    /**
+     * @return Sum of every recorded value
+     */
+    double getSum();
+
+    /**
+     * @return Mean recorded value, or 0 if nothing has been recorded
+     */
+    double getMean();
+
+    /**
+     * @return Largest recorded value
+     */
+    double getMax();
+
+    /**
+     * @return Upper bound of the bucket holding the median
+     */
+    double getMedian();
+
+    /**
+     * @return Upper bound of the bucket holding the 99th percentile
+     */
+    double get99thPercentile();
+
+    /**
+     * @return What the histogram measures
+     */
+    String getDescription();
+}
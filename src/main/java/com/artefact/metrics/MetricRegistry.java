@@ -0,0 +1,172 @@
+package com.artefact.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * MetricRegistry holds a process's counters and histograms, publishes them as
+ * JMX MBeans and renders them in the Prometheus text exposition format.
+ * Metrics are created once, usually into static fields, and then recorded
+ * to without going through the registry again.
+ */
+public final class MetricRegistry {
+
+    // ====== Class Fields ======
+
+    private final String domain;  // JMX domain MBeans are registered under
+    private final List<Counter> counters = new ArrayList<>();
+    private final List<Histogram> histograms = new ArrayList<>();
+
+    // ====== Constructor ======
+
+    /**
+     * Creates an empty registry
+     * @param domain JMX domain for the registry's MBeans
+     */
+    public MetricRegistry(String domain) {
+        this.domain = domain;
+    }
+
+    // ====== Creation Methods ======
+
+    /**
+     * Creates and registers a counter
+     * @param name Metric name, conventionally ending in _total
+     * @param description What the counter measures
+     * @return New counter
+     */
+    public synchronized Counter counter(String name, String description) {
+        checkUnique(name);
+        Counter counter = new Counter(name, description);
+        counters.add(counter);
+        return counter;
+    }
+
+    /**
+     * Creates and registers a histogram of durations, recorded in
+     * nanoseconds and exported in seconds. Buckets run from about a
+     * microsecond to about eighteen minutes.
+     * @param name Metric name, conventionally ending in _seconds
+     * @param description What the histogram measures
+     * @return New histogram
+     */
+    public Histogram timer(String name, String description) {
+        return histogram(name, description, 10, 40, 1e-9);
+    }
+
+    /**
+     * Creates and registers a histogram of whole-number values
+     * @param name Metric name
+     * @param description What the histogram measures
+     * @param lowestExponent First bucket holds values up to 2^lowestExponent
+     * @param highestExponent Last bounded bucket holds values up to 2^highestExponent
+     * @param scale Export units per recorded unit
+     * @return New histogram
+     */
+    public synchronized Histogram histogram(String name, String description,
+                                            int lowestExponent, int highestExponent, double scale) {
+        checkUnique(name);
+        Histogram histogram = new Histogram(name, description, lowestExponent, highestExponent, scale);
+        histograms.add(histogram);
+        return histogram;
+    }
+
+    private void checkUnique(String name) {
+        if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        for (Counter counter : counters) {
+            if (counter.name().equals(name)) throw new IllegalArgumentException("Duplicate metric: " + name);
+        }
+        for (Histogram histogram : histograms) {
+            if (histogram.name().equals(name)) throw new IllegalArgumentException("Duplicate metric: " + name);
+        }
+    }
+
+    // ====== Export Methods ======
+
+    /**
+     * Registers every metric as an MBean named domain:type=Counter|Histogram,name=metric.
+     * Metrics that are already registered are left as they are.
+     * @param server MBean server to register with
+     */
+    public synchronized void registerMBeans(MBeanServer server) {
+        try {
+            for (Counter counter : counters) {
+                register(server, counter, "Counter", counter.name());
+            }
+            for (Histogram histogram : histograms) {
+                register(server, histogram, "Histogram", histogram.name());
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register metrics with JMX", e);
+        }
+    }
+
+    private void register(MBeanServer server, Object metric, String type, String name) throws JMException {
+        ObjectName objectName = new ObjectName(domain + ":type=" + type + ",name=" + name);
+        if (!server.isRegistered(objectName)) {
+            server.registerMBean(metric, objectName);
+        }
+    }
+
+    /**
+     * Appends every metric in the Prometheus text exposition format
+     * @param out Buffer to append to
+     */
+    public void writeText(StringBuilder out) {
+        List<Counter> counterSnapshot;
+        List<Histogram> histogramSnapshot;
+        synchronized (this) {
+            counterSnapshot = List.copyOf(counters);
+            histogramSnapshot = List.copyOf(histograms);
+        }
+
+        for (Counter counter : counterSnapshot) {
+            appendHeader(out, counter.name(), counter.getDescription(), "counter");
+            out.append(counter.name()).append(' ').append(counter.getCount()).append('\n');
+        }
+        for (Histogram histogram : histogramSnapshot) {
+            appendHeader(out, histogram.name(), histogram.getDescription(), "histogram");
+            long cumulative = 0;
+            for (int i = 0; i < histogram.bucketCount(); i++) {
+                cumulative += histogram.bucketCount(i);
+                out.append(histogram.name()).append("_bucket{le=\"")
+                        .append(formatBound(histogram.upperBound(i))).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            // Count and sum come from the buckets just read, so a scrape is self-consistent
+            out.append(histogram.name()).append("_sum ").append(format(histogram.getSum())).append('\n');
+            out.append(histogram.name()).append("_count ").append(cumulative).append('\n');
+        }
+    }
+
+    /**
+     * @return Every metric in the Prometheus text exposition format
+     */
+    public String toText() {
+        StringBuilder out = new StringBuilder(4096);
+        writeText(out);
+        return out.toString();
+    }
+
+    private static void appendHeader(StringBuilder out, String name, String description, String type) {
+        out.append("# HELP ").append(name).append(' ')
+                .append(description.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String formatBound(double bound) {
+        return Double.isInfinite(bound) ? "+Inf" : format(bound);
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? Long.toString((long) value)
+                : String.format(Locale.ROOT, "%.9g", value);
+    }
+}
@@ -0,0 +1,59 @@
+package com.artefact.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Metrics holds the application's operational metrics. Recording is cheap
+ * enough to stay on everywhere: counters are LongAdders and histograms are
+ * lock-free, so instrumented code just calls the static fields below.
+ */
+public final class Metrics {
+    // Prevent instantiation
+    private Metrics() {
+        throw new UnsupportedOperationException("This utility class should not be instantiated");
+    }
+
+    public static final MetricRegistry REGISTRY = new MetricRegistry("com.artefact");
+
+    // ====== Battle Metrics ======
+
+    public static final Counter BATTLES_STARTED = REGISTRY.counter(
+            "artefact_battles_started_total", "Player battles started");
+    public static final Counter BATTLES_FINISHED = REGISTRY.counter(
+            "artefact_battles_finished_total", "Player battles that ended with a winner");
+    public static final Counter BATTLES_SURRENDERED = REGISTRY.counter(
+            "artefact_battles_surrendered_total", "Player battles the player surrendered");
+    public static final Histogram PLAYER_TURN_SECONDS = REGISTRY.timer(
+            "artefact_battle_player_turn_seconds", "Time to take a player turn, including input");
+    public static final Histogram COMPUTER_TURN_SECONDS = REGISTRY.timer(
+            "artefact_battle_computer_turn_seconds", "Time for the computer to choose and play a turn");
+    public static final Histogram BATTLE_SECONDS = REGISTRY.timer(
+            "artefact_battle_duration_seconds", "Wall-clock length of player battles");
+    public static final Histogram BATTLE_TURNS = REGISTRY.histogram(
+            "artefact_battle_duration_turns", "Turns taken by both sides in player battles", 0, 10, 1.0);
+
+    // ====== File Metrics ======
+
+    public static final Histogram USER_DATA_WRITE_SECONDS = REGISTRY.timer(
+            "artefact_user_data_write_seconds", "Time to write a user data file");
+    public static final Counter USER_DATA_WRITTEN_BYTES = REGISTRY.counter(
+            "artefact_user_data_written_bytes_total", "Bytes written to user data files");
+    public static final Histogram USER_DATA_LOAD_SECONDS = REGISTRY.timer(
+            "artefact_user_data_load_seconds", "Time to find and read the most recent user data file");
+    public static final Counter USER_DATA_FILES_SCANNED = REGISTRY.counter(
+            "artefact_user_data_files_scanned_total", "Files examined while looking for user data");
+    public static final Histogram HISTORY_SAVE_SECONDS = REGISTRY.timer(
+            "artefact_battle_history_save_seconds", "Time to save or queue a finished battle");
+    public static final Counter HISTORY_WRITTEN_BYTES = REGISTRY.counter(
+            "artefact_battle_history_written_bytes_total", "Bytes appended to the battle journal by direct saves");
+
+    // ====== Export Methods ======
+
+    /**
+     * Publishes every metric on the platform MBean server, for jconsole and
+     * other JMX clients. Safe to call more than once.
+     */
+    public static void registerMBeans() {
+        REGISTRY.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+    }
+}
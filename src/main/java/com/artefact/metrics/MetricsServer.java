@@ -0,0 +1,86 @@
+package com.artefact.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MetricsServer serves a registry in the Prometheus text format at /metrics,
+ * for processes that do not already run an HTTP server. The handler can also
+ * be mounted on an existing server.
+ */
+public class MetricsServer {
+
+    // ====== Class Fields ======
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+
+    // ====== Constructor ======
+
+    /**
+     * Creates a server on localhost. Scrapes are answered on the server's own
+     * dispatcher thread, which keeps the process alive until stop is called.
+     * @param port Port to listen on, or 0 for any free port
+     * @param registry Metrics to serve
+     * @throws IOException If the port cannot be bound
+     */
+    public MetricsServer(int port, MetricRegistry registry) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.server.createContext("/metrics", handler(registry));
+    }
+
+    /**
+     * Creates a handler that answers GET requests with the registry's metrics
+     * @param registry Metrics to serve
+     * @return Handler to mount at /metrics
+     */
+    public static HttpHandler handler(MetricRegistry registry) {
+        return exchange -> {
+            try (exchange) {
+                if (!exchange.getRequestMethod().equals("GET")) {
+                    exchange.sendResponseHeaders(405, -1);
+                    return;
+                }
+                send(exchange, registry.toText().getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    private static void send(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // ====== Lifecycle ======
+
+    /**
+     * Starts serving scrapes
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops serving scrapes
+     */
+    public void stop() {
+        server.stop(0);
+    }
+
+    /**
+     * @return Port the server is listening on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+}
@@ -1,9 +1,15 @@
 package com.artefact.pokemon;
 
+import com.artefact.pokemon.battle.BattleRules;
+
+import java.util.random.RandomGenerator;
+
 /**
  * Move class represents a Pokemon's battle move.
  * It encapsulates the move's characteristics including name, power,
  * accuracy and description, and handles hit probability calculations.
+ * A move may also inflict a status effect when it hits, or take several
+ * turns to charge before it lands.
  */
 public class Move {
 
@@ -13,6 +19,8 @@ public class Move {
     private final int basePower;        // Base damage of the move
     private final double accuracy;      // Hit probability (0.0 to 1.0)
     private final String description;   // Move description text
+    private final MoveEffect effect;    // Status effect inflicted on a hit, or null
+    private final int chargeTurns;      // Turns spent charging before the move lands, 0 for instant
 
     // ====== Constructor ======
 
@@ -24,20 +32,51 @@ public class Move {
      * @param description Text description of the move
      */
     public Move(String name, int basePower, double accuracy, String description) {
+        this(name, basePower, accuracy, description, null, 0);
+    }
+
+    /**
+     * Creates a new Move with a status effect or a charging delay
+     * @param name Name of the move
+     * @param basePower Base damage power of the move
+     * @param accuracy Hit probability (between 0.0 and 1.0)
+     * @param description Text description of the move
+     * @param effect Status effect inflicted on a hit, or null for none
+     * @param chargeTurns The user's turns spent charging before the move lands, or 0 for an instant move
+     */
+    public Move(String name, int basePower, double accuracy, String description,
+                MoveEffect effect, int chargeTurns) {
+        if (chargeTurns < 0) {
+            throw new IllegalArgumentException("Charge turns cannot be negative: " + chargeTurns);
+        }
         this.name = name;
         this.basePower = basePower;
         this.accuracy = accuracy;
         this.description = description;
+        this.effect = effect;
+        this.chargeTurns = chargeTurns;
+    }
+
+    /**
+     * Creates a copy of this move with a different power and accuracy,
+     * keeping its effect and charging delay
+     * @param basePower New base power
+     * @param accuracy New hit probability
+     * @return Adjusted copy
+     */
+    public Move withStats(int basePower, double accuracy) {
+        return new Move(name, basePower, accuracy, description, effect, chargeTurns);
     }
 
     // ====== Battle Methods ======
 
     /**
      * Determines if the move successfully hits based on accuracy
+     * @param random Random source for the current battle
      * @return true if the move hits, false if it misses
      */
-    public boolean attemptHit() {
-        return Math.random() <= accuracy;
+    public boolean attemptHit(RandomGenerator random) {
+        return BattleRules.rollHit(accuracy, random);
     }
 
     // ====== Getter Methods ======
@@ -69,4 +108,18 @@ public class Move {
     public double getAccuracy() {
         return accuracy;
     }
+
+    /**
+     * @return Status effect inflicted on a hit, or null if the move has none
+     */
+    public MoveEffect getEffect() {
+        return effect;
+    }
+
+    /**
+     * @return The user's turns spent charging before the move lands, 0 for an instant move
+     */
+    public int getChargeTurns() {
+        return chargeTurns;
+    }
 }
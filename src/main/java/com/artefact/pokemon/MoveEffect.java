@@ -0,0 +1,18 @@
+package com.artefact.pokemon;
+
+/**
+ * MoveEffect is the status effect a move may inflict when it hits.
+ * @param status Effect inflicted on the defender
+ * @param potency HP lost per turn for burn, poison and leech; unused otherwise
+ * @param turns Number of the defender's turns the effect lasts
+ * @param chance Probability a hit inflicts the effect (0.0 to 1.0)
+ */
+public record MoveEffect(StatusEffect status, int potency, int turns, double chance) {
+
+    public MoveEffect {
+        if (status == null || potency < 0 || turns <= 0 || chance < 0.0 || chance > 1.0) {
+            throw new IllegalArgumentException("Invalid move effect: " + status + " " + potency + " "
+                    + turns + " " + chance);
+        }
+    }
+}
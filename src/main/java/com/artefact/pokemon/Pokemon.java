@@ -1,9 +1,18 @@
 package com.artefact.pokemon;
 
+import com.artefact.pokemon.battle.BattleRules;
+import com.artefact.pokemon.battle.render.HealthBars;
+import com.artefact.pokemon.types.PokemonType;
 import com.artefact.utils.Constants;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract base class representing a Pokemon.
@@ -14,12 +23,27 @@ public abstract class Pokemon {
 
     // ====== Class Fields ======
 
+    private static final MethodType CONSTRUCTOR_TYPE =
+            MethodType.methodType(void.class, String.class, int.class, int.class);
+    private static final MethodType FACTORY_TYPE =
+            MethodType.methodType(Pokemon.class, String.class, int.class, int.class);
+
+    // Factories bound on first use; ClassValue lets classes from other loaders be unloaded
+    private static final ClassValue<PokemonFactory> FACTORIES = new ClassValue<>() {
+        @Override
+        protected PokemonFactory computeValue(Class<?> type) {
+            return bindFactory(type.asSubclass(Pokemon.class));
+        }
+    };
+
     public String name;          // Pokemon's name
-    public String type;          // Pokemon's elemental type
+    public PokemonType type;           // Pokemon's primary elemental type
+    public PokemonType secondaryType;  // Secondary type, or null if single-typed
     public int health;           // Current health points
+    public int maxHealth;        // Health the Pokemon starts each battle with
     public int attackPower;      // Base attack damage
-    public int potions = 1;      // Available healing potions
-    public int healCount = 2;    // Available healing moves
+    public int potions = Constants.STARTING_POTIONS;      // Available healing potions
+    public int healCount = Constants.STARTING_HEAL_COUNT; // Available healing moves
     public List<Move> moves;     // List of battle moves
     public String description;   // Pokemon's description text
 
@@ -33,10 +57,11 @@ public abstract class Pokemon {
      * @param attackPower Base attack damage
      * @param description Pokemon's descriptive text
      */
-    protected Pokemon(String name, String type, int health, int attackPower, String description) {
+    protected Pokemon(String name, PokemonType type, int health, int attackPower, String description) {
         this.name = name;
         this.type = type;
         this.health = health;
+        this.maxHealth = health;
         this.attackPower = attackPower;
         this.description = description;
         this.moves = new ArrayList<>();
@@ -53,20 +78,91 @@ public abstract class Pokemon {
      * @param description Pokemon's descriptive text
      * @param pokemonClass Specific Pokemon type class
      * @return New Pokemon instance
+     * @throws IllegalArgumentException If the class has no accessible (String, int, int) constructor
      */
-    @SuppressWarnings("UseSpecificCatch")
-    public static Pokemon createPokemon(String name, String type, int health, int attackPower,
+    public static Pokemon createPokemon(String name, PokemonType type, int health, int attackPower,
                                         String description, Class<? extends Pokemon> pokemonClass) {
+        Pokemon pokemon = factoryFor(pokemonClass).create(name, health, attackPower);
+        pokemon.initialiseMoves();
+        return pokemon;
+    }
+
+    /**
+     * Returns the constructor-backed factory for a Pokemon class.
+     * The constructor is looked up once per class and compiled into a
+     * PokemonFactory implementation, so later calls cost the same as a direct new.
+     * @param pokemonClass Specific Pokemon type class
+     * @return Cached factory for that class
+     * @throws IllegalArgumentException If the class has no accessible (String, int, int) constructor
+     */
+    public static PokemonFactory factoryFor(Class<? extends Pokemon> pokemonClass) {
+        return FACTORIES.get(pokemonClass);
+    }
+
+    /**
+     * Binds a subclass constructor to a PokemonFactory.
+     * LambdaMetafactory produces a class that calls the constructor directly.
+     * The lambda is defined through a lookup in the subclass itself, so it
+     * lives in the subclass's class loader and can name the subclass even when
+     * Pokemon's loader cannot see it. If no such lookup is allowed and the
+     * subclass is not visible from Pokemon, or the constructor cannot be spun
+     * into a lambda, an exact method handle is used instead.
+     */
+    private static PokemonFactory bindFactory(Class<? extends Pokemon> pokemonClass) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(pokemonClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            lookup = MethodHandles.lookup();  // Package not open to us; bind from Pokemon instead
+        }
+
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(pokemonClass, CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(pokemonClass.getName()
+                    + " has no accessible (String, int, int) constructor", e);
+        }
+        if (lookup.lookupClass() != pokemonClass && !visibleFromPokemon(pokemonClass)) {
+            return exactFactory(pokemonClass, constructor);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "create",
+                    MethodType.methodType(PokemonFactory.class), FACTORY_TYPE, constructor, constructor.type());
+            return (PokemonFactory) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return exactFactory(pokemonClass, constructor);
+        }
+    }
+
+    /**
+     * @return true if Pokemon's class loader resolves the class's name to that same class
+     */
+    private static boolean visibleFromPokemon(Class<?> pokemonClass) {
         try {
-            Pokemon pokemon = pokemonClass.getDeclaredConstructor(String.class, int.class, int.class)
-                    .newInstance(name, health, attackPower);
-            pokemon.initialiseMoves();
-            return pokemon;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create Pokemon: " + e.getMessage());
+            return Class.forName(pokemonClass.getName(), false, Pokemon.class.getClassLoader()) == pokemonClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
         }
     }
 
+    /**
+     * Wraps a constructor handle as a factory, for classes a lambda cannot be spun for
+     */
+    private static PokemonFactory exactFactory(Class<? extends Pokemon> pokemonClass, MethodHandle constructor) {
+        MethodHandle exact = constructor.asType(FACTORY_TYPE);
+        return (name, health, attackPower) -> {
+            try {
+                return (Pokemon) exact.invokeExact(name, health, attackPower);
+            } catch (RuntimeException | Error failure) {
+                throw failure;
+            } catch (Throwable failure) {
+                throw new IllegalStateException("Failed to create " + pokemonClass.getSimpleName(), failure);
+            }
+        };
+    }
+
     /**
      * Initialises the Pokemon's move set
      * To be implemented by specific Pokemon types
@@ -82,14 +178,7 @@ public abstract class Pokemon {
      * @return String containing health bar and current/max health values
      */
     public String getHealthBar() {
-        int barLength = 20;
-        int filledBars = (int)((double)health / Constants.MAX_HEALTH * barLength);
-        StringBuilder healthBar = new StringBuilder("[");
-        for (int i = 0; i < barLength; i++) {
-            healthBar.append(i < filledBars ? "█" : "░");
-        }
-        healthBar.append("] ").append(health).append("/").append(Constants.MAX_HEALTH);
-        return healthBar.toString();
+        return HealthBars.render(health, maxHealth);
     }
 
     /**
@@ -114,33 +203,41 @@ public abstract class Pokemon {
      * Heals up to 30 HP without exceeding max health
      */
     public void heal() {
-        if (potions > 0) {
-            int healAmount = Constants.BASE_HEAL_AMOUNT;
-            if (health + healAmount > Constants.MAX_HEALTH) {
-                healAmount = Constants.MAX_HEALTH - health;
-            }
-            health += healAmount;
-            potions--;
+        int healAmount = usePotion();
+        if (healAmount >= 0) {
             System.out.println(name + " used a potion and recovered " + healAmount + " HP!");
         } else {
             System.out.println("No potions remaining!");
         }
     }
 
+    /**
+     * Uses a potion without printing anything
+     * @return Amount of HP recovered, or -1 if no potions remain
+     */
+    public int usePotion() {
+        if (potions <= 0) return -1;
+        int healAmount = BattleRules.cappedHeal(health, maxHealth, BattleRules.potionHealAmount());
+        health += healAmount;
+        potions--;
+        return healAmount;
+    }
+
     /**
      * Computer-controlled healing action
-     * Heals random amount between 10-30 HP without exceeding max health
+     * Heals random amount between 10-30 HP without exceeding max health.
+     * Reporting is left to the caller so headless battles stay silent.
+     * @param random Random source for the current battle
+     * @return Amount of HP recovered, or 0 if no heals remain
      */
-    public void computerHeal() {
+    public int computerHeal(RandomGenerator random) {
         if (healCount > 0) {
-            int healAmount = (int)(Math.random() * 21) + 10;
-            if (health + healAmount > Constants.MAX_HEALTH) {
-                healAmount = Constants.MAX_HEALTH - health;
-            }
+            int healAmount = BattleRules.cappedHeal(health, maxHealth, BattleRules.rollComputerHeal(random));
             health += healAmount;
             healCount--;
-            System.out.println(name + " used a heal and recovered " + healAmount + " HP!");
+            return healAmount;
         }
+        return 0;
     }
 
     // ====== Utility Methods ======
@@ -174,7 +271,14 @@ public abstract class Pokemon {
      */
     @Override
     public String toString() {
-        return name + " (" + type + " Type) - Health: " + health;
+        return name + " (" + getTypeLabel() + " Type) - Health: " + health;
+    }
+
+    /**
+     * @return Type name, with both types separated by a slash if dual-typed
+     */
+    public String getTypeLabel() {
+        return secondaryType == null ? type.toString() : type + "/" + secondaryType;
     }
 }
 
@@ -0,0 +1,19 @@
+package com.artefact.pokemon;
+
+/**
+ * PokemonFactory creates a Pokemon through a subclass's
+ * (String name, int health, int attackPower) constructor.
+ * Pokemon.factoryFor binds one per subclass, the first time it is requested.
+ */
+@FunctionalInterface
+public interface PokemonFactory {
+
+    /**
+     * Creates a new Pokemon without initialising its moves
+     * @param name Pokemon's name
+     * @param health Starting health points
+     * @param attackPower Base attack damage
+     * @return New Pokemon instance
+     */
+    Pokemon create(String name, int health, int attackPower);
+}
@@ -0,0 +1,149 @@
+package com.artefact.pokemon;
+
+import com.artefact.utils.Constants;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * PokemonPool keeps battle-ready Pokemon for reuse on a single thread.
+ * Instances are grouped by the factory that made them. The first Pokemon a
+ * factory makes records its starting health, potions and heals, and every
+ * instance handed out again has been restored to that state, so factories
+ * that customise them behave the same pooled or not. A factory should
+ * therefore make every Pokemon in the same state. Once a worker has warmed
+ * up, acquiring and releasing Pokemon allocates nothing.
+ *
+ * Only the most recently used factories keep idle Pokemon, so callers that
+ * pass a fresh lambda on every call cannot grow the pool without bound.
+ *
+ * A pool belongs to one thread, so it needs no locking. Use forThread() to get
+ * the calling thread's pool, and release Pokemon on the thread that acquired them.
+ */
+public final class PokemonPool {
+
+    // ====== Class Fields ======
+
+    private static final ThreadLocal<PokemonPool> POOLS = ThreadLocal.withInitial(
+            () -> new PokemonPool(Constants.POKEMON_POOL_SIZE, Constants.POKEMON_POOL_FACTORIES));
+
+    private final Map<Supplier<? extends Pokemon>, Stock> stocks;  // Least recently used first
+    private final int maxIdlePerSpecies;  // Extra releases beyond this are left to the garbage collector
+
+    /**
+     * Idle Pokemon made by one factory, and the state the factory made them in
+     */
+    private static final class Stock {
+        final ArrayDeque<Pokemon> idle = new ArrayDeque<>();
+        final int health;
+        final int potions;
+        final int healCount;
+
+        Stock(Pokemon made) {
+            this.health = made.health;
+            this.potions = made.potions;
+            this.healCount = made.healCount;
+        }
+    }
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a pool for a handful of factories; most callers should use forThread() instead
+     * @param maxIdlePerSpecies Most idle Pokemon kept for each factory
+     */
+    public PokemonPool(int maxIdlePerSpecies) {
+        this(maxIdlePerSpecies, Constants.POKEMON_POOL_FACTORIES);
+    }
+
+    /**
+     * Creates a pool; most callers should use forThread() instead
+     * @param maxIdlePerSpecies Most idle Pokemon kept for each factory
+     * @param maxFactories Most factories remembered; the least recently used is forgotten first
+     */
+    public PokemonPool(int maxIdlePerSpecies, int maxFactories) {
+        this.maxIdlePerSpecies = maxIdlePerSpecies;
+        this.stocks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Supplier<? extends Pokemon>, Stock> eldest) {
+                return size() > maxFactories;
+            }
+        };
+    }
+
+    /**
+     * @return Pool owned by the calling thread
+     */
+    public static PokemonPool forThread() {
+        return POOLS.get();
+    }
+
+    // ====== Pool Methods ======
+
+    /**
+     * Takes an idle Pokemon made by a factory, or creates one if none is idle
+     * @param factory Factory for the species; the same instance must be passed to reset and release
+     * @return Pokemon in the state the factory makes them in
+     */
+    public Pokemon acquire(Supplier<? extends Pokemon> factory) {
+        Stock known = stocks.get(factory);
+        Pokemon pokemon = known == null ? null : known.idle.pollLast();
+        if (pokemon != null) return pokemon;
+
+        pokemon = factory.get();
+        if (known == null) stocks.put(factory, new Stock(pokemon));
+        return pokemon;
+    }
+
+    /**
+     * Restores a Pokemon to the health, potions and heals its factory made it
+     * with, so it can fight another battle without being released
+     * @param factory Factory the Pokemon was acquired with
+     * @param pokemon Pokemon to restore
+     */
+    public void reset(Supplier<? extends Pokemon> factory, Pokemon pokemon) {
+        Stock known = stock(factory);
+        pokemon.health = known.health;
+        pokemon.potions = known.potions;
+        pokemon.healCount = known.healCount;
+    }
+
+    /**
+     * Restores a Pokemon and returns it to the pool
+     * @param factory Factory the Pokemon was acquired with
+     * @param pokemon Pokemon that is no longer in use
+     */
+    public void release(Supplier<? extends Pokemon> factory, Pokemon pokemon) {
+        Stock known = stock(factory);
+        if (known.idle.size() < maxIdlePerSpecies) {
+            reset(factory, pokemon);
+            known.idle.addLast(pokemon);
+        }
+    }
+
+    /**
+     * Finds a factory's stock, asking the factory for a fresh Pokemon to learn
+     * its starting state if the factory is new or has been forgotten
+     */
+    private Stock stock(Supplier<? extends Pokemon> factory) {
+        return stocks.computeIfAbsent(factory, key -> new Stock(key.get()));
+    }
+
+    /**
+     * @param factory Factory to count idle Pokemon for
+     * @return Number of idle Pokemon held for that factory
+     */
+    public int idleCount(Supplier<? extends Pokemon> factory) {
+        Stock known = stocks.get(factory);
+        return known == null ? 0 : known.idle.size();
+    }
+
+    /**
+     * @return Number of factories the pool currently remembers
+     */
+    public int factoryCount() {
+        return stocks.size();
+    }
+}
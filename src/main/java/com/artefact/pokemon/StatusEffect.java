@@ -0,0 +1,65 @@
+package com.artefact.pokemon;
+
+/**
+ * StatusEffect enumerates the lasting conditions a move can inflict.
+ * Ordinals are written to the species cache, so new effects must be added at the end.
+ */
+public enum StatusEffect {
+    BURN("burn"),             // Loses HP every turn and deals reduced damage
+    POISON("poison"),         // Loses HP every turn
+    SLEEP("sleep"),           // Cannot act
+    PARALYSIS("paralysis"),   // May be unable to act each turn
+    LEECH("leech");           // Loses HP every turn to the Pokemon that seeded it
+
+    // ====== Class Fields ======
+
+    private static final StatusEffect[] VALUES = values();  // Cached to avoid cloning on lookup
+
+    private final String displayName;  // Name used in the species data file
+
+    // ====== Constructor ======
+
+    StatusEffect(String displayName) {
+        this.displayName = displayName;
+    }
+
+    // ====== Lookup Methods ======
+
+    /**
+     * Resolves an effect from its display name, ignoring case
+     * @param name Effect name such as "burn"
+     * @return Matching StatusEffect
+     * @throws IllegalArgumentException if no effect has that name
+     */
+    public static StatusEffect fromName(String name) {
+        for (StatusEffect effect : VALUES) {
+            if (effect.displayName.equalsIgnoreCase(name.trim())) {
+                return effect;
+            }
+        }
+        throw new IllegalArgumentException("Unknown status effect: " + name);
+    }
+
+    /**
+     * Resolves an effect from its ordinal
+     * @param ordinal Index of the effect in declaration order
+     * @return Matching StatusEffect
+     */
+    public static StatusEffect fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @return Number of status effects
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * @return Name used in the species data file
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
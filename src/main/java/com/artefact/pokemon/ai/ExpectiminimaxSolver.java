@@ -0,0 +1,227 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleRules;
+import com.artefact.utils.Constants;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * ExpectiminimaxSolver computes exact optimal play for a 1v1 battle.
+ * The computer maximises and the player minimises the computer's win
+ * probability, with chance nodes for move accuracy and the computer heal roll.
+ *
+ * A miss leaves both health values unchanged, so a position where the computer
+ * is to move and the same position with the player to move can lead back to
+ * each other. Each such pair is solved together by fixed-point iteration.
+ * Every other transition lowers a health total or uses up a heal or potion,
+ * so recursion always terminates. Solved values are memoised in a
+ * PackedStateTable keyed by the packed state. Once a matchup has been explored,
+ * queries are a single table lookup.
+ */
+public class ExpectiminimaxSolver implements OpponentStrategy {
+
+    // ====== Class Fields ======
+
+    private static final int MAX_ITERATIONS = 200;  // Fixed-point iterations per state pair
+    private static final double EPSILON = 1e-12;     // Convergence tolerance for win probabilities
+
+    private static final int HEALTH_BITS = 8;
+    private static final int COUNT_BITS = 4;
+    private static final int HEALTH_LIMIT = (1 << HEALTH_BITS) - 1;
+    private static final int COUNT_LIMIT = (1 << COUNT_BITS) - 1;
+
+    private final PackedStateTable table = new PackedStateTable();
+    private Matchup matchup;  // Matchup the table was solved for
+
+    /**
+     * Result of evaluating a position
+     * @param action Best move index for the side to move, or HEAL for a heal or potion
+     * @param winProbability Probability the computer wins under optimal play by both sides
+     */
+    public record Evaluation(int action, double winProbability) {
+    }
+
+    // ====== Strategy Methods ======
+
+    /**
+     * Plays the action that maximises the computer's win probability
+     */
+    @Override
+    public int chooseAction(Pokemon computer, Pokemon player, RandomGenerator random) {
+        return evaluate(computer, player, true).action();
+    }
+
+    // ====== Analysis Methods ======
+
+    /**
+     * Evaluates a position with the computer to move
+     * @param computer Computer-controlled Pokemon
+     * @param player Player-controlled Pokemon
+     * @return Best computer action and its win probability
+     */
+    public Evaluation evaluate(Pokemon computer, Pokemon player) {
+        return evaluate(computer, player, true);
+    }
+
+    /**
+     * Evaluates a position with either side to move
+     * @param computer Computer-controlled Pokemon
+     * @param player Player-controlled Pokemon
+     * @param computerToMove true if it is the computer's turn
+     * @return Best action for the side to move and the computer's win probability
+     */
+    public synchronized Evaluation evaluate(Pokemon computer, Pokemon player, boolean computerToMove) {
+        Matchup current = Matchup.of(computer, player);
+        if (!current.equals(matchup)) {
+            matchup = current;
+            table.clear();
+        }
+
+        int ch = computer.health, cp = computer.potions, chl = computer.healCount;
+        int ph = player.health, pp = player.potions, phl = player.healCount;
+        if (ph <= 0) return new Evaluation(0, 1.0);
+        if (ch <= 0) return new Evaluation(0, 0.0);
+
+        long key = pack(ch, cp, chl, ph, pp, phl, computerToMove);
+        int slot = table.find(key);
+        if (slot < 0) {
+            solvePair(ch, cp, chl, ph, pp, phl);
+            slot = table.find(key);
+        }
+
+        int moveCount = computerToMove ? matchup.computerMoveCount() : matchup.playerMoveCount();
+        int action = table.action(slot);
+        return new Evaluation(action == moveCount ? HEAL : action, table.value(slot));
+    }
+
+    /**
+     * @return Number of positions solved so far for the current matchup
+     */
+    public synchronized int solvedStates() {
+        return table.size();
+    }
+
+    // ====== State Packing ======
+
+    /**
+     * Packs a battle position into a single long.
+     * Layout from the low bits: computer health, player health (8 bits each),
+     * then computer potions, computer heals, player potions, player heals
+     * (4 bits each), then one bit for the side to move.
+     */
+    static long pack(int ch, int cp, int chl, int ph, int pp, int phl, boolean computerToMove) {
+        if (ch > HEALTH_LIMIT || ph > HEALTH_LIMIT || cp > COUNT_LIMIT || chl > COUNT_LIMIT
+                || pp > COUNT_LIMIT || phl > COUNT_LIMIT || cp < 0 || chl < 0 || pp < 0 || phl < 0) {
+            throw new IllegalArgumentException("Battle state is outside the solver's packed range");
+        }
+        return ch
+                | (long) ph << 8
+                | (long) cp << 16
+                | (long) chl << 20
+                | (long) pp << 24
+                | (long) phl << 28
+                | (computerToMove ? 1L << 32 : 0L);
+    }
+
+    // ====== Solver Methods ======
+
+    /**
+     * Returns the computer's win probability for a position, solving it if needed
+     */
+    private double value(int ch, int cp, int chl, int ph, int pp, int phl, boolean computerToMove) {
+        if (ph <= 0) return 1.0;
+        if (ch <= 0) return 0.0;
+
+        long key = pack(ch, cp, chl, ph, pp, phl, computerToMove);
+        int slot = table.find(key);
+        if (slot < 0) {
+            solvePair(ch, cp, chl, ph, pp, phl);
+            slot = table.find(key);
+        }
+        return table.value(slot);
+    }
+
+    /**
+     * Solves both the computer-to-move and player-to-move versions of a position.
+     * Each action's value is a fixed part from positions that make progress,
+     * plus a miss coefficient times the value of the same position with the
+     * other side to move.
+     */
+    private void solvePair(int ch, int cp, int chl, int ph, int pp, int phl) {
+        int computerMoves = matchup.computerMoveCount();
+        double[] computerFixed = new double[computerMoves + 1];
+        double[] computerMiss = new double[computerMoves + 1];
+        for (int i = 0; i < computerMoves; i++) {
+            int damage = matchup.computerDamage[i];
+            double hit = damage > 0 ? matchup.computerAccuracy[i] : 0.0;
+            computerFixed[i] = hit == 0.0 ? 0.0 : hit * value(ch, cp, chl, ph - damage, pp, phl, false);
+            computerMiss[i] = 1.0 - hit;
+        }
+        boolean computerCanHeal = chl > 0;
+        if (computerCanHeal) {
+            int outcomes = Constants.MAX_COMPUTER_HEAL - Constants.MIN_COMPUTER_HEAL + 1;
+            double total = 0.0;
+            for (int roll = Constants.MIN_COMPUTER_HEAL; roll <= Constants.MAX_COMPUTER_HEAL; roll++) {
+                int healed = ch + BattleRules.cappedHeal(ch, matchup.computerMaxHealth, roll);
+                total += value(healed, cp, chl - 1, ph, pp, phl, false);
+            }
+            computerFixed[computerMoves] = total / outcomes;
+        }
+
+        int playerMoves = matchup.playerMoveCount();
+        double[] playerFixed = new double[playerMoves + 1];
+        double[] playerMiss = new double[playerMoves + 1];
+        for (int j = 0; j < playerMoves; j++) {
+            int damage = matchup.playerDamage[j];
+            double hit = damage > 0 ? matchup.playerAccuracy[j] : 0.0;
+            playerFixed[j] = hit == 0.0 ? 0.0 : hit * value(ch - damage, cp, chl, ph, pp, phl, true);
+            playerMiss[j] = 1.0 - hit;
+        }
+        boolean playerCanHeal = pp > 0;
+        if (playerCanHeal) {
+            int healed = ph + BattleRules.cappedHeal(ph, matchup.playerMaxHealth, BattleRules.potionHealAmount());
+            playerFixed[playerMoves] = value(ch, cp, chl, healed, pp - 1, phl, true);
+        }
+
+        // Iterate the pair to its fixed point; each round shrinks the error by the miss chances
+        double computerValue = 0.5;
+        double playerValue = 0.5;
+        int computerAction = 0;
+        int playerAction = 0;
+        for (int round = 0; round < MAX_ITERATIONS; round++) {
+            double nextComputer = Double.NEGATIVE_INFINITY;
+            for (int a = 0; a <= computerMoves; a++) {
+                if (a == computerMoves && !computerCanHeal) continue;
+                double candidate = computerFixed[a] + computerMiss[a] * playerValue;
+                if (candidate > nextComputer) {
+                    nextComputer = candidate;
+                    computerAction = a;
+                }
+            }
+
+            if (nextComputer == Double.NEGATIVE_INFINITY) nextComputer = playerValue;  // No legal action: pass
+
+            double nextPlayer = Double.POSITIVE_INFINITY;
+            for (int a = 0; a <= playerMoves; a++) {
+                if (a == playerMoves && !playerCanHeal) continue;
+                double candidate = playerFixed[a] + playerMiss[a] * nextComputer;
+                if (candidate < nextPlayer) {
+                    nextPlayer = candidate;
+                    playerAction = a;
+                }
+            }
+
+            if (nextPlayer == Double.POSITIVE_INFINITY) nextPlayer = nextComputer;
+
+            boolean converged = Math.abs(nextComputer - computerValue) < EPSILON
+                    && Math.abs(nextPlayer - playerValue) < EPSILON;
+            computerValue = nextComputer;
+            playerValue = nextPlayer;
+            if (converged) break;
+        }
+
+        table.put(pack(ch, cp, chl, ph, pp, phl, true), computerValue, computerAction);
+        table.put(pack(ch, cp, chl, ph, pp, phl, false), playerValue, playerAction);
+    }
+}
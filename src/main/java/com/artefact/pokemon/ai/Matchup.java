@@ -0,0 +1,128 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleRules;
+import com.artefact.pokemon.types.TypeChart;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Matchup precomputes everything a search needs to know about two Pokemon:
+ * the damage each move deals after type effectiveness, its accuracy and the
+ * health each side can heal up to.
+ * Values come from BattleRules and the TypeChart, so searches play by
+ * exactly the same rules as real battles. Status effects and charging are
+ * not modelled, so searches treat every move as landing on the turn it is used.
+ */
+public final class Matchup {
+
+    // ====== Class Fields ======
+
+    final int[] computerDamage;       // Damage per computer move on a hit
+    final double[] computerAccuracy;  // Hit chance per computer move
+    final int[] playerDamage;         // Damage per player move on a hit
+    final double[] playerAccuracy;    // Hit chance per player move
+    final int computerMaxHealth;      // Most health the computer can heal up to
+    final int playerMaxHealth;        // Most health the player can heal up to
+
+    // ====== Constructor ======
+
+    private Matchup(int[] computerDamage, double[] computerAccuracy, int[] playerDamage, double[] playerAccuracy,
+                    int computerMaxHealth, int playerMaxHealth) {
+        this.computerDamage = computerDamage;
+        this.computerAccuracy = computerAccuracy;
+        this.playerDamage = playerDamage;
+        this.playerAccuracy = playerAccuracy;
+        this.computerMaxHealth = computerMaxHealth;
+        this.playerMaxHealth = playerMaxHealth;
+    }
+
+    // ====== Factory Methods ======
+
+    /**
+     * Builds a matchup using the standard type chart
+     * @param computer Pokemon controlled by the search
+     * @param player Pokemon it is battling against
+     * @return Precomputed matchup
+     */
+    public static Matchup of(Pokemon computer, Pokemon player) {
+        return of(computer, player, TypeChart.STANDARD);
+    }
+
+    /**
+     * Builds a matchup using a specific type chart
+     * @param computer Pokemon controlled by the search
+     * @param player Pokemon it is battling against
+     * @param chart Type chart to apply
+     * @return Precomputed matchup
+     */
+    public static Matchup of(Pokemon computer, Pokemon player, TypeChart chart) {
+        double computerMultiplier = chart.multiplier(computer, player);
+        double playerMultiplier = chart.multiplier(player, computer);
+        return new Matchup(
+                damageTable(computer.moves, computerMultiplier), accuracyTable(computer.moves),
+                damageTable(player.moves, playerMultiplier), accuracyTable(player.moves),
+                computer.maxHealth, player.maxHealth);
+    }
+
+    private static int[] damageTable(List<Move> moves, double multiplier) {
+        int[] damage = new int[moves.size()];
+        for (int i = 0; i < damage.length; i++) {
+            damage[i] = BattleRules.damage(moves.get(i).getBasePower(), multiplier);
+        }
+        return damage;
+    }
+
+    private static double[] accuracyTable(List<Move> moves) {
+        double[] accuracy = new double[moves.size()];
+        for (int i = 0; i < accuracy.length; i++) {
+            accuracy[i] = moves.get(i).getAccuracy();
+        }
+        return accuracy;
+    }
+
+    // ====== Getter Methods ======
+
+    /**
+     * @return Number of moves available to the computer
+     */
+    public int computerMoveCount() {
+        return computerDamage.length;
+    }
+
+    /**
+     * @return Number of moves available to the player
+     */
+    public int playerMoveCount() {
+        return playerDamage.length;
+    }
+
+    // ====== Utility Methods ======
+
+    /**
+     * Two matchups are equal when every damage, accuracy and maximum health matches,
+     * meaning any search over one is valid for the other
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Matchup that)) return false;
+        return Arrays.equals(computerDamage, that.computerDamage)
+                && Arrays.equals(computerAccuracy, that.computerAccuracy)
+                && Arrays.equals(playerDamage, that.playerDamage)
+                && Arrays.equals(playerAccuracy, that.playerAccuracy)
+                && computerMaxHealth == that.computerMaxHealth
+                && playerMaxHealth == that.playerMaxHealth;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(computerDamage);
+        result = 31 * result + Arrays.hashCode(computerAccuracy);
+        result = 31 * result + Arrays.hashCode(playerDamage);
+        result = 31 * result + Arrays.hashCode(playerAccuracy);
+        return 31 * (31 * result + computerMaxHealth) + playerMaxHealth;
+    }
+}
@@ -0,0 +1,247 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * MctsOpponentStrategy picks moves with Monte Carlo tree search.
+ * Each turn it runs one independent search per worker thread until the
+ * time budget expires, then plays the root action visited most often across
+ * all workers. Given a fixed number of iterations per worker instead, its
+ * choices depend only on the random source.
+ *
+ * Because outcomes are random, the tree is open-loop: nodes are reached by
+ * action sequence and hit/miss and heal rolls are re-sampled on every pass.
+ * Rollouts use the default opponent policy for both sides.
+ */
+public class MctsOpponentStrategy implements OpponentStrategy {
+
+    // ====== Class Fields ======
+
+    private static final double EXPLORATION = Math.sqrt(2);  // UCB1 exploration constant
+    private static final int ROLLOUT_TURN_LIMIT = 1_000;     // Safety cap on rollout length
+
+    private final long budgetNanos;   // Thinking time per turn, or 0 when searching by iterations
+    private final int iterations;     // Iterations per worker per turn, or 0 when searching by time
+    private final int workers;        // Independent searches run in parallel
+    private final ForkJoinPool pool;  // Pool the extra searches run on
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a strategy that searches on every available core
+     * @param budgetMillis Thinking time per turn in milliseconds
+     */
+    public MctsOpponentStrategy(long budgetMillis) {
+        this(budgetMillis, Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a strategy with an explicit worker count and pool
+     * @param budgetMillis Thinking time per turn in milliseconds
+     * @param workers Number of parallel searches, including the calling thread
+     * @param pool Pool used for all searches except the calling thread's
+     */
+    public MctsOpponentStrategy(long budgetMillis, int workers, ForkJoinPool pool) {
+        this(TimeUnit.MILLISECONDS.toNanos(budgetMillis), 0, workers, pool);
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+    }
+
+    private MctsOpponentStrategy(long budgetNanos, int iterations, int workers, ForkJoinPool pool) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        this.budgetNanos = budgetNanos;
+        this.iterations = iterations;
+        this.workers = workers;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a strategy that runs a fixed number of search iterations each
+     * turn instead of searching for a fixed time, so the same random source
+     * always gives the same action however fast the machine is
+     * @param iterations Iterations each worker runs per turn
+     * @param workers Number of parallel searches, including the calling thread
+     * @param pool Pool used for all searches except the calling thread's
+     * @return New strategy
+     */
+    public static MctsOpponentStrategy withIterations(int iterations, int workers, ForkJoinPool pool) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iteration count must be positive");
+        }
+        return new MctsOpponentStrategy(0, iterations, workers, pool);
+    }
+
+    // ====== Strategy Methods ======
+
+    /**
+     * Searches until the budget is spent and returns the most visited action
+     */
+    @Override
+    public int chooseAction(Pokemon computer, Pokemon player, RandomGenerator random) {
+        if (computer.moves.isEmpty()) return 0;
+
+        Matchup matchup = Matchup.of(computer, player);
+        SearchState root = new SearchState();
+        root.load(computer, player);
+        long deadline = System.nanoTime() + budgetNanos;
+
+        List<CompletableFuture<long[]>> helpers = new ArrayList<>();
+        for (int i = 1; i < workers; i++) {
+            SplittableRandom workerRandom = new SplittableRandom(random.nextLong());
+            helpers.add(CompletableFuture.supplyAsync(
+                    () -> search(matchup, root, deadline, iterations, workerRandom), pool));
+        }
+        long[] visits = search(matchup, root, deadline, iterations, new SplittableRandom(random.nextLong()));
+        for (CompletableFuture<long[]> helper : helpers) {
+            long[] helperVisits = helper.join();
+            for (int a = 0; a < visits.length; a++) {
+                visits[a] += helperVisits[a];
+            }
+        }
+
+        int best = 0;
+        for (int a = 1; a < visits.length; a++) {
+            if (visits[a] > visits[best]) best = a;
+        }
+        return best == matchup.computerMoveCount() ? HEAL : best;
+    }
+
+    // ====== Search Methods ======
+
+    /**
+     * A node in the open-loop search tree.
+     * Children are indexed by action, with the heal slot one past the last move.
+     */
+    private static final class Node {
+        final Node[] children;
+        long visits;
+        double computerWins;
+
+        Node(int actionCount) {
+            this.children = new Node[actionCount];
+        }
+    }
+
+    /**
+     * Runs a single-threaded search until the deadline, or for a fixed number
+     * of iterations if one is given
+     * @return Visit count of each root action
+     */
+    private static long[] search(Matchup matchup, SearchState root, long deadline, int iterations,
+                                 SplittableRandom random) {
+        int computerActions = matchup.computerMoveCount() + 1;
+        int playerActions = matchup.playerMoveCount() + 1;
+        Node rootNode = new Node(computerActions);
+        SearchState state = new SearchState();
+        List<Node> path = new ArrayList<>();
+        int completed = 0;
+
+        do {
+            state.copyFrom(root);
+            path.clear();
+            path.add(rootNode);
+
+            Node node = rootNode;
+            boolean computerTurn = true;
+            double result;
+
+            while (true) {
+                int action = select(node, state, computerTurn);
+                Node child = node.children[action];
+                boolean expanded = child == null;
+                if (expanded) {
+                    child = new Node(computerTurn ? playerActions : computerActions);
+                    node.children[action] = child;
+                }
+
+                if (computerTurn) {
+                    state.applyComputer(matchup, action, random);
+                } else {
+                    state.applyPlayer(matchup, action, random);
+                }
+                path.add(child);
+                computerTurn = !computerTurn;
+
+                if (state.isTerminal()) {
+                    result = state.playerHealth <= 0 ? 1.0 : 0.0;
+                    break;
+                }
+                if (expanded) {
+                    result = rollout(matchup, state, computerTurn, random);
+                    break;
+                }
+                node = child;
+            }
+
+            for (Node visited : path) {
+                visited.visits++;
+                visited.computerWins += result;
+            }
+            completed++;
+        } while (iterations > 0 ? completed < iterations : System.nanoTime() < deadline);
+
+        long[] visits = new long[computerActions];
+        for (int a = 0; a < computerActions; a++) {
+            Node child = rootNode.children[a];
+            visits[a] = child == null ? 0 : child.visits;
+        }
+        return visits;
+    }
+
+    /**
+     * Picks the next action at a node: any untried legal action first,
+     * then the best by UCB1 from the perspective of the side to move
+     */
+    private static int select(Node node, SearchState state, boolean computerTurn) {
+        int healSlot = node.children.length - 1;
+        boolean canHeal = computerTurn ? state.canComputerHeal() : state.canPlayerHeal();
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(Math.max(1, node.visits));
+
+        for (int a = 0; a < node.children.length; a++) {
+            if (a == healSlot && !canHeal) continue;
+            Node child = node.children[a];
+            if (child == null || child.visits == 0) return a;
+
+            double winRate = child.computerWins / child.visits;
+            double exploit = computerTurn ? winRate : 1.0 - winRate;
+            double score = exploit + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays the battle out with the default policy for both sides
+     * @return 1.0 if the computer wins, 0.0 if it loses
+     */
+    private static double rollout(Matchup matchup, SearchState state, boolean computerTurn, RandomGenerator random) {
+        for (int turn = 0; turn < ROLLOUT_TURN_LIMIT; turn++) {
+            if (computerTurn) {
+                state.applyComputer(matchup, state.defaultComputerAction(matchup, random), random);
+            } else {
+                state.applyPlayer(matchup, state.defaultPlayerAction(matchup, random), random);
+            }
+            if (state.isTerminal()) {
+                return state.playerHealth <= 0 ? 1.0 : 0.0;
+            }
+            computerTurn = !computerTurn;
+        }
+        return 0.5;
+    }
+}
@@ -0,0 +1,27 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * OpponentStrategy decides what the computer-controlled Pokemon does each turn.
+ * Implementations return either the index of a move in the computer's move list
+ * or HEAL to use one of its heals.
+ */
+public interface OpponentStrategy {
+
+    /**
+     * Action value meaning the computer heals instead of attacking
+     */
+    int HEAL = -1;
+
+    /**
+     * Chooses the computer's action for this turn
+     * @param computer Pokemon controlled by this strategy
+     * @param player Pokemon it is battling against
+     * @param random Random source for the current battle
+     * @return Index into computer.moves, or HEAL
+     */
+    int chooseAction(Pokemon computer, Pokemon player, RandomGenerator random);
+}
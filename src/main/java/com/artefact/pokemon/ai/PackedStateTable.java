@@ -0,0 +1,119 @@
+package com.artefact.pokemon.ai;
+
+import java.util.Arrays;
+
+/**
+ * PackedStateTable is an open-addressing hash table from packed battle states
+ * to solved values. Keys, values and best actions live in parallel primitive
+ * arrays, so lookups never allocate or box.
+ */
+final class PackedStateTable {
+
+    // ====== Class Fields ======
+
+    private static final long OCCUPIED = 1L << 63;  // Marks a used slot; packed states never set this bit
+    private static final int DEFAULT_CAPACITY = 1 << 12;
+
+    private long[] keys;
+    private double[] values;
+    private byte[] actions;
+    private int mask;
+    private int size;
+
+    // ====== Constructor ======
+
+    PackedStateTable() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    // ====== Table Operations ======
+
+    /**
+     * Finds the slot holding a key
+     * @param key Packed state
+     * @return Slot index, or -1 if the key is absent
+     */
+    int find(long key) {
+        long stored = key | OCCUPIED;
+        int slot = slotFor(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == stored) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return Value stored in a slot returned by find
+     */
+    double value(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * @return Best action stored in a slot returned by find
+     */
+    int action(int slot) {
+        return actions[slot];
+    }
+
+    /**
+     * Inserts or replaces the value and best action for a key
+     */
+    void put(long key, double value, int action) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        long stored = key | OCCUPIED;
+        int slot = slotFor(key);
+        while (keys[slot] != 0 && keys[slot] != stored) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) size++;
+        keys[slot] = stored;
+        values[slot] = value;
+        actions[slot] = (byte) action;
+    }
+
+    /**
+     * @return Number of states stored
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes every entry while keeping the current capacity
+     */
+    void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    // ====== Internal Methods ======
+
+    private int slotFor(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new double[capacity];
+        actions = new byte[capacity];
+        mask = capacity - 1;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        byte[] oldActions = actions;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i] & ~OCCUPIED, oldValues[i], oldActions[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.TypeChart;
+import com.artefact.utils.Constants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * QLearningPolicy is an opponent that plays from a table of learned action
+ * values instead of searching. A battle position is reduced to a handful of
+ * buckets: both sides' health in tenths, the computer's heals left, the
+ * player's potions and heals left, and whether the type matchup favours the
+ * computer. Each bucket combination is one row of a float[] table holding a
+ * value per action, so a decision is an index calculation and a scan of five
+ * floats, with no random draws.
+ *
+ * Actions are HEAL or a move rank, where rank 0 is the most accurate move.
+ * Ranking by accuracy rather than list position lets one table serve every
+ * species, since each moveset trades power against accuracy.
+ * Tables are filled in by SelfPlayTrainer.
+ */
+public final class QLearningPolicy implements OpponentStrategy {
+
+    // ====== State Layout ======
+
+    static final int HEALTH_BUCKETS = 11;    // 0 to 10 tenths of maximum health
+    static final int HEAL_BUCKETS = 3;       // Computer heals left, capped at 2
+    static final int RECOVERY_BUCKETS = 4;   // Player potions plus heals left, capped at 3
+    static final int MATCHUP_BUCKETS = 3;    // Disadvantaged, even or advantaged
+    static final int MOVE_RANKS = 4;         // Moves beyond the fourth most accurate are never chosen
+    static final int ACTIONS = 1 + MOVE_RANKS;
+    static final int HEAL_ACTION = 0;
+    static final int STATES = HEALTH_BUCKETS * HEALTH_BUCKETS * HEAL_BUCKETS * RECOVERY_BUCKETS * MATCHUP_BUCKETS;
+
+    private static final int MAGIC = 0x51504C31;  // "QPL1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+
+    // ====== Class Fields ======
+
+    final float[] values;  // Value of each action in each state, indexed state * ACTIONS + action
+    long episodes;         // Self-play battles the values were learned from
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a policy with every action valued at zero
+     */
+    QLearningPolicy() {
+        this(new float[STATES * ACTIONS], 0);
+    }
+
+    private QLearningPolicy(float[] values, long episodes) {
+        this.values = values;
+        this.episodes = episodes;
+    }
+
+    /**
+     * @return Independent copy of this policy's table
+     */
+    QLearningPolicy copy() {
+        return new QLearningPolicy(values.clone(), episodes);
+    }
+
+    /**
+     * Loads the policy saved by the trainer once per process
+     * @return Trained policy, or null if none has been trained or the file is unreadable
+     */
+    public static QLearningPolicy standard() {
+        return Holder.POLICY;
+    }
+
+    private static final class Holder {
+        static final QLearningPolicy POLICY = loadStandard();
+
+        private static QLearningPolicy loadStandard() {
+            Path file = Paths.get(Constants.OUTPUT_DIR, Constants.POLICY_FILE);
+            if (!Files.isRegularFile(file)) return null;
+            try {
+                return read(file);
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable opponent policy: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    // ====== Strategy Methods ======
+
+    /**
+     * Plays the highest valued action for the current position
+     */
+    @Override
+    public int chooseAction(Pokemon computer, Pokemon player, RandomGenerator random) {
+        return toAction(bestAction(state(computer, player), computer), computer);
+    }
+
+    /**
+     * Reduces a battle position to its row in the table
+     * @param self Pokemon choosing an action
+     * @param other Pokemon it is battling against
+     * @return State index between 0 and STATES - 1
+     */
+    static int state(Pokemon self, Pokemon other) {
+        int state = healthBucket(self);
+        state = state * HEALTH_BUCKETS + healthBucket(other);
+        state = state * HEAL_BUCKETS + Math.min(HEAL_BUCKETS - 1, Math.max(0, self.healCount));
+        state = state * RECOVERY_BUCKETS
+                + Math.min(RECOVERY_BUCKETS - 1, Math.max(0, other.potions) + Math.max(0, other.healCount));
+        return state * MATCHUP_BUCKETS + matchupBucket(self, other);
+    }
+
+    private static int healthBucket(Pokemon pokemon) {
+        int health = Math.max(0, Math.min(pokemon.health, pokemon.maxHealth));
+        int max = Math.max(1, pokemon.maxHealth);
+        return (health * (HEALTH_BUCKETS - 1) + max - 1) / max;  // Rounds up, so any health left is at least 1
+    }
+
+    private static int matchupBucket(Pokemon self, Pokemon other) {
+        double dealt = TypeChart.STANDARD.multiplier(self.type, other.type, other.secondaryType);
+        double taken = TypeChart.STANDARD.multiplier(other.type, self.type, self.secondaryType);
+        return dealt > taken ? 2 : dealt < taken ? 0 : 1;
+    }
+
+    /**
+     * @param action Action index
+     * @param self Pokemon that would take it
+     * @return true if the Pokemon can take the action
+     */
+    static boolean isValid(int action, Pokemon self) {
+        return action == HEAL_ACTION ? self.healCount > 0 : action - 1 < self.moves.size();
+    }
+
+    /**
+     * Finds the highest valued valid action, preferring the lowest index on ties
+     * @param state State index
+     * @param self Pokemon choosing the action
+     * @return Action index
+     */
+    int bestAction(int state, Pokemon self) {
+        int row = state * ACTIONS;
+        int best = 1;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (int action = 0; action < ACTIONS; action++) {
+            if (isValid(action, self) && values[row + action] > bestValue) {
+                best = action;
+                bestValue = values[row + action];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param state State index
+     * @param self Pokemon choosing the action
+     * @return Value of the best valid action
+     */
+    float bestValue(int state, Pokemon self) {
+        return values[state * ACTIONS + bestAction(state, self)];
+    }
+
+    /**
+     * Translates a table action into the value handleComputerTurn expects
+     * @param action Action index
+     * @param self Pokemon taking the action
+     * @return HEAL, or the index of the move with that accuracy rank
+     */
+    static int toAction(int action, Pokemon self) {
+        return action == HEAL_ACTION ? HEAL : moveWithRank(self.moves, action - 1);
+    }
+
+    /**
+     * Finds the move at a rank when moves are ordered by accuracy, then power,
+     * then list position. Movesets are tiny, so counting beats sorting.
+     */
+    private static int moveWithRank(List<Move> moves, int rank) {
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            int ahead = 0;
+            for (int j = 0; j < moves.size(); j++) {
+                Move other = moves.get(j);
+                if (other.getAccuracy() > move.getAccuracy()
+                        || other.getAccuracy() == move.getAccuracy()
+                        && (other.getBasePower() > move.getBasePower()
+                        || other.getBasePower() == move.getBasePower() && j < i)) {
+                    ahead++;
+                }
+            }
+            if (ahead == rank) return i;
+        }
+        return 0;
+    }
+
+    // ====== Accessor Methods ======
+
+    /**
+     * @return Self-play battles the policy was trained on
+     */
+    public long getEpisodes() {
+        return episodes;
+    }
+
+    // ====== File Methods ======
+
+    /**
+     * Writes the policy as a header followed by the value table.
+     * The data goes to a temporary file first, so readers never load a partial policy.
+     * @param file File to create or replace
+     * @throws IOException If the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + values.length * Float.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(episodes)
+                .putInt(HEALTH_BUCKETS).putInt(HEAL_BUCKETS).putInt(RECOVERY_BUCKETS)
+                .putInt(MATCHUP_BUCKETS).putInt(ACTIONS).putInt(STATES);
+        buffer.asFloatBuffer().put(values);
+        buffer.clear();
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a policy written by write
+     * @param file Policy file
+     * @return Loaded policy
+     * @throws IOException If the file cannot be read, is not a policy or uses a different state layout
+     */
+    public static QLearningPolicy read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not an opponent policy: " + file);
+        }
+        long episodes = buffer.getLong();
+        if (buffer.getInt() != HEALTH_BUCKETS || buffer.getInt() != HEAL_BUCKETS
+                || buffer.getInt() != RECOVERY_BUCKETS || buffer.getInt() != MATCHUP_BUCKETS
+                || buffer.getInt() != ACTIONS || buffer.getInt() != STATES) {
+            throw new IOException("Opponent policy was trained for a different state layout");
+        }
+        if (buffer.remaining() != STATES * ACTIONS * Float.BYTES) {
+            throw new IOException("Opponent policy is truncated");
+        }
+        float[] values = new float[STATES * ACTIONS];
+        buffer.asFloatBuffer().get(values);
+        return new QLearningPolicy(values, episodes);
+    }
+}
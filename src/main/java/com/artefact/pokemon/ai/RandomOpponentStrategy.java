@@ -0,0 +1,25 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleRules;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * RandomOpponentStrategy is the default computer opponent.
+ * It usually heals when its health is low and otherwise picks a random move.
+ */
+public class RandomOpponentStrategy implements OpponentStrategy {
+
+    /**
+     * Heals with the configured chance when below the heal threshold,
+     * otherwise attacks with a uniformly random move
+     */
+    @Override
+    public int chooseAction(Pokemon computer, Pokemon player, RandomGenerator random) {
+        if (BattleRules.wantsComputerHeal(computer.health, computer.healCount, random)) {
+            return HEAL;
+        }
+        return computer.moves.isEmpty() ? 0 : random.nextInt(computer.moves.size());
+    }
+}
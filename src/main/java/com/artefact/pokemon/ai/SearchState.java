@@ -0,0 +1,105 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleRules;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * SearchState is a mutable, allocation-free copy of the parts of a battle
+ * that change from turn to turn. Searches apply actions to it using the
+ * same BattleRules as the real battle loop.
+ */
+final class SearchState {
+
+    // ====== Class Fields ======
+
+    int computerHealth;
+    int computerHeals;
+    int playerHealth;
+    int playerPotions;
+
+    // ====== Setup Methods ======
+
+    /**
+     * Copies the current battle position from live Pokemon
+     */
+    void load(Pokemon computer, Pokemon player) {
+        computerHealth = computer.health;
+        computerHeals = computer.healCount;
+        playerHealth = player.health;
+        playerPotions = player.potions;
+    }
+
+    /**
+     * Copies another search state into this one
+     */
+    void copyFrom(SearchState other) {
+        computerHealth = other.computerHealth;
+        computerHeals = other.computerHeals;
+        playerHealth = other.playerHealth;
+        playerPotions = other.playerPotions;
+    }
+
+    // ====== Action Methods ======
+
+    /**
+     * Applies a computer action: a move index, or the heal slot one past the last move
+     */
+    void applyComputer(Matchup matchup, int action, RandomGenerator random) {
+        if (action == matchup.computerMoveCount()) {
+            computerHealth += BattleRules.cappedHeal(computerHealth, matchup.computerMaxHealth,
+                    BattleRules.rollComputerHeal(random));
+            computerHeals--;
+        } else if (BattleRules.rollHit(matchup.computerAccuracy[action], random)) {
+            playerHealth = Math.max(0, playerHealth - matchup.computerDamage[action]);
+        }
+    }
+
+    /**
+     * Applies a player action: a move index, or the potion slot one past the last move
+     */
+    void applyPlayer(Matchup matchup, int action, RandomGenerator random) {
+        if (action == matchup.playerMoveCount()) {
+            playerHealth += BattleRules.cappedHeal(playerHealth, matchup.playerMaxHealth,
+                    BattleRules.potionHealAmount());
+            playerPotions--;
+        } else if (BattleRules.rollHit(matchup.playerAccuracy[action], random)) {
+            computerHealth = Math.max(0, computerHealth - matchup.playerDamage[action]);
+        }
+    }
+
+    /**
+     * Picks a computer action using the default opponent policy
+     */
+    int defaultComputerAction(Matchup matchup, RandomGenerator random) {
+        if (BattleRules.wantsComputerHeal(computerHealth, computerHeals, random)) {
+            return matchup.computerMoveCount();
+        }
+        return random.nextInt(matchup.computerMoveCount());
+    }
+
+    /**
+     * Picks a player action, modelling the player with the same policy as the computer
+     */
+    int defaultPlayerAction(Matchup matchup, RandomGenerator random) {
+        if (BattleRules.wantsComputerHeal(playerHealth, playerPotions, random)) {
+            return matchup.playerMoveCount();
+        }
+        return random.nextInt(matchup.playerMoveCount());
+    }
+
+    // ====== State Checks ======
+
+    boolean isTerminal() {
+        return computerHealth <= 0 || playerHealth <= 0;
+    }
+
+    boolean canComputerHeal() {
+        return computerHeals > 0;
+    }
+
+    boolean canPlayerHeal() {
+        return playerPotions > 0;
+    }
+}
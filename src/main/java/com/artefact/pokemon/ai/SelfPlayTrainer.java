@@ -0,0 +1,273 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleSimulator;
+import com.artefact.pokemon.species.Species;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.utils.Constants;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * SelfPlayTrainer learns a QLearningPolicy by having the policy battle itself.
+ * Both sides pick epsilon-greedy actions from the same table and update it
+ * with one-step Q-learning after each of their decisions, receiving +1 for a
+ * win and -1 for a loss. Battles go through the real headless battle code, so
+ * the policy learns the exact rules, and each pairs two randomly drawn species.
+ *
+ * Training runs in rounds. Each round, a fixed number of shards train private
+ * copies of the table in parallel, and the copies are merged by averaging
+ * every value weighted by how often each shard updated it. The shard count
+ * does not depend on the pool, so a seeded run learns the same table however
+ * many threads it has.
+ */
+public class SelfPlayTrainer {
+
+    // ====== Class Fields ======
+
+    private final ForkJoinPool pool;
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a trainer backed by the common fork-join pool
+     */
+    public SelfPlayTrainer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a trainer backed by the given pool
+     * @param pool Fork-join pool to run shards on
+     */
+    public SelfPlayTrainer(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // ====== Training Methods ======
+
+    /**
+     * Trains a policy from scratch on the standard species
+     * @param episodes Total self-play battles across all rounds
+     * @param seed Seed for the root random source
+     * @return Trained policy
+     */
+    public QLearningPolicy train(int episodes, long seed) {
+        if (episodes < 0) {
+            throw new IllegalArgumentException("Episode count cannot be negative: " + episodes);
+        }
+        List<Species> species = playableSpecies();
+        SplittableRandom random = new SplittableRandom(seed);
+        QLearningPolicy policy = new QLearningPolicy();
+        int rounds = Constants.TRAINING_ROUNDS;
+        int shards = Constants.TRAINING_SHARDS;
+
+        for (int round = 0; round < rounds; round++) {
+            double progress = rounds == 1 ? 1.0 : (double) round / (rounds - 1);
+            double epsilon = Constants.EXPLORATION_START
+                    + (Constants.EXPLORATION_END - Constants.EXPLORATION_START) * progress;
+            int roundEpisodes = share(episodes, rounds, round);
+
+            List<ShardTask> tasks = new ArrayList<>(shards);
+            for (int shard = 0; shard < shards; shard++) {
+                tasks.add(new ShardTask(policy, species, share(roundEpisodes, shards, shard), epsilon, random.split()));
+            }
+            pool.invoke(new RoundTask(tasks));
+            merge(policy, tasks);
+        }
+        policy.episodes = episodes;
+        return policy;
+    }
+
+    /**
+     * Splits a total as evenly as possible into parts
+     */
+    private static int share(int total, int parts, int part) {
+        return total / parts + (part < total % parts ? 1 : 0);
+    }
+
+    /**
+     * Replaces each value with the visit-weighted mean of the shards' values,
+     * keeping the old value where no shard updated it
+     */
+    private static void merge(QLearningPolicy policy, List<ShardTask> tasks) {
+        float[] values = policy.values;
+        for (int i = 0; i < values.length; i++) {
+            double sum = 0;
+            long visits = 0;
+            for (ShardTask task : tasks) {
+                int count = task.visits[i];
+                sum += (double) count * task.learner.values[i];
+                visits += count;
+            }
+            if (visits > 0) values[i] = (float) (sum / visits);
+        }
+    }
+
+    private static List<Species> playableSpecies() {
+        return SpeciesRegistry.standard().species().stream()
+                .filter(species -> Species.isPlayable(species.type()))
+                .toList();
+    }
+
+    // ====== Evaluation Methods ======
+
+    /**
+     * Measures a policy against the default opponent, with each side moving
+     * first in half of the battles
+     * @param policy Policy to evaluate
+     * @param battles Number of battles to play
+     * @param seed Seed for the species draws and every battle
+     * @return Fraction of battles the policy won (0.0 to 1.0)
+     */
+    public double evaluate(QLearningPolicy policy, int battles, long seed) {
+        List<Species> species = playableSpecies();
+        SplittableRandom random = new SplittableRandom(seed);
+        OpponentStrategy baseline = new RandomOpponentStrategy();
+        int wins = 0;
+
+        for (int i = 0; i < battles; i++) {
+            Pokemon learner = species.get(random.nextInt(species.size())).create();
+            Pokemon opponent = species.get(random.nextInt(species.size())).create();
+            OpponentStrategy sides = (computer, player, battleRandom) -> computer == learner
+                    ? policy.chooseAction(computer, player, battleRandom)
+                    : baseline.chooseAction(computer, player, battleRandom);
+            boolean learnerFirst = (i & 1) == 0;
+            boolean firstWon = learnerFirst
+                    ? BattleSimulator.playBattle(learner, opponent, sides, random.split())
+                    : BattleSimulator.playBattle(opponent, learner, sides, random.split());
+            if (firstWon == learnerFirst) wins++;
+        }
+        return battles == 0 ? 0.0 : (double) wins / battles;
+    }
+
+    // ====== Fork-Join Tasks ======
+
+    /**
+     * Runs every shard of one round in parallel
+     */
+    private static final class RoundTask extends RecursiveTask<Void> {
+        private final List<ShardTask> shards;
+
+        RoundTask(List<ShardTask> shards) {
+            this.shards = shards;
+        }
+
+        @Override
+        protected Void compute() {
+            ForkJoinTask.invokeAll(shards);
+            return null;
+        }
+    }
+
+    /**
+     * Trains a private copy of the table for one shard of a round
+     */
+    private static final class ShardTask extends RecursiveTask<Void> implements OpponentStrategy {
+        private final QLearningPolicy learner;
+        private final int[] visits = new int[QLearningPolicy.STATES * QLearningPolicy.ACTIONS];
+        private final List<Species> species;
+        private final int episodes;
+        private final double epsilon;
+        private final SplittableRandom random;
+
+        // Per-battle state: each side's last decision, waiting for its outcome
+        private Pokemon first;
+        private final int[] lastState = new int[2];
+        private final int[] lastAction = new int[2];
+
+        ShardTask(QLearningPolicy policy, List<Species> species, int episodes, double epsilon,
+                  SplittableRandom random) {
+            this.learner = policy.copy();
+            this.species = species;
+            this.episodes = episodes;
+            this.epsilon = epsilon;
+            this.random = random;
+        }
+
+        @Override
+        protected Void compute() {
+            for (int i = 0; i < episodes; i++) {
+                Pokemon a = species.get(random.nextInt(species.size())).create();
+                Pokemon b = species.get(random.nextInt(species.size())).create();
+                first = a;
+                lastState[0] = lastState[1] = -1;
+
+                boolean firstWon = BattleSimulator.playBattle(a, b, this, random.split());
+                update(firstWon ? 0 : 1, 1.0);
+                update(firstWon ? 1 : 0, -1.0);
+            }
+            return null;
+        }
+
+        /**
+         * Updates the acting side's previous decision towards the value of
+         * this position, then picks an epsilon-greedy action
+         */
+        @Override
+        public int chooseAction(Pokemon computer, Pokemon player, RandomGenerator battleRandom) {
+            int side = computer == first ? 0 : 1;
+            int state = QLearningPolicy.state(computer, player);
+            update(side, Constants.DISCOUNT_FACTOR * learner.bestValue(state, computer));
+
+            int action;
+            if (battleRandom.nextDouble() < epsilon) {
+                do {
+                    action = battleRandom.nextInt(QLearningPolicy.ACTIONS);
+                } while (!QLearningPolicy.isValid(action, computer) && computer.healCount + computer.moves.size() > 0);
+            } else {
+                action = learner.bestAction(state, computer);
+            }
+            lastState[side] = state;
+            lastAction[side] = action;
+            return QLearningPolicy.toAction(action, computer);
+        }
+
+        /**
+         * Moves a side's last decision's value towards a target
+         */
+        private void update(int side, double target) {
+            if (lastState[side] < 0) return;
+            int index = lastState[side] * QLearningPolicy.ACTIONS + lastAction[side];
+            float value = learner.values[index];
+            learner.values[index] = (float) (value + Constants.LEARNING_RATE * (target - value));
+            visits[index]++;
+        }
+    }
+
+    // ====== Command Line Entry Point ======
+
+    /**
+     * Trains the opponent policy, reports how it fares against the default
+     * opponent and saves it where the trained difficulty loads it from
+     * @param args Optional number of self-play battles (defaults to TRAINING_EPISODES),
+     *             followed by an optional seed for a reproducible run
+     */
+    public static void main(String[] args) throws IOException {
+        int episodes = args.length > 0 ? Integer.parseInt(args[0]) : Constants.TRAINING_EPISODES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : new SplittableRandom().nextLong();
+
+        SelfPlayTrainer trainer = new SelfPlayTrainer();
+        System.out.printf("Training on %,d self-play battles on %d threads (seed %d)%n",
+                episodes, trainer.pool.getParallelism(), seed);
+        long start = System.nanoTime();
+        QLearningPolicy policy = trainer.train(episodes, seed);
+        System.out.printf("Trained in %.1fs%n", (System.nanoTime() - start) / 1e9);
+
+        System.out.printf("Wins %.1f%% of battles against the default opponent%n",
+                trainer.evaluate(policy, 100_000, seed + 1) * 100);
+
+        Path file = Paths.get(Constants.OUTPUT_DIR, Constants.POLICY_FILE);
+        policy.write(file);
+        System.out.println("Saved policy to " + file);
+    }
+}
@@ -0,0 +1,348 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.MoveEffect;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleRules;
+import com.artefact.utils.Constants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * WinProbabilityTable holds the exact outcome of every position in a battle
+ * where both sides follow the default opponent policy: heal with the usual
+ * chance when low, otherwise attack with a uniformly random move.
+ *
+ * The battle is an absorbing Markov chain over (first health, second health,
+ * first heals, second heals, side to move). Potions are not part of the state
+ * because the default policy never drinks them. Every transition either lowers
+ * a health total or uses up a heal, except a miss, which hands the same
+ * position to the other side. So positions are solved in order of heals used
+ * and then health, each to-move pair at once in closed form, filling flat
+ * primitive arrays. Solved tables can be written to disk and mapped back in,
+ * so later lookups are a single indexed read.
+ */
+public final class WinProbabilityTable {
+
+    // ====== Class Fields ======
+
+    private static final int MAGIC = 0x50575431;  // "PWT1"
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = 48;
+
+    private final long fingerprint;     // Identifies the inputs the table was solved for
+    private final int firstHealthLimit;
+    private final int secondHealthLimit;
+    private final int firstHealLimit;
+    private final int secondHealLimit;
+    private final int firstStartHealth, firstStartHeals, secondStartHealth, secondStartHeals;
+
+    // First side's win probability and expected remaining turns, indexed by state
+    private final DoubleBuffer winFirstToMove;
+    private final DoubleBuffer winSecondToMove;
+    private final DoubleBuffer turnsFirstToMove;
+    private final DoubleBuffer turnsSecondToMove;
+
+    // ====== Constructor ======
+
+    private WinProbabilityTable(long fingerprint, int[] limits, DoubleBuffer winFirstToMove,
+                                DoubleBuffer winSecondToMove, DoubleBuffer turnsFirstToMove,
+                                DoubleBuffer turnsSecondToMove) {
+        this.fingerprint = fingerprint;
+        this.firstHealthLimit = limits[0];
+        this.secondHealthLimit = limits[1];
+        this.firstHealLimit = limits[2];
+        this.secondHealLimit = limits[3];
+        this.firstStartHealth = limits[4];
+        this.firstStartHeals = limits[5];
+        this.secondStartHealth = limits[6];
+        this.secondStartHeals = limits[7];
+        this.winFirstToMove = winFirstToMove;
+        this.winSecondToMove = winSecondToMove;
+        this.turnsFirstToMove = turnsFirstToMove;
+        this.turnsSecondToMove = turnsSecondToMove;
+    }
+
+    // ====== Solver Methods ======
+
+    /**
+     * Solves every position reachable from the two Pokemon's current state
+     * @param first Pokemon labelled first in the table
+     * @param second Pokemon labelled second in the table
+     * @return Solved table
+     */
+    public static WinProbabilityTable solve(Pokemon first, Pokemon second) {
+        Matchup matchup = Matchup.of(first, second);
+        int h1 = Math.max(first.health, first.maxHealth);
+        int h2 = Math.max(second.health, second.maxHealth);
+        int k1 = Math.max(0, first.healCount);
+        int k2 = Math.max(0, second.healCount);
+        int states = (k1 + 1) * (k2 + 1) * (h1 + 1) * (h2 + 1);
+
+        double[] winA = new double[states];   // First side to move
+        double[] winB = new double[states];   // Second side to move
+        double[] turnsA = new double[states];
+        double[] turnsB = new double[states];
+        int rolls = Constants.MAX_COMPUTER_HEAL - Constants.MIN_COMPUTER_HEAL + 1;
+
+        for (int ka = 0; ka <= k1; ka++) {
+            for (int kb = 0; kb <= k2; kb++) {
+                int layer = (ka * (k2 + 1) + kb) * (h1 + 1);
+                for (int ha = 0; ha <= h1; ha++) {
+                    for (int hb = 0; hb <= h2; hb++) {
+                        int index = (layer + ha) * (h2 + 1) + hb;
+                        if (ha == 0 || hb == 0) {
+                            winA[index] = winB[index] = hb == 0 ? 1.0 : 0.0;  // Battle already over
+                            continue;
+                        }
+
+                        // First side's turn: progress value, progress turns and chance of no change
+                        double winProgressA = 0, turnsProgressA = 0, stayA = 0;
+                        double healA = ha < Constants.COMPUTER_HEAL_THRESHOLD && ka > 0
+                                ? Constants.COMPUTER_HEAL_CHANCE : 0.0;
+                        if (healA > 0) {
+                            int healedLayer = ((ka - 1) * (k2 + 1) + kb) * (h1 + 1);
+                            for (int roll = Constants.MIN_COMPUTER_HEAL; roll <= Constants.MAX_COMPUTER_HEAL; roll++) {
+                                int next = (healedLayer + ha + BattleRules.cappedHeal(ha, first.maxHealth, roll)) * (h2 + 1) + hb;
+                                winProgressA += healA / rolls * winB[next];
+                                turnsProgressA += healA / rolls * turnsB[next];
+                            }
+                        }
+                        int movesA = matchup.computerMoveCount();
+                        if (movesA == 0) {
+                            stayA += 1.0 - healA;
+                        }
+                        for (int m = 0; m < movesA; m++) {
+                            double pick = (1.0 - healA) / movesA;
+                            double hit = hitChance(matchup.computerAccuracy[m], matchup.computerDamage[m]);
+                            int next = (layer + ha) * (h2 + 1) + Math.max(0, hb - matchup.computerDamage[m]);
+                            winProgressA += pick * hit * winB[next];
+                            turnsProgressA += pick * hit * turnsB[next];
+                            stayA += pick * (1.0 - hit);
+                        }
+
+                        // Second side's turn
+                        double winProgressB = 0, turnsProgressB = 0, stayB = 0;
+                        double healB = hb < Constants.COMPUTER_HEAL_THRESHOLD && kb > 0
+                                ? Constants.COMPUTER_HEAL_CHANCE : 0.0;
+                        if (healB > 0) {
+                            int healedLayer = (ka * (k2 + 1) + kb - 1) * (h1 + 1);
+                            for (int roll = Constants.MIN_COMPUTER_HEAL; roll <= Constants.MAX_COMPUTER_HEAL; roll++) {
+                                int next = (healedLayer + ha) * (h2 + 1) + hb + BattleRules.cappedHeal(hb, second.maxHealth, roll);
+                                winProgressB += healB / rolls * winA[next];
+                                turnsProgressB += healB / rolls * turnsA[next];
+                            }
+                        }
+                        int movesB = matchup.playerMoveCount();
+                        if (movesB == 0) {
+                            stayB += 1.0 - healB;
+                        }
+                        for (int m = 0; m < movesB; m++) {
+                            double pick = (1.0 - healB) / movesB;
+                            double hit = hitChance(matchup.playerAccuracy[m], matchup.playerDamage[m]);
+                            int next = (layer + Math.max(0, ha - matchup.playerDamage[m])) * (h2 + 1) + hb;
+                            winProgressB += pick * hit * winA[next];
+                            turnsProgressB += pick * hit * turnsA[next];
+                            stayB += pick * (1.0 - hit);
+                        }
+
+                        // x = pA + sA * y and y = pB + sB * x, solved together
+                        double denominator = 1.0 - stayA * stayB;
+                        if (denominator <= 0.0) {
+                            winA[index] = winB[index] = 0.5;  // Neither side can ever make progress
+                            turnsA[index] = turnsB[index] = Double.POSITIVE_INFINITY;
+                            continue;
+                        }
+                        winA[index] = (winProgressA + stayA * winProgressB) / denominator;
+                        winB[index] = winProgressB + stayB * winA[index];
+                        turnsA[index] = (1.0 + turnsProgressA + stayA * (1.0 + turnsProgressB)) / denominator;
+                        turnsB[index] = 1.0 + turnsProgressB + stayB * turnsA[index];
+                    }
+                }
+            }
+        }
+
+        int[] limits = {h1, h2, k1, k2, first.health, first.healCount, second.health, second.healCount};
+        return new WinProbabilityTable(fingerprint(first, second), limits, DoubleBuffer.wrap(winA),
+                DoubleBuffer.wrap(winB), DoubleBuffer.wrap(turnsA), DoubleBuffer.wrap(turnsB));
+    }
+
+    /**
+     * Chance a move changes the position: misses and zero-damage hits do not
+     */
+    private static double hitChance(double accuracy, int damage) {
+        return damage > 0 ? Math.max(0.0, Math.min(1.0, accuracy)) : 0.0;
+    }
+
+    /**
+     * Hashes everything a table depends on: both sides' starting state,
+     * move damage after type effectiveness, accuracy and the healing rules.
+     * Each move's status effect and charging delay are included too, so a
+     * table stored for plain moves is never reused for a moveset that has them.
+     * @return Value that changes whenever a solved table would change
+     */
+    public static long fingerprint(Pokemon first, Pokemon second) {
+        Matchup matchup = Matchup.of(first, second);
+        long hash = mix(VERSION, Constants.COMPUTER_HEAL_THRESHOLD);
+        hash = mix(hash, Double.doubleToLongBits(Constants.COMPUTER_HEAL_CHANCE));
+        hash = mix(hash, Constants.MIN_COMPUTER_HEAL);
+        hash = mix(hash, Constants.MAX_COMPUTER_HEAL);
+        hash = mix(mix(mix(hash, first.health), first.maxHealth), first.healCount);
+        hash = mix(mix(mix(hash, second.health), second.maxHealth), second.healCount);
+        for (int m = 0; m < matchup.computerMoveCount(); m++) {
+            hash = mix(mix(hash, matchup.computerDamage[m]), Double.doubleToLongBits(matchup.computerAccuracy[m]));
+            hash = mixEffect(hash, first.moves.get(m));
+        }
+        hash = mix(hash, -1);  // Separates the two move lists
+        for (int m = 0; m < matchup.playerMoveCount(); m++) {
+            hash = mix(mix(hash, matchup.playerDamage[m]), Double.doubleToLongBits(matchup.playerAccuracy[m]));
+            hash = mixEffect(hash, second.moves.get(m));
+        }
+        return hash;
+    }
+
+    private static long mixEffect(long hash, Move move) {
+        hash = mix(hash, move.getChargeTurns());
+        MoveEffect effect = move.getEffect();
+        if (effect == null) return mix(hash, -1);
+        hash = mix(mix(hash, effect.status().ordinal()), effect.potency());
+        return mix(mix(hash, effect.turns()), Double.doubleToLongBits(effect.chance()));
+    }
+
+    private static long mix(long hash, long value) {
+        long mixed = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 29);
+    }
+
+    // ====== Lookup Methods ======
+
+    /**
+     * Looks up the first side's chance of winning from a position
+     * @param firstHealth First side's health
+     * @param firstHeals First side's remaining heals
+     * @param secondHealth Second side's health
+     * @param secondHeals Second side's remaining heals
+     * @param firstToMove true if the first side takes the next turn
+     * @return Probability the first side wins (0.0 to 1.0)
+     */
+    public double winProbability(int firstHealth, int firstHeals, int secondHealth, int secondHeals,
+                                 boolean firstToMove) {
+        int index = index(firstHealth, firstHeals, secondHealth, secondHeals);
+        return firstToMove ? winFirstToMove.get(index) : winSecondToMove.get(index);
+    }
+
+    /**
+     * Looks up the expected number of turns left from a position
+     * @return Expected remaining turns, counting misses
+     */
+    public double expectedTurns(int firstHealth, int firstHeals, int secondHealth, int secondHeals,
+                                boolean firstToMove) {
+        int index = index(firstHealth, firstHeals, secondHealth, secondHeals);
+        return firstToMove ? turnsFirstToMove.get(index) : turnsSecondToMove.get(index);
+    }
+
+    /**
+     * @param firstToMove true if the first side takes the opening turn
+     * @return First side's chance of winning a fresh battle
+     */
+    public double winProbability(boolean firstToMove) {
+        return winProbability(firstStartHealth, firstStartHeals, secondStartHealth, secondStartHeals, firstToMove);
+    }
+
+    /**
+     * @param firstToMove true if the first side takes the opening turn
+     * @return Expected length of a fresh battle in turns
+     */
+    public double expectedTurns(boolean firstToMove) {
+        return expectedTurns(firstStartHealth, firstStartHeals, secondStartHealth, secondStartHeals, firstToMove);
+    }
+
+    /**
+     * @return Fingerprint of the inputs the table was solved for
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    private int index(int firstHealth, int firstHeals, int secondHealth, int secondHeals) {
+        if (firstHeals < 0 || firstHeals > firstHealLimit || secondHeals < 0 || secondHeals > secondHealLimit
+                || firstHealth > firstHealthLimit || secondHealth > secondHealthLimit) {
+            throw new IllegalArgumentException("Position is outside this table");
+        }
+        int layer = (firstHeals * (secondHealLimit + 1) + secondHeals) * (firstHealthLimit + 1);
+        return (layer + Math.max(0, firstHealth)) * (secondHealthLimit + 1) + Math.max(0, secondHealth);
+    }
+
+    // ====== File Methods ======
+
+    /**
+     * Writes the table as a header followed by the four primitive arrays.
+     * The data goes to a temporary file first, so readers never map a partial table.
+     * @param file File to create or replace
+     * @throws IOException If the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        int states = winFirstToMove.capacity();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + states * 4 * Double.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(fingerprint)
+                .putInt(firstHealthLimit).putInt(secondHealthLimit).putInt(firstHealLimit).putInt(secondHealLimit)
+                .putInt(firstStartHealth).putInt(firstStartHeals).putInt(secondStartHealth).putInt(secondStartHeals);
+        DoubleBuffer values = buffer.position(HEADER_BYTES).asDoubleBuffer();
+        for (DoubleBuffer source : new DoubleBuffer[] {winFirstToMove, winSecondToMove, turnsFirstToMove, turnsSecondToMove}) {
+            values.put(source.duplicate().clear());
+        }
+        buffer.clear();
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps a table written by write, reading values straight from the file
+     * @param file Table file
+     * @return Mapped table
+     * @throws IOException If the file cannot be read or is not a table
+     */
+    public static WinProbabilityTable map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) throw new IOException("Win probability table is truncated");
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION) {
+                throw new IOException("Not a win probability table: " + file);
+            }
+            long fingerprint = mapped.getLong();
+            int[] limits = new int[8];
+            for (int i = 0; i < limits.length; i++) limits[i] = mapped.getInt();
+
+            long states = (long) (limits[2] + 1) * (limits[3] + 1) * (limits[0] + 1) * (limits[1] + 1);
+            if (size != HEADER_BYTES + states * 4 * Double.BYTES) {
+                throw new IOException("Win probability table is truncated");
+            }
+            DoubleBuffer values = mapped.position(HEADER_BYTES).asDoubleBuffer();
+            DoubleBuffer[] arrays = new DoubleBuffer[4];
+            for (int i = 0; i < arrays.length; i++) {
+                arrays[i] = values.slice((int) (i * states), (int) states);
+            }
+            return new WinProbabilityTable(fingerprint, limits, arrays[0], arrays[1], arrays[2], arrays[3]);
+        }
+    }
+}
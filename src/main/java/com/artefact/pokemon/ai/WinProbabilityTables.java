@@ -0,0 +1,152 @@
+package com.artefact.pokemon.ai;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.species.Species;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.utils.Constants;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WinProbabilityTables keeps solved win probability tables on disk, one file
+ * per ordered pairing. Each file name carries the fingerprint of the moves,
+ * type effectiveness and rules it was solved for, so a table is only solved
+ * again when something that affects that pairing changes. Editing one
+ * species' moves re-solves the pairings it appears in and reuses the rest.
+ */
+public class WinProbabilityTables {
+
+    // ====== Class Fields ======
+
+    private static final String EXTENSION = ".wpt";
+
+    private final Path directory;
+    private final Map<String, WinProbabilityTable> loaded = new ConcurrentHashMap<>();
+    private final AtomicInteger solved = new AtomicInteger();  // Tables solved rather than loaded
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a store in the default output directory
+     */
+    public WinProbabilityTables() {
+        this(Paths.get(Constants.OUTPUT_DIR, Constants.WIN_TABLE_DIR));
+    }
+
+    /**
+     * Creates a store in a specific directory
+     * @param directory Directory table files are kept in; created when the first table is written
+     */
+    public WinProbabilityTables(Path directory) {
+        this.directory = directory;
+    }
+
+    // ====== Lookup Methods ======
+
+    /**
+     * Gets the table for a pairing, loading or solving it if needed
+     * @param first Pokemon labelled first in the table
+     * @param second Pokemon labelled second in the table
+     * @return Table matching the two Pokemon's current moves and state
+     */
+    public WinProbabilityTable table(Pokemon first, Pokemon second) {
+        String prefix = fileName(first.name) + "-" + fileName(second.name) + "-";
+        String name = prefix + Long.toHexString(WinProbabilityTable.fingerprint(first, second)) + EXTENSION;
+        return loaded.computeIfAbsent(name, key -> loadOrSolve(key, prefix, first, second));
+    }
+
+    /**
+     * Gets the table for two species at full health
+     * @param first Species labelled first in the table
+     * @param second Species labelled second in the table
+     * @return Table for a fresh battle between the two species
+     */
+    public WinProbabilityTable table(Species first, Species second) {
+        return table(first.create(), second.create());
+    }
+
+    /**
+     * @return Number of tables solved by this store, excluding those loaded from disk
+     */
+    public int solvedCount() {
+        return solved.get();
+    }
+
+    // ====== File Methods ======
+
+    /**
+     * Maps a stored table if one matches, otherwise solves the pairing and
+     * replaces any stale tables stored for it
+     */
+    private WinProbabilityTable loadOrSolve(String name, String prefix, Pokemon first, Pokemon second) {
+        Path file = directory.resolve(name);
+        if (Files.isRegularFile(file)) {
+            try {
+                return WinProbabilityTable.map(file);
+            } catch (IOException e) {
+                // Damaged table: fall through and solve it again
+            }
+        }
+
+        WinProbabilityTable table = WinProbabilityTable.solve(first, second);
+        solved.incrementAndGet();
+        try {
+            table.write(file);
+            deleteStale(prefix, name);
+        } catch (IOException e) {
+            // The table still works from memory; it is solved again next run
+        }
+        return table;
+    }
+
+    private void deleteStale(String prefix, String current) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + EXTENSION)) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes a Pokemon name safe to use in a file name
+     */
+    private static String fileName(String name) {
+        return name.toLowerCase().replaceAll("[^a-z0-9]+", "_");
+    }
+
+    // ====== Command Line Entry Point ======
+
+    /**
+     * Prints the exact win probability and expected length of every species
+     * pairing, solving only the tables that are missing or out of date
+     * @param args Unused
+     */
+    public static void main(String[] args) {
+        WinProbabilityTables tables = new WinProbabilityTables();
+        List<Species> species = SpeciesRegistry.standard().species();
+
+        long start = System.nanoTime();
+        for (Species first : species) {
+            for (Species second : species) {
+                if (first == second) continue;
+                WinProbabilityTable table = tables.table(first, second);
+                System.out.printf("%-12s vs %-12s moving first %5.1f%% (%.1f turns), moving second %5.1f%% (%.1f turns)%n",
+                        first.name(), second.name(),
+                        table.winProbability(true) * 100, table.expectedTurns(true),
+                        table.winProbability(false) * 100, table.expectedTurns(false));
+            }
+        }
+        System.out.printf("%nSolved %d tables, loaded the rest from %s in %.1fms%n",
+                tables.solvedCount(), tables.directory, (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,62 @@
+package com.artefact.pokemon.balance;
+
+import com.artefact.utils.Constants;
+
+/**
+ * BalanceConfig is one point in a balance sweep. Values are rounded to six
+ * decimal places on construction, so a point reached by a different grid
+ * calculation still equals, and hits the cache entry of, an earlier one.
+ * @param powerScale Multiplier applied to every move's base power
+ * @param accuracyScale Multiplier applied to every move's accuracy, capped at 1.0
+ * @param advantageMultiplier Damage multiplier for super effective attacks
+ * @param healAmount Average HP restored by a computer heal; the roll keeps its usual spread around it
+ */
+public record BalanceConfig(double powerScale, double accuracyScale, double advantageMultiplier, int healAmount) {
+
+    private static final double PRECISION = 1e6;
+
+    public BalanceConfig {
+        if (powerScale <= 0 || accuracyScale <= 0 || advantageMultiplier < 0 || healAmount < 0) {
+            throw new IllegalArgumentException("Balance values must be positive");
+        }
+        powerScale = round(powerScale);
+        accuracyScale = round(accuracyScale);
+        advantageMultiplier = round(advantageMultiplier);
+    }
+
+    /**
+     * @return Configuration matching the game as it currently ships
+     */
+    public static BalanceConfig current() {
+        return new BalanceConfig(1.0, 1.0, Constants.TYPE_ADVANTAGE_MULTIPLIER,
+                (Constants.MIN_COMPUTER_HEAL + Constants.MAX_COMPUTER_HEAL) / 2);
+    }
+
+    /**
+     * @return Smallest HP a computer heal can restore under this configuration
+     */
+    public int minHeal() {
+        return Math.max(0, healAmount - healSpread());
+    }
+
+    /**
+     * @return Largest HP a computer heal can restore under this configuration
+     */
+    public int maxHeal() {
+        return healAmount + healSpread();
+    }
+
+    private static int healSpread() {
+        return (Constants.MAX_COMPUTER_HEAL - Constants.MIN_COMPUTER_HEAL) / 2;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * PRECISION) / PRECISION;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("power x%.2f, accuracy x%.2f, advantage %.2f, heal %d",
+                powerScale, accuracyScale, advantageMultiplier, healAmount);
+    }
+}
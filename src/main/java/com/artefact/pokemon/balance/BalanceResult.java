@@ -0,0 +1,85 @@
+package com.artefact.pokemon.balance;
+
+import java.util.List;
+
+/**
+ * BalanceResult holds the simulated win rates of every species pairing
+ * under one configuration.
+ * @param config Configuration that was simulated
+ * @param pairings Win rate of each pairing, averaged over both move orders
+ */
+public record BalanceResult(BalanceConfig config, List<Pairing> pairings) {
+
+    /**
+     * Win rate of one species against another
+     * @param species Species the win rate belongs to
+     * @param opponent Species it fought
+     * @param winRate Fraction of battles won by species (0.0 to 1.0)
+     */
+    public record Pairing(String species, String opponent, double winRate) {
+
+        /**
+         * @return Distance of the win rate from an even 50%
+         */
+        public double imbalance() {
+            return Math.abs(winRate - 0.5);
+        }
+    }
+
+    public BalanceResult {
+        pairings = List.copyOf(pairings);
+    }
+
+    /**
+     * @return Difference between the highest and lowest pairing win rates
+     */
+    public double spread() {
+        double min = 1.0;
+        double max = 0.0;
+        for (Pairing pairing : pairings) {
+            min = Math.min(min, pairing.winRate());
+            max = Math.max(max, pairing.winRate());
+        }
+        return pairings.isEmpty() ? 0.0 : max - min;
+    }
+
+    /**
+     * @return Pairing furthest from 50/50, or null if there are none
+     */
+    public Pairing worstPairing() {
+        Pairing worst = null;
+        for (Pairing pairing : pairings) {
+            if (worst == null || pairing.imbalance() > worst.imbalance()) worst = pairing;
+        }
+        return worst;
+    }
+
+    /**
+     * @return Largest distance of any pairing from a 50% win rate
+     */
+    public double imbalance() {
+        Pairing worst = worstPairing();
+        return worst == null ? 0.0 : worst.imbalance();
+    }
+
+    /**
+     * @param tolerance Largest acceptable distance from a 50% win rate
+     * @return true if any pairing is further than the tolerance from 50/50
+     */
+    public boolean isFlagged(double tolerance) {
+        return imbalance() > tolerance;
+    }
+
+    /**
+     * Creates a one-line summary of the result
+     * @return Formatted string with the configuration, spread and worst pairing
+     */
+    @Override
+    public String toString() {
+        Pairing worst = worstPairing();
+        return worst == null
+                ? config + " | no pairings"
+                : String.format("%s | spread %.1f%% | worst %s vs %s %.1f%%",
+                        config, spread() * 100, worst.species(), worst.opponent(), worst.winRate() * 100);
+    }
+}
@@ -0,0 +1,298 @@
+package com.artefact.pokemon.balance;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleBatch;
+import com.artefact.pokemon.species.Species;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.pokemon.types.TypeChart;
+import com.artefact.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BalanceSweep simulates every species pairing under many balance
+ * configurations to find settings where no matchup is lopsided.
+ * Configurations are evaluated in parallel on a fork-join pool, each one
+ * running its battles on the struct-of-arrays BattleBatch engine.
+ *
+ * Every configuration replays the same random streams, so differences
+ * between results come from the settings rather than from luck. Results are
+ * cached by configuration: a finer grid around a promising point only
+ * simulates the points that have not been seen before.
+ */
+public class BalanceSweep {
+
+    // ====== Class Fields ======
+
+    private final List<Species> species;  // Species paired against each other
+    private final int battles;            // Battles per move order for each pairing
+    private final long seed;              // Root seed shared by every configuration
+    private final ForkJoinPool pool;
+    private final Map<BalanceConfig, BalanceResult> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger simulated = new AtomicInteger();  // Configurations actually simulated
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a sweep over every registered species on the common pool
+     * @param battles Battles per move order for each pairing
+     * @param seed Seed shared by every configuration
+     */
+    public BalanceSweep(int battles, long seed) {
+        this(SpeciesRegistry.standard().species(), battles, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sweep over specific species
+     * @param species Species to pair against each other
+     * @param battles Battles per move order for each pairing
+     * @param seed Seed shared by every configuration
+     * @param pool Pool to evaluate configurations on
+     */
+    public BalanceSweep(List<Species> species, int battles, long seed, ForkJoinPool pool) {
+        if (battles <= 0) {
+            throw new IllegalArgumentException("Battle count must be positive: " + battles);
+        }
+        this.species = List.copyOf(species);
+        this.battles = battles;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    // ====== Sweep Methods ======
+
+    /**
+     * Evaluates configurations, simulating only those not already cached
+     * @param configs Configurations to evaluate; duplicates are evaluated once
+     * @return One result per distinct configuration, in the order given
+     */
+    public List<BalanceResult> sweep(Collection<BalanceConfig> configs) {
+        List<BalanceConfig> distinct = new ArrayList<>(new LinkedHashSet<>(configs));
+        List<BalanceConfig> missing = new ArrayList<>();
+        for (BalanceConfig config : distinct) {
+            if (!cache.containsKey(config)) missing.add(config);
+        }
+
+        BalanceResult[] results = new BalanceResult[missing.size()];
+        pool.invoke(new SweepTask(missing, results, 0, missing.size()));
+        for (BalanceResult result : results) {
+            cache.put(result.config(), result);
+        }
+
+        List<BalanceResult> swept = new ArrayList<>(distinct.size());
+        for (BalanceConfig config : distinct) {
+            swept.add(cache.get(config));
+        }
+        return swept;
+    }
+
+    /**
+     * Evaluates a single configuration, using the cache if possible
+     * @param config Configuration to evaluate
+     * @return Win rates of every pairing
+     */
+    public BalanceResult evaluate(BalanceConfig config) {
+        return sweep(List.of(config)).get(0);
+    }
+
+    /**
+     * @return Number of configurations held in the cache
+     */
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * @return Number of configurations simulated so far, excluding cache hits
+     */
+    public int simulatedCount() {
+        return simulated.get();
+    }
+
+    // ====== Grid Methods ======
+
+    /**
+     * Builds every combination of the given values
+     * @return Grid of configurations, varying the heal amount fastest
+     */
+    public static List<BalanceConfig> grid(double[] powerScales, double[] accuracyScales,
+                                           double[] advantageMultipliers, int[] healAmounts) {
+        List<BalanceConfig> grid = new ArrayList<>();
+        for (double power : powerScales) {
+            for (double accuracy : accuracyScales) {
+                for (double advantage : advantageMultipliers) {
+                    for (int heal : healAmounts) {
+                        grid.add(new BalanceConfig(power, accuracy, advantage, heal));
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Builds a finer grid around a configuration, one step either side on every axis
+     * @param centre Configuration to refine around; it is part of the returned grid
+     * @param scaleStep Step for the power and accuracy scales
+     * @param advantageStep Step for the advantage multiplier
+     * @param healStep Step for the heal amount
+     * @return Valid neighbouring configurations, including the centre
+     */
+    public static List<BalanceConfig> around(BalanceConfig centre, double scaleStep,
+                                             double advantageStep, int healStep) {
+        List<BalanceConfig> grid = new ArrayList<>();
+        for (int p = -1; p <= 1; p++) {
+            for (int a = -1; a <= 1; a++) {
+                for (int m = -1; m <= 1; m++) {
+                    for (int h = -1; h <= 1; h++) {
+                        double power = centre.powerScale() + p * scaleStep;
+                        double accuracy = centre.accuracyScale() + a * scaleStep;
+                        double advantage = centre.advantageMultiplier() + m * advantageStep;
+                        int heal = centre.healAmount() + h * healStep;
+                        if (power > 0 && accuracy > 0 && advantage >= 0 && heal >= 0) {
+                            grid.add(new BalanceConfig(power, accuracy, advantage, heal));
+                        }
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    // ====== Simulation Methods ======
+
+    /**
+     * Plays every pairing in both move orders under one configuration
+     */
+    private BalanceResult simulate(BalanceConfig config) {
+        TypeChart chart = new TypeChart(config.advantageMultiplier(),
+                Constants.TYPE_RESISTANCE_MULTIPLIER, Constants.TYPE_IMMUNITY_MULTIPLIER);
+        List<Pokemon> tuned = new ArrayList<>(species.size());
+        for (Species entry : species) {
+            tuned.add(tune(entry, config));
+        }
+
+        List<BalanceResult.Pairing> pairings = new ArrayList<>();
+        for (int i = 0; i < tuned.size(); i++) {
+            for (int j = i + 1; j < tuned.size(); j++) {
+                long wins = firstWins(tuned.get(i), tuned.get(j), chart, config, i, j)
+                        + battles - firstWins(tuned.get(j), tuned.get(i), chart, config, j, i);
+                pairings.add(new BalanceResult.Pairing(tuned.get(i).name, tuned.get(j).name,
+                        (double) wins / (2L * battles)));
+            }
+        }
+        simulated.incrementAndGet();
+        return new BalanceResult(config, pairings);
+    }
+
+    /**
+     * Runs one move order of a pairing on a fresh random stream for that order
+     * @return Battles won by the side that moves first
+     */
+    private long firstWins(Pokemon first, Pokemon second, TypeChart chart, BalanceConfig config,
+                           int firstIndex, int secondIndex) {
+        BattleBatch batch = new BattleBatch(first, second, battles, chart, config.minHeal(), config.maxHeal());
+        long streamSeed = seed ^ ((long) firstIndex * species.size() + secondIndex) * 0x9E3779B97F4A7C15L;
+        batch.reset(battles, new SplittableRandom(streamSeed));
+        batch.runAll();
+
+        long wins = 0;
+        for (int lane = 0; lane < battles; lane++) {
+            if (batch.outcome(lane) == BattleBatch.FIRST_WON) wins++;
+        }
+        return wins;
+    }
+
+    /**
+     * Creates a Pokemon of a species with its moves scaled for a configuration
+     */
+    private static Pokemon tune(Species entry, BalanceConfig config) {
+        Pokemon pokemon = entry.create();
+        pokemon.moves.replaceAll(move -> move.withStats(
+                (int) Math.round(move.getBasePower() * config.powerScale()),
+                Math.min(1.0, move.getAccuracy() * config.accuracyScale())));
+        return pokemon;
+    }
+
+    /**
+     * Splits a list of configurations in half until each task holds one,
+     * then simulates it
+     */
+    private final class SweepTask extends RecursiveAction {
+        private final List<BalanceConfig> configs;
+        private final BalanceResult[] results;
+        private final int from;
+        private final int to;
+
+        SweepTask(List<BalanceConfig> configs, BalanceResult[] results, int from, int to) {
+            this.configs = configs;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) results[from] = simulate(configs.get(from));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SweepTask(configs, results, from, mid), new SweepTask(configs, results, mid, to));
+        }
+    }
+
+    // ====== Command Line Entry Point ======
+
+    /**
+     * Sweeps a coarse grid around the current settings, then refines around
+     * the most balanced point and prints the best and flagged configurations
+     * @param args Optional battles per move order (defaults to BALANCE_BATTLES_PER_PAIRING),
+     *             followed by an optional seed
+     */
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : Constants.BALANCE_BATTLES_PER_PAIRING;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : new SplittableRandom().nextLong();
+        BalanceSweep sweep = new BalanceSweep(battles, seed);
+        BalanceConfig current = BalanceConfig.current();
+
+        long start = System.nanoTime();
+        List<BalanceResult> coarse = sweep.sweep(grid(
+                new double[] {0.8, 1.0, 1.2},
+                new double[] {0.9, 1.0, 1.1},
+                new double[] {1.0, current.advantageMultiplier(), 1.25, 1.5},
+                new int[] {current.healAmount() - 10, current.healAmount(), current.healAmount() + 10}));
+        BalanceResult best = coarse.stream().min(Comparator.comparingDouble(BalanceResult::imbalance)).orElseThrow();
+
+        int simulatedBefore = sweep.simulatedCount();
+        List<BalanceResult> refined = sweep.sweep(around(best.config(), 0.1, 0.05, 5));
+        int reused = refined.size() - (sweep.simulatedCount() - simulatedBefore);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        List<BalanceResult> all = new ArrayList<>(coarse);
+        all.addAll(refined);
+        all = new ArrayList<>(new LinkedHashSet<>(all));
+        all.sort(Comparator.comparingDouble(BalanceResult::imbalance));
+        long flagged = all.stream().filter(result -> result.isFlagged(Constants.BALANCE_TOLERANCE)).count();
+
+        System.out.printf("Swept %d configurations (%d reused while refining) with %,d battles per move order"
+                + " in %.2fs (seed %d)%n", all.size(), reused, battles, seconds, seed);
+        System.out.println("Current: " + sweep.evaluate(current));
+        System.out.println("\nMost balanced:");
+        for (int i = 0; i < Math.min(5, all.size()); i++) {
+            System.out.println("  " + all.get(i));
+        }
+        System.out.printf("%nFlagged %d of %d configurations with a pairing more than %.0f%% from 50/50%n",
+                flagged, all.size(), Constants.BALANCE_TOLERANCE * 100);
+    }
+}
@@ -0,0 +1,245 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.TypeChart;
+import com.artefact.utils.Constants;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * BattleBatch advances many computer-vs-computer battles between the same
+ * two Pokemon using a struct-of-arrays layout. Each battle is a lane: an index
+ * into parallel int arrays for health, heals, potions and turn counts.
+ * Move damage and accuracy are flattened into primitive tables up front, so a
+ * turn touches only primitive arrays instead of Pokemon and Move objects.
+ *
+ * Each turn makes the same random draws, in the same order, as
+ * PokemonBattler with the default opponent strategy. A lane given the same
+ * generator as an object-based battle therefore plays out identically, as
+ * long as neither side has moves with status effects or charging, which
+ * lanes do not track.
+ */
+public final class BattleBatch {
+
+    // ====== Outcome Constants ======
+
+    public static final byte RUNNING = 0;
+    public static final byte FIRST_WON = 1;
+    public static final byte SECOND_WON = 2;
+
+    // ====== Species Tables ======
+
+    private final int[] firstDamage;       // Damage per first-side move on a hit
+    private final double[] firstAccuracy;  // Hit chance per first-side move
+    private final int[] secondDamage;
+    private final double[] secondAccuracy;
+    private final int firstStartHealth, firstStartHeals, firstStartPotions;
+    private final int secondStartHealth, secondStartHeals, secondStartPotions;
+    private final int firstMaxHealth, secondMaxHealth;
+    private final int minHeal, maxHeal;    // Range of the computer heal roll
+
+    // ====== Lane State ======
+
+    private final int[] firstHealth;
+    private final int[] firstHeals;
+    private final int[] firstPotions;
+    private final int[] secondHealth;
+    private final int[] secondHeals;
+    private final int[] secondPotions;
+    private final int[] turns;
+    private final byte[] outcome;
+    private final SplittableRandom[] random;
+    private int laneCount;
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a batch using the standard type chart
+     * @param first Prototype for the side that moves first
+     * @param second Prototype for the responding side
+     * @param capacity Maximum number of lanes
+     */
+    public BattleBatch(Pokemon first, Pokemon second, int capacity) {
+        this(first, second, capacity, TypeChart.STANDARD);
+    }
+
+    /**
+     * Creates a batch with a specific type chart
+     * @param first Prototype for the side that moves first
+     * @param second Prototype for the responding side
+     * @param capacity Maximum number of lanes
+     * @param chart Type chart used to precompute move damage
+     */
+    public BattleBatch(Pokemon first, Pokemon second, int capacity, TypeChart chart) {
+        this(first, second, capacity, chart, Constants.MIN_COMPUTER_HEAL, Constants.MAX_COMPUTER_HEAL);
+    }
+
+    /**
+     * Creates a batch with a specific type chart and computer heal range,
+     * used to try out balance changes without editing Constants
+     * @param first Prototype for the side that moves first
+     * @param second Prototype for the responding side
+     * @param capacity Maximum number of lanes
+     * @param chart Type chart used to precompute move damage
+     * @param minHeal Smallest HP restored by a heal
+     * @param maxHeal Largest HP restored by a heal
+     */
+    public BattleBatch(Pokemon first, Pokemon second, int capacity, TypeChart chart, int minHeal, int maxHeal) {
+        if (minHeal < 0 || maxHeal < minHeal) {
+            throw new IllegalArgumentException("Invalid heal range " + minHeal + "-" + maxHeal);
+        }
+        this.minHeal = minHeal;
+        this.maxHeal = maxHeal;
+        this.firstDamage = damageTable(first.moves, chart.multiplier(first, second));
+        this.firstAccuracy = accuracyTable(first.moves);
+        this.secondDamage = damageTable(second.moves, chart.multiplier(second, first));
+        this.secondAccuracy = accuracyTable(second.moves);
+        this.firstStartHealth = first.health;
+        this.firstStartHeals = first.healCount;
+        this.firstStartPotions = first.potions;
+        this.secondStartHealth = second.health;
+        this.secondStartHeals = second.healCount;
+        this.secondStartPotions = second.potions;
+        this.firstMaxHealth = first.maxHealth;
+        this.secondMaxHealth = second.maxHealth;
+
+        this.firstHealth = new int[capacity];
+        this.firstHeals = new int[capacity];
+        this.firstPotions = new int[capacity];
+        this.secondHealth = new int[capacity];
+        this.secondHeals = new int[capacity];
+        this.secondPotions = new int[capacity];
+        this.turns = new int[capacity];
+        this.outcome = new byte[capacity];
+        this.random = new SplittableRandom[capacity];
+    }
+
+    private static int[] damageTable(List<Move> moves, double multiplier) {
+        int[] damage = new int[moves.size()];
+        for (int i = 0; i < damage.length; i++) {
+            damage[i] = BattleRules.damage(moves.get(i).getBasePower(), multiplier);
+        }
+        return damage;
+    }
+
+    private static double[] accuracyTable(List<Move> moves) {
+        double[] accuracy = new double[moves.size()];
+        for (int i = 0; i < accuracy.length; i++) {
+            accuracy[i] = moves.get(i).getAccuracy();
+        }
+        return accuracy;
+    }
+
+    // ====== Batch Methods ======
+
+    /**
+     * Resets the first lanes to the prototypes' starting state
+     * @param lanes Number of lanes to use, up to the batch capacity
+     * @param source Generator split once per lane, in lane order
+     */
+    public void reset(int lanes, SplittableRandom source) {
+        if (lanes > outcome.length) {
+            throw new IllegalArgumentException("Batch capacity is " + outcome.length + ", requested " + lanes);
+        }
+        laneCount = lanes;
+        for (int lane = 0; lane < lanes; lane++) {
+            firstHealth[lane] = firstStartHealth;
+            firstHeals[lane] = firstStartHeals;
+            firstPotions[lane] = firstStartPotions;
+            secondHealth[lane] = secondStartHealth;
+            secondHeals[lane] = secondStartHeals;
+            secondPotions[lane] = secondStartPotions;
+            turns[lane] = 0;
+            outcome[lane] = RUNNING;
+            random[lane] = source.split();
+        }
+    }
+
+    /**
+     * Advances every lane one turn per sweep until all battles have finished
+     */
+    public void runAll() {
+        int running = laneCount;
+        while (running > 0) {
+            running = 0;
+            for (int lane = 0; lane < laneCount; lane++) {
+                if (outcome[lane] != RUNNING) continue;
+                step(lane);
+                if (outcome[lane] == RUNNING) running++;
+            }
+        }
+    }
+
+    /**
+     * Plays one turn for a lane, alternating sides starting with the first
+     */
+    private void step(int lane) {
+        SplittableRandom rng = random[lane];
+        if ((turns[lane] & 1) == 0) {
+            if (BattleRules.wantsComputerHeal(firstHealth[lane], firstHeals[lane], rng)) {
+                int heal = BattleRules.rollComputerHeal(minHeal, maxHeal, rng);
+                firstHealth[lane] += BattleRules.cappedHeal(firstHealth[lane], firstMaxHealth, heal);
+                firstHeals[lane]--;
+            } else {
+                int move = rng.nextInt(firstDamage.length);
+                if (BattleRules.rollHit(firstAccuracy[move], rng)) {
+                    secondHealth[lane] = Math.max(0, secondHealth[lane] - firstDamage[move]);
+                }
+            }
+            turns[lane]++;
+            if (secondHealth[lane] <= 0) outcome[lane] = FIRST_WON;
+        } else {
+            if (BattleRules.wantsComputerHeal(secondHealth[lane], secondHeals[lane], rng)) {
+                int heal = BattleRules.rollComputerHeal(minHeal, maxHeal, rng);
+                secondHealth[lane] += BattleRules.cappedHeal(secondHealth[lane], secondMaxHealth, heal);
+                secondHeals[lane]--;
+            } else {
+                int move = rng.nextInt(secondDamage.length);
+                if (BattleRules.rollHit(secondAccuracy[move], rng)) {
+                    firstHealth[lane] = Math.max(0, firstHealth[lane] - secondDamage[move]);
+                }
+            }
+            turns[lane]++;
+            if (firstHealth[lane] <= 0) outcome[lane] = SECOND_WON;
+        }
+    }
+
+    // ====== Result Methods ======
+
+    /**
+     * @return Number of lanes in use since the last reset
+     */
+    public int laneCount() {
+        return laneCount;
+    }
+
+    /**
+     * @return RUNNING, FIRST_WON or SECOND_WON for a lane
+     */
+    public byte outcome(int lane) {
+        return outcome[lane];
+    }
+
+    /**
+     * @return Turns taken so far in a lane
+     */
+    public int turns(int lane) {
+        return turns[lane];
+    }
+
+    /**
+     * @return Current health of the first side in a lane
+     */
+    public int firstHealth(int lane) {
+        return firstHealth[lane];
+    }
+
+    /**
+     * @return Current health of the second side in a lane
+     */
+    public int secondHealth(int lane) {
+        return secondHealth[lane];
+    }
+}
@@ -0,0 +1,253 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.MoveEffect;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.StatusEffect;
+import com.artefact.pokemon.battle.event.BattleEventLog;
+import com.artefact.pokemon.battle.event.BattleEventType;
+import com.artefact.utils.Constants;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * BattleEffects tracks the status effects and charging moves of one battle.
+ *
+ * Each side's effects are kept as running totals, such as the HP it loses per
+ * turn or how many sleep effects hold it, so starting a turn costs the same
+ * however many effects are stacked. Each effect also puts one entry on an
+ * EffectWheel for the turn it wears off, and a charging move puts one on for
+ * the turn it lands. Starting a turn only visits the entries due then.
+ *
+ * Turns are numbered across both sides, so a side's own turns are every
+ * other turn. An effect lasting n turns covers the defender's next n turns.
+ * A battle with no effects makes no extra random draws, so it plays out
+ * exactly as it did before effects existed.
+ */
+public final class BattleEffects implements EffectWheel.Expiry {
+
+    // ====== Class Fields ======
+
+    private static final int CHARGE = StatusEffect.count();  // Wheel entry kind for a charged move landing
+    private static final BattleEventType[] INFLICTED = {
+            BattleEventType.BURNED, BattleEventType.POISONED, BattleEventType.FELL_ASLEEP,
+            BattleEventType.PARALYSED, BattleEventType.SEEDED
+    };
+
+    private final BattleEventLog events;
+    private final EffectWheel wheel = new EffectWheel(Constants.EFFECT_WHEEL_SLOTS);
+    private final Pokemon[] sides = new Pokemon[2];
+    private final int[][] counts = new int[2][StatusEffect.count()];  // Active effects per side and kind
+    private final int[] damagePerTurn = new int[2];  // Burn and poison HP lost each turn
+    private final int[] leechPerTurn = new int[2];   // HP drained to the other side each turn
+    private final int[] charging = new int[2];       // Moves still charging
+    private final Move[] chargingMove = new Move[2]; // Most recent move being charged
+    private final Move[] released = new Move[2];     // Charged move landing this turn
+    private final int[] generation = new int[2];     // Bumped on a switch so the outgoing Pokemon's entries are ignored
+    private long turn;                               // Turns started so far
+
+    // ====== Constructor ======
+
+    /**
+     * Creates an effect tracker reporting to a battle's event log
+     * @param events Log that afflictions, status damage and lost turns are published to
+     */
+    public BattleEffects(BattleEventLog events) {
+        this.events = events;
+    }
+
+    /**
+     * Clears every effect, ready for a new battle
+     * @param first Pokemon on one side
+     * @param second Pokemon on the other side
+     */
+    public void reset(Pokemon first, Pokemon second) {
+        sides[0] = first;
+        sides[1] = second;
+        turn = 0;
+        wheel.clear();
+        for (int[] side : counts) Arrays.fill(side, 0);
+        Arrays.fill(damagePerTurn, 0);
+        Arrays.fill(leechPerTurn, 0);
+        Arrays.fill(charging, 0);
+        Arrays.fill(chargingMove, null);
+        Arrays.fill(released, null);
+        Arrays.fill(generation, 0);
+    }
+
+    /**
+     * Switches a side's Pokemon. Effects and charging moves on the outgoing
+     * Pokemon end, and their pending wheel entries are ignored when they fall due.
+     * @param outgoing Pokemon leaving the battle
+     * @param incoming Pokemon taking its place
+     */
+    public void replace(Pokemon outgoing, Pokemon incoming) {
+        int side = sideOf(outgoing);
+        sides[side] = incoming;
+        generation[side]++;
+        Arrays.fill(counts[side], 0);
+        damagePerTurn[side] = 0;
+        leechPerTurn[side] = 0;
+        charging[side] = 0;
+        chargingMove[side] = null;
+        released[side] = null;
+    }
+
+    // ====== Turn Methods ======
+
+    /**
+     * Starts a Pokemon's turn: expires effects that wear off, applies status
+     * damage and draining, then decides whether the Pokemon can act
+     * @param actor Pokemon whose turn it is
+     * @param random Random source for the current battle, drawn from only if the actor is paralysed
+     * @return true if the actor can act, false if it fainted, is asleep, is still charging or is paralysed this turn
+     */
+    public boolean startTurn(Pokemon actor, RandomGenerator random) {
+        turn++;
+        if (wheel.size() == 0) return true;  // No effects anywhere in the battle
+        wheel.advance(turn, this);
+
+        int side = sideOf(actor);
+        if (damagePerTurn[side] > 0) {
+            int damage = Math.min(damagePerTurn[side], actor.health);
+            actor.takeDamage(damage);
+            events.publish(BattleEventType.STATUS_DAMAGE, actor, null, null, damage, 1.0);
+        }
+        if (leechPerTurn[side] > 0) {
+            Pokemon other = sides[side ^ 1];
+            int drained = Math.min(leechPerTurn[side], actor.health);
+            actor.takeDamage(drained);
+            int healed = BattleRules.cappedHeal(other.health, other.maxHealth, drained);
+            other.health += healed;
+            events.publish(BattleEventType.LEECHED, other, actor, null, drained, 1.0);
+        }
+        if (!actor.isAlive()) {
+            events.publish(BattleEventType.FAINT, actor, sides[side ^ 1]);
+            return false;
+        }
+
+        if (released[side] != null) return true;
+        if (charging[side] > 0) {
+            events.publish(BattleEventType.CHARGING, actor, null, chargingMove[side], 0, 1.0);
+            return false;
+        }
+        if (counts[side][StatusEffect.SLEEP.ordinal()] > 0) {
+            events.publish(BattleEventType.ASLEEP, actor, null);
+            return false;
+        }
+        if (counts[side][StatusEffect.PARALYSIS.ordinal()] > 0
+                && random.nextDouble() < Constants.PARALYSIS_SKIP_CHANCE) {
+            events.publish(BattleEventType.FULLY_PARALYSED, actor, null);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Takes the charged move that lands on the actor's current turn
+     * @param actor Pokemon whose turn it is
+     * @return Move to resolve instead of choosing an action, or null if none is due
+     */
+    public Move takeReleasedMove(Pokemon actor) {
+        if (wheel.size() == 0 && released[0] == null && released[1] == null) return null;
+        int side = sideOf(actor);
+        Move move = released[side];
+        released[side] = null;
+        return move;
+    }
+
+    // ====== Effect Methods ======
+
+    /**
+     * Starts charging a move that lands after the attacker's next few turns
+     * @param attacker Pokemon using the move
+     * @param move Move with a charging delay
+     */
+    public void startCharge(Pokemon attacker, Move move) {
+        int side = sideOf(attacker);
+        charging[side]++;
+        chargingMove[side] = move;
+        wheel.schedule(turn + 2L * move.getChargeTurns(), CHARGE, entrySide(side), 0, move);
+        events.publish(BattleEventType.CHARGING, attacker, null, move, 0, 1.0);
+    }
+
+    /**
+     * Rolls whether a hit inflicts its move's effect, and applies it if so
+     * @param attacker Pokemon that used the move
+     * @param defender Pokemon that was hit
+     * @param move Move that hit, with a status effect
+     * @param random Random source for the current battle, drawn from only if the effect is not certain
+     */
+    public void inflict(Pokemon attacker, Pokemon defender, Move move, RandomGenerator random) {
+        MoveEffect effect = move.getEffect();
+        if (effect.chance() < 1.0 && random.nextDouble() >= effect.chance()) return;
+
+        int side = sideOf(defender);
+        apply(effect.status(), side, effect.potency(), 1);
+        wheel.schedule(turn + 2L * effect.turns(), effect.status().ordinal(), entrySide(side), effect.potency(), null);
+        events.publish(INFLICTED[effect.status().ordinal()], defender, attacker, move, effect.potency(), 1.0);
+    }
+
+    /**
+     * @param attacker Pokemon dealing damage
+     * @return Multiplier for the damage it deals, reduced while it is burned
+     */
+    public double attackMultiplier(Pokemon attacker) {
+        if (wheel.size() == 0) return 1.0;
+        return counts[sideOf(attacker)][StatusEffect.BURN.ordinal()] > 0 ? Constants.BURN_ATTACK_MULTIPLIER : 1.0;
+    }
+
+    /**
+     * @param pokemon Pokemon in this battle
+     * @param status Status effect to check for
+     * @return Number of active effects of that kind on the Pokemon
+     */
+    public int activeCount(Pokemon pokemon, StatusEffect status) {
+        return counts[sideOf(pokemon)][status.ordinal()];
+    }
+
+    /**
+     * @return Number of effects and charging moves still waiting to expire or land
+     */
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    @Override
+    public void expire(int kind, int entry, int amount, Move move) {
+        int side = entry & 1;
+        if (entry >>> 1 != generation[side]) return;  // Scheduled for a Pokemon that has since switched out
+        if (kind == CHARGE) {
+            charging[side]--;
+            released[side] = move;
+        } else {
+            apply(StatusEffect.fromOrdinal(kind), side, amount, -1);
+        }
+    }
+
+    // ====== Internal Methods ======
+
+    /**
+     * Adds an effect to, or with a sign of -1 removes it from, a side's totals
+     */
+    private void apply(StatusEffect status, int side, int potency, int sign) {
+        counts[side][status.ordinal()] += sign;
+        switch (status) {
+            case BURN, POISON -> damagePerTurn[side] += sign * potency;
+            case LEECH -> leechPerTurn[side] += sign * potency;
+            default -> { }
+        }
+    }
+
+    /**
+     * Packs a side and its current generation into a wheel entry's side field
+     */
+    private int entrySide(int side) {
+        return generation[side] << 1 | side;
+    }
+
+    private int sideOf(Pokemon pokemon) {
+        return pokemon == sides[0] ? 0 : 1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.utils.Constants;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * BattleRules is the single source of truth for damage, healing and
+ * computer healing decisions. The interactive battler, the simulators and
+ * the search-based opponents all call through here, so they can never
+ * disagree about how a turn plays out.
+ * Random draws happen in the same order everywhere, which keeps seeded
+ * battles identical across engines.
+ */
+public final class BattleRules {
+    // Prevent instantiation
+    private BattleRules() {
+        throw new UnsupportedOperationException("This utility class should not be instantiated");
+    }
+
+    // ====== Damage Rules ======
+
+    /**
+     * Calculates damage dealt by a successful hit
+     * @param basePower Base power of the move
+     * @param typeMultiplier Type effectiveness multiplier
+     * @return Damage to apply to the defender
+     */
+    public static int damage(int basePower, double typeMultiplier) {
+        return (int)(basePower * typeMultiplier);
+    }
+
+    /**
+     * Rolls whether a move hits
+     * @param accuracy Hit probability of the move (0.0 to 1.0)
+     * @param random Random source for the current battle
+     * @return true if the move hits
+     */
+    public static boolean rollHit(double accuracy, RandomGenerator random) {
+        return random.nextDouble() <= accuracy;
+    }
+
+    // ====== Healing Rules ======
+
+    /**
+     * Caps a heal so health never exceeds the Pokemon's maximum
+     * @param health Current health points
+     * @param maxHealth Health the Pokemon started the battle with
+     * @param amount Requested heal amount
+     * @return HP actually recovered, never negative
+     */
+    public static int cappedHeal(int health, int maxHealth, int amount) {
+        return Math.max(0, Math.min(amount, maxHealth - health));
+    }
+
+    /**
+     * @return HP restored by a potion before capping
+     */
+    public static int potionHealAmount() {
+        return Constants.BASE_HEAL_AMOUNT;
+    }
+
+    /**
+     * Rolls the HP restored by a computer heal before capping
+     * @param random Random source for the current battle
+     * @return Amount between MIN_COMPUTER_HEAL and MAX_COMPUTER_HEAL inclusive
+     */
+    public static int rollComputerHeal(RandomGenerator random) {
+        return rollComputerHeal(Constants.MIN_COMPUTER_HEAL, Constants.MAX_COMPUTER_HEAL, random);
+    }
+
+    /**
+     * Rolls a computer heal from a custom range, using the same single draw
+     * as the standard roll so tuned battles stay in step with normal ones
+     * @param minHeal Smallest possible heal
+     * @param maxHeal Largest possible heal
+     * @param random Random source for the current battle
+     * @return Amount between minHeal and maxHeal inclusive
+     */
+    public static int rollComputerHeal(int minHeal, int maxHeal, RandomGenerator random) {
+        return random.nextInt(maxHeal - minHeal + 1) + minHeal;
+    }
+
+    /**
+     * Decides whether the default computer policy heals this turn.
+     * The chance roll only happens when the computer is low and has heals left.
+     * @param health Computer's current health
+     * @param healCount Computer's remaining heals
+     * @param random Random source for the current battle
+     * @return true if the computer should heal instead of attacking
+     */
+    public static boolean wantsComputerHeal(int health, int healCount, RandomGenerator random) {
+        return health < Constants.COMPUTER_HEAL_THRESHOLD && healCount > 0
+                && random.nextDouble() < Constants.COMPUTER_HEAL_CHANCE;
+    }
+}
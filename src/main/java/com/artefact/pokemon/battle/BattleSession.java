@@ -0,0 +1,456 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.jfr.BattleFlightEvent;
+import com.artefact.jfr.HealFlightEvent;
+import com.artefact.jfr.TurnFlightEvent;
+import com.artefact.metrics.Metrics;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.ai.MctsOpponentStrategy;
+import com.artefact.pokemon.battle.event.BattleEventLog;
+import com.artefact.pokemon.battle.event.BattleEventPublisher;
+import com.artefact.pokemon.battle.event.BattleEventSnapshot;
+import com.artefact.pokemon.battle.event.BattleEventType;
+import com.artefact.pokemon.battle.event.SpectatorDispatcher;
+import com.artefact.pokemon.history.BattleRecord;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.pokemon.team.Team;
+import com.artefact.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * BattleSession is one player-vs-computer battle driven by discrete actions
+ * instead of console input, for hosting many battles in one process.
+ * Each session owns its Pokemon, random source and headless PokemonBattler,
+ * so sessions share no mutable state. All methods are synchronized on the
+ * session; readers that need a consistent view should hold its lock.
+ *
+ * A team session gives each side a Team. The computer replaces a fainted
+ * Pokemon at once; when the player's faints, the battle waits for a switch.
+ *
+ * Any number of spectators can watch a session's events as they happen. The
+ * publisher that serves them is only created when the first one joins.
+ */
+public class BattleSession {
+
+    /**
+     * Where the battle stands from the player's point of view
+     */
+    public enum Status {
+        ONGOING,
+        WON,
+        LOST,
+        SURRENDERED
+    }
+
+    // ====== Class Fields ======
+
+    private final String id;
+    private final PokemonBattler battler;  // Headless battler holding this session's event log
+    private final SplittableRandom random;
+    private final Team playerTeam;          // Player's team, or null for a one-on-one battle
+    private final Team computerTeam;
+    private Pokemon player;                 // Player's active Pokemon
+    private Pokemon computer;               // Computer's active Pokemon
+    private boolean awaitingSwitch;         // Player's Pokemon fainted and a replacement is needed
+    private boolean computerMovesAfterSwitch;  // The computer's turn is still to come once the player switches
+    private Status status = Status.ONGOING;
+    private int turns;
+    private final long startNanos;          // When the battle began, for the duration metric
+    private final BattleFlightEvent flight = new BattleFlightEvent();  // Spans the whole battle
+    private BattleEventPublisher spectators;  // Created when the first spectator joins
+    private volatile long lastAccessNanos;  // Read without the lock by idle eviction
+
+    // ====== Constructor ======
+
+    /**
+     * Starts a new battle
+     * @param id Identifier clients use to refer to the session
+     * @param starter Player's starter: 1 Charizard, 2 Blastoise, 3 Venusaur
+     * @param hard true to use the search-based opponent
+     * @param seed Seed for the opponent choice and every dice roll
+     * @throws IllegalArgumentException If the starter choice is out of range
+     */
+    public BattleSession(String id, int starter, boolean hard, long seed) {
+        this(id, starter, hard, seed, false);
+    }
+
+    /**
+     * Starts a new one-on-one or team battle. A team battle gives the player
+     * the starter plus randomly drawn teammates, and the computer a random team.
+     * @param id Identifier clients use to refer to the session
+     * @param starter Player's starter, or team lead: 1 Charizard, 2 Blastoise, 3 Venusaur
+     * @param hard true to use the search-based opponent
+     * @param seed Seed for the opponents and every dice roll
+     * @param team true for a team battle
+     * @throws IllegalArgumentException If the starter choice is out of range
+     */
+    public BattleSession(String id, int starter, boolean hard, long seed, boolean team) {
+        this(id, starter, hard, seed, team, false);
+    }
+
+    /**
+     * Starts a new battle, optionally with status moves. With status moves on,
+     * every Pokemon on both sides also learns its type's status moves.
+     * @param id Identifier clients use to refer to the session
+     * @param starter Player's starter, or team lead: 1 Charizard, 2 Blastoise, 3 Venusaur
+     * @param hard true to use the search-based opponent
+     * @param seed Seed for the opponents and every dice roll
+     * @param team true for a team battle
+     * @param statusMoves true to add the status moves
+     * @throws IllegalArgumentException If the starter choice is out of range
+     */
+    public BattleSession(String id, int starter, boolean hard, long seed, boolean team, boolean statusMoves) {
+        Pokemon chosen = PokemonBattler.createStarter(starter);
+        if (chosen == null) {
+            throw new IllegalArgumentException("Starter must be 1, 2 or 3");
+        }
+        this.id = id;
+        this.random = new SplittableRandom(seed);
+        this.battler = PokemonBattler.headless(random.nextLong());
+        if (hard) {
+            // One search thread per session keeps many concurrent sessions from oversubscribing the CPU
+            battler.setOpponentStrategy(new MctsOpponentStrategy(
+                    Constants.MCTS_TURN_BUDGET_MS, 1, ForkJoinPool.commonPool()));
+        }
+        SpeciesRegistry registry = SpeciesRegistry.standard();
+        if (team) {
+            this.playerTeam = Team.random(registry, registry.get(chosen.name), Constants.TEAM_SIZE, random);
+            this.computerTeam = Team.random(registry, Constants.TEAM_SIZE, random);
+            if (statusMoves) {
+                playerTeam.withStatusMoves();
+                computerTeam.withStatusMoves();
+            }
+            this.player = playerTeam.active();
+            this.computer = computerTeam.active();
+        } else {
+            this.playerTeam = null;
+            this.computerTeam = null;
+            this.player = chosen;
+            this.computer = battler.generateOpponent(player);
+            if (statusMoves) {
+                registry.teachStatusMoves(player);
+                registry.teachStatusMoves(computer);
+            }
+        }
+        battler.resetEffects(player, computer);
+        battler.getEventLog().publish(BattleEventType.START, player, computer);
+        Metrics.BATTLES_STARTED.increment();
+        this.startNanos = System.nanoTime();
+        flight.begin();
+        touch();
+    }
+
+    // ====== Player Actions ======
+
+    /**
+     * Attacks with one of the player's moves, then lets the computer respond
+     * @param moveIndex Index into the player's move list
+     * @throws IllegalArgumentException If the move index is out of range
+     * @throws IllegalStateException If the battle is over or a fainted Pokemon needs replacing
+     */
+    public synchronized void attack(int moveIndex) {
+        checkReady();
+        if (moveIndex < 0 || moveIndex >= player.moves.size()) {
+            throw new IllegalArgumentException("Move must be between 1 and " + player.moves.size());
+        }
+        if (battler.beginTurn(player, computer, random)) {
+            battler.executeMove(player, computer, player.moves.get(moveIndex), random);
+        }
+        finishTurn();
+    }
+
+    /**
+     * Uses a potion, then lets the computer respond.
+     * Like the console battle, trying with no potions left still uses the turn.
+     * @throws IllegalStateException If the battle is over or a fainted Pokemon needs replacing
+     */
+    public synchronized void usePotion() {
+        checkReady();
+        if (!battler.beginTurn(player, computer, random)) {
+            finishTurn();  // Asleep, charging or paralysed, so the potion stays unused
+            return;
+        }
+        HealFlightEvent heal = new HealFlightEvent();
+        heal.begin();
+        int healAmount = player.usePotion();
+        BattleEventLog events = battler.getEventLog();
+        if (healAmount >= 0) {
+            events.publish(BattleEventType.POTION, player, null, null, healAmount, 1.0);
+        } else {
+            events.publish(BattleEventType.NO_POTION, player, null);
+        }
+        PokemonBattler.commitHeal(heal, player, true, healAmount, player.potions);
+        finishTurn();
+    }
+
+    /**
+     * Ends the battle as a loss for the player
+     * @throws IllegalStateException If the battle is over
+     */
+    public synchronized void surrender() {
+        checkOngoing();
+        battler.getEventLog().publish(BattleEventType.SURRENDER, player, computer);
+        turns++;
+        end(Status.SURRENDERED);
+        touch();
+    }
+
+    /**
+     * Sends out another member of the player's team. Switching uses the
+     * player's turn, except when replacing a Pokemon that has fainted.
+     * @param member Index of the team member to send out
+     * @throws IllegalArgumentException If the member has fainted, is already in battle or is out of range
+     * @throws IllegalStateException If the battle is over or is not a team battle
+     */
+    public synchronized void switchTo(int member) {
+        checkOngoing();
+        if (playerTeam == null) {
+            throw new IllegalStateException("Switching is only possible in a team battle");
+        }
+        if (!playerTeam.canSwitchTo(member)) {
+            throw new IllegalArgumentException("Team member " + (member + 1) + " can't be sent out");
+        }
+        if (awaitingSwitch) {
+            awaitingSwitch = false;
+            player = battler.switchMember(playerTeam, member);
+            if (computerMovesAfterSwitch) computerTurn();
+            return;
+        }
+        if (battler.beginTurn(player, computer, random)) {
+            player = battler.switchMember(playerTeam, member);
+        }
+        finishTurn();
+    }
+
+    private void checkOngoing() {
+        touch();
+        if (status != Status.ONGOING) {
+            throw new IllegalStateException("Battle is already over");
+        }
+    }
+
+    /**
+     * Checks the player can take an ordinary turn, rather than having to replace a fainted Pokemon
+     */
+    private void checkReady() {
+        checkOngoing();
+        if (awaitingSwitch) {
+            throw new IllegalStateException("Choose a Pokemon to replace " + player.name);
+        }
+    }
+
+    /**
+     * Ends the player's turn and, unless the battle is over or waiting for
+     * the player to replace a fainted Pokemon, plays the computer's turn
+     */
+    private void finishTurn() {
+        turns++;
+        if (settle(true)) computerTurn();
+    }
+
+    private void computerTurn() {
+        long turnStart = System.nanoTime();
+        TurnFlightEvent turn = new TurnFlightEvent();
+        turn.begin();
+        battler.handleComputerTurn(computer, player, random);
+        turns++;
+        PokemonBattler.commitTurn(turn, turns, computer, true);
+        Metrics.COMPUTER_TURN_SECONDS.recordSince(turnStart);
+        settle(false);
+    }
+
+    /**
+     * Deals with fainted Pokemon: the computer sends out a replacement, the
+     * player is asked for one, and a side with none left loses
+     * @param computerToMove true if the computer's turn comes next
+     * @return true if the battle can carry on straight away
+     */
+    private boolean settle(boolean computerToMove) {
+        if (!player.isAlive()) {
+            if (playerTeam != null && !playerTeam.isDefeated()) {
+                awaitingSwitch = true;
+                computerMovesAfterSwitch = computerToMove;
+                return false;
+            }
+            battler.getEventLog().publish(BattleEventType.WIN, computer, player);
+            end(Status.LOST);
+            return false;
+        }
+        if (!computer.isAlive()) {
+            if (computerTeam != null && battler.replaceFainted(computerTeam, playerTeam)) {
+                computer = computerTeam.active();
+                return true;
+            }
+            battler.getEventLog().publish(BattleEventType.WIN, player, computer);
+            end(Status.WON);
+            return false;
+        }
+        return true;
+    }
+
+    private void end(Status outcome) {
+        status = outcome;
+        if (spectators != null) spectators.close();
+        (outcome == Status.SURRENDERED ? Metrics.BATTLES_SURRENDERED : Metrics.BATTLES_FINISHED).increment();
+        Metrics.BATTLE_SECONDS.recordSince(startNanos);
+        Metrics.BATTLE_TURNS.record(turns);
+        flight.end();
+        if (flight.shouldCommit()) {
+            flight.player = player.name;
+            flight.opponent = computer.name;
+            flight.outcome = outcome.name().toLowerCase();
+            flight.turns = turns;
+            flight.commit();
+        }
+    }
+
+    // ====== Spectating ======
+
+    /**
+     * Adds a spectator that receives every event published from now on, served
+     * by a dispatcher thread of the session's own
+     * @param subscriber Spectator to add
+     */
+    public void spectate(Flow.Subscriber<? super BattleEventSnapshot> subscriber) {
+        spectate(subscriber, null);
+    }
+
+    /**
+     * Adds a spectator that receives every event published from now on.
+     * Spectators are completed when the battle ends or the session is closed,
+     * and one that joins after that is completed straight away.
+     * @param subscriber Spectator to add
+     * @param dispatcher Dispatcher shared with other sessions, or null for one of
+     *                   the session's own; only used when the first spectator joins
+     */
+    public synchronized void spectate(Flow.Subscriber<? super BattleEventSnapshot> subscriber,
+                                      SpectatorDispatcher dispatcher) {
+        touch();
+        if (spectators == null) {
+            spectators = dispatcher == null
+                    ? new BattleEventPublisher(Constants.SPECTATOR_RING_CAPACITY,
+                            Constants.SPECTATOR_BUFFER_SIZE, BattleEventPublisher.OverflowPolicy.DROP_OLDEST)
+                    : new BattleEventPublisher(Constants.SPECTATOR_RING_CAPACITY,
+                            Constants.SPECTATOR_BUFFER_SIZE, BattleEventPublisher.OverflowPolicy.DROP_OLDEST,
+                            dispatcher);
+            if (status == Status.ONGOING) {
+                battler.getEventLog().addSink(spectators);
+            } else {
+                spectators.close();
+            }
+        }
+        spectators.subscribe(subscriber);
+    }
+
+    /**
+     * Completes every spectator. Call once the session is discarded.
+     */
+    public synchronized void close() {
+        if (spectators != null) spectators.close();
+    }
+
+    // ====== State Methods ======
+
+    /**
+     * Marks the session as used now
+     */
+    public void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * @return System.nanoTime() of the last action or read
+     */
+    public long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * @return Identifier of this session
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return Current status of the battle
+     */
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Turns taken by both sides so far
+     */
+    public synchronized int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @return Player's active Pokemon; hold the session lock while reading it
+     */
+    public Pokemon getPlayer() {
+        return player;
+    }
+
+    /**
+     * @return Computer's active Pokemon; hold the session lock while reading it
+     */
+    public Pokemon getComputer() {
+        return computer;
+    }
+
+    /**
+     * @return Player's team, or null for a one-on-one battle; hold the session lock while reading it
+     */
+    public Team getPlayerTeam() {
+        return playerTeam;
+    }
+
+    /**
+     * @return Computer's team, or null for a one-on-one battle; hold the session lock while reading it
+     */
+    public Team getComputerTeam() {
+        return computerTeam;
+    }
+
+    /**
+     * @return true if the player's Pokemon has fainted and the next action must be a switch
+     */
+    public synchronized boolean isAwaitingSwitch() {
+        return awaitingSwitch;
+    }
+
+    /**
+     * @param limit Maximum number of events to return
+     * @return Descriptions of the most recent events, oldest first
+     */
+    public synchronized List<String> recentEvents(int limit) {
+        BattleEventLog events = battler.getEventLog();
+        int size = events.size();
+        List<String> recent = new ArrayList<>(Math.min(limit, size));
+        for (int i = Math.max(0, size - limit); i < size; i++) {
+            recent.add(events.get(i).describe());
+        }
+        return recent;
+    }
+
+    /**
+     * Builds a history record once the battle is over
+     * @return Record with the winner first
+     * @throws IllegalStateException If the battle is still going
+     */
+    public synchronized BattleRecord toRecord() {
+        if (status == Status.ONGOING) {
+            throw new IllegalStateException("Battle is still in progress");
+        }
+        return status == Status.WON
+                ? battler.toRecord(player, computer)
+                : battler.toRecord(computer, player);
+    }
+}
@@ -0,0 +1,349 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.PokemonPool;
+import com.artefact.pokemon.ai.OpponentStrategy;
+import com.artefact.pokemon.ai.RandomOpponentStrategy;
+import com.artefact.pokemon.species.Species;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.pokemon.team.Team;
+import com.artefact.utils.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * BattleSimulator runs large numbers of computer-vs-computer battles headlessly.
+ * Work is split across a fork-join pool, with each leaf task driving its own
+ * headless PokemonBattler so the real turn, damage and heal logic is reused.
+ * Every task splits its own random source from its parent, so a seeded run
+ * produces identical results however the pool schedules the work.
+ * The batched mode runs the same battles on a struct-of-arrays BattleBatch
+ * and, for the same seed, produces exactly the same report. Team battles
+ * run through the same tasks, with each leaf reusing one copy of each team.
+ */
+public class BattleSimulator {
+
+    // ====== Class Fields ======
+
+    private static final int BATTLES_PER_TASK = 2_000;  // Leaf size before tasks stop splitting
+    private static final int DEFAULT_BATTLES = 1_000_000;
+
+    private static final OpponentStrategy DEFAULT_STRATEGY = new RandomOpponentStrategy();
+    private static final ThreadLocal<PokemonBattler> HEADLESS = ThreadLocal.withInitial(PokemonBattler::headless);
+
+    private final ForkJoinPool pool;
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a simulator backed by the common fork-join pool
+     */
+    public BattleSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator backed by the given pool
+     * @param pool Fork-join pool to run battles on
+     */
+    public BattleSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // ====== Simulation Methods ======
+
+    /**
+     * Simulates battles between two Pokemon, with the first always moving first.
+     * Each worker reuses pooled Pokemon and restores them between battles to
+     * the health, potions and heals their supplier gave them, so a supplier
+     * should return every Pokemon in the same state.
+     * @param first Supplier of the Pokemon that takes the opening turn
+     * @param second Supplier of the responding Pokemon
+     * @param battles Number of battles to run
+     * @return Report containing win counts, turn totals and timing
+     */
+    public SimulationReport simulate(Supplier<? extends Pokemon> first,
+                                     Supplier<? extends Pokemon> second, int battles) {
+        return simulate(first, second, battles, new SplittableRandom());
+    }
+
+    /**
+     * Simulates battles reproducibly; the same seed always yields the same results
+     * @param first Supplier of the Pokemon that takes the opening turn
+     * @param second Supplier of the responding Pokemon
+     * @param battles Number of battles to run
+     * @param seed Seed for the root random source
+     * @return Report containing win counts, turn totals and timing
+     */
+    public SimulationReport simulate(Supplier<? extends Pokemon> first,
+                                     Supplier<? extends Pokemon> second, int battles, long seed) {
+        return simulate(first, second, battles, new SplittableRandom(seed));
+    }
+
+    private SimulationReport simulate(Supplier<? extends Pokemon> first, Supplier<? extends Pokemon> second,
+                                      int battles, SplittableRandom random) {
+        LeafRunner runner = (count, leafRandom) -> runBattles(first, second, count, leafRandom);
+        return run(first.get().name, second.get().name, battles, random, runner);
+    }
+
+    /**
+     * Simulates battles on the struct-of-arrays engine. Every battle starts
+     * from the prototypes' current health, heals and potions.
+     * @param first Prototype of the Pokemon that takes the opening turn
+     * @param second Prototype of the responding Pokemon
+     * @param battles Number of battles to run
+     * @param seed Seed for the root random source
+     * @return Report containing win counts, turn totals and timing
+     */
+    public SimulationReport simulateBatched(Pokemon first, Pokemon second, int battles, long seed) {
+        LeafRunner runner = (count, leafRandom) -> runBatch(first, second, count, leafRandom);
+        return run(first.name, second.name, battles, new SplittableRandom(seed), runner);
+    }
+
+    /**
+     * Simulates team battles reproducibly, with the first team always moving first
+     * @param first Team that takes the opening turn; it is copied, not changed
+     * @param second Responding team; it is copied, not changed
+     * @param battles Number of battles to run
+     * @param seed Seed for the root random source
+     * @return Report containing win counts, turn totals and timing
+     */
+    public SimulationReport simulateTeams(Team first, Team second, int battles, long seed) {
+        LeafRunner runner = (count, leafRandom) -> runTeamBattles(first, second, count, leafRandom);
+        return run(first.toString(), second.toString(), battles, new SplittableRandom(seed), runner);
+    }
+
+    private SimulationReport run(String firstName, String secondName, int battles,
+                                 SplittableRandom random, LeafRunner runner) {
+        if (battles < 0) {
+            throw new IllegalArgumentException("Battle count cannot be negative: " + battles);
+        }
+
+        long start = System.nanoTime();
+        Tally tally = pool.invoke(new SimulationTask(runner, battles, random));
+        long elapsed = System.nanoTime() - start;
+
+        return new SimulationReport(firstName, secondName, battles,
+                tally.firstWins, tally.secondWins, tally.turns, elapsed);
+    }
+
+    // ====== Leaf Runners ======
+
+    /**
+     * Runs a sequential block of battles for a leaf task
+     */
+    @FunctionalInterface
+    private interface LeafRunner {
+        Tally run(int battles, SplittableRandom random);
+    }
+
+    /**
+     * Runs battles through the worker's headless PokemonBattler, reusing one
+     * pooled pair of Pokemon and restoring them after every battle
+     */
+    private static Tally runBattles(Supplier<? extends Pokemon> first, Supplier<? extends Pokemon> second,
+                                    int battles, SplittableRandom random) {
+        PokemonBattler battler = HEADLESS.get();
+        PokemonPool pokemonPool = PokemonPool.forThread();
+        Pokemon a = pokemonPool.acquire(first);
+        Pokemon b = pokemonPool.acquire(second);
+        Tally tally = new Tally();
+
+        for (int i = 0; i < battles; i++) {
+            tally.turns += battler.simulateBattle(a, b, random.split());
+            if (a.isAlive()) {
+                tally.firstWins++;
+            } else {
+                tally.secondWins++;
+            }
+            pokemonPool.reset(first, a);
+            pokemonPool.reset(second, b);
+        }
+
+        pokemonPool.release(first, a);
+        pokemonPool.release(second, b);
+        return tally;
+    }
+
+    /**
+     * Runs team battles through the worker's headless PokemonBattler on one
+     * copy of each team, resetting both after every battle
+     */
+    private static Tally runTeamBattles(Team first, Team second, int battles, SplittableRandom random) {
+        PokemonBattler battler = HEADLESS.get();
+        Team a = first.copy();
+        Team b = second.copy();
+        Tally tally = new Tally();
+
+        for (int i = 0; i < battles; i++) {
+            tally.turns += battler.simulateTeamBattle(a, b, random.split());
+            if (a.isDefeated()) {
+                tally.secondWins++;
+            } else {
+                tally.firstWins++;
+            }
+            a.reset();
+            b.reset();
+        }
+        return tally;
+    }
+
+    /**
+     * Runs battles as lanes of a BattleBatch, splitting one generator per lane
+     * in the same order runBattles splits one per battle
+     */
+    private static Tally runBatch(Pokemon first, Pokemon second, int battles, SplittableRandom random) {
+        BattleBatch batch = new BattleBatch(first, second, battles);
+        batch.reset(battles, random);
+        batch.runAll();
+
+        Tally tally = new Tally();
+        for (int lane = 0; lane < battles; lane++) {
+            tally.turns += batch.turns(lane);
+            if (batch.outcome(lane) == BattleBatch.FIRST_WON) {
+                tally.firstWins++;
+            } else {
+                tally.secondWins++;
+            }
+        }
+        return tally;
+    }
+
+    // ====== Single Battle Methods ======
+
+    /**
+     * Plays one headless battle on the calling thread, for callers that
+     * schedule their own battles, such as tournaments
+     * @param first Pokemon that takes the opening turn; its state is changed by the battle
+     * @param second Responding Pokemon; its state is changed by the battle
+     * @param random Random source for this battle
+     * @return true if the first Pokemon won
+     */
+    public static boolean playBattle(Pokemon first, Pokemon second, RandomGenerator random) {
+        HEADLESS.get().simulateBattle(first, second, random);
+        return first.isAlive();
+    }
+
+    /**
+     * Plays one headless battle on the calling thread with both sides choosing
+     * their actions through the given strategy, for callers such as self-play
+     * training that control or observe every decision
+     * @param first Pokemon that takes the opening turn; its state is changed by the battle
+     * @param second Responding Pokemon; its state is changed by the battle
+     * @param strategy Strategy asked for each side's action, with the acting Pokemon as the computer
+     * @param random Random source for this battle
+     * @return true if the first Pokemon won
+     */
+    public static boolean playBattle(Pokemon first, Pokemon second, OpponentStrategy strategy,
+                                     RandomGenerator random) {
+        PokemonBattler battler = HEADLESS.get();
+        battler.setOpponentStrategy(strategy);
+        try {
+            battler.simulateBattle(first, second, random);
+        } finally {
+            battler.setOpponentStrategy(DEFAULT_STRATEGY);
+        }
+        return first.isAlive();
+    }
+
+    // ====== Fork-Join Tasks ======
+
+    /**
+     * Running totals for a range of simulated battles
+     */
+    private static final class Tally {
+        long firstWins;
+        long secondWins;
+        long turns;
+
+        Tally merge(Tally other) {
+            firstWins += other.firstWins;
+            secondWins += other.secondWins;
+            turns += other.turns;
+            return this;
+        }
+    }
+
+    /**
+     * Splits the battle count in half until it reaches the leaf size,
+     * then hands the remaining battles to the leaf runner.
+     * Each battle gets its own generator split from the task's random source.
+     */
+    private static final class SimulationTask extends RecursiveTask<Tally> {
+        private final LeafRunner runner;
+        private final int battles;
+        private final SplittableRandom random;
+
+        SimulationTask(LeafRunner runner, int battles, SplittableRandom random) {
+            this.runner = runner;
+            this.battles = battles;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (battles <= BATTLES_PER_TASK) {
+                return runner.run(battles, random);
+            }
+
+            int half = battles / 2;
+            SimulationTask left = new SimulationTask(runner, half, random.split());
+            SimulationTask right = new SimulationTask(runner, battles - half, random);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+
+    // ====== Command Line Entry Point ======
+
+    /**
+     * Simulates every ordered pairing of the starter Pokemon and prints a report for each,
+     * or with --teams, two randomly drawn teams against each other in both orders
+     * @param args Optional --teams, then an optional number of battles per pairing
+     *             (defaults to one million), followed by an optional seed for a reproducible run
+     */
+    public static void main(String[] args) {
+        boolean teams = args.length > 0 && args[0].equals("--teams");
+        if (teams) args = Arrays.copyOfRange(args, 1, args.length);
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATTLES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : new SplittableRandom().nextLong();
+
+        if (teams) {
+            simulateRandomTeams(battles, seed);
+            return;
+        }
+
+        List<Pokemon> starters = SpeciesRegistry.standard().species().stream()
+                .map(Species::create)
+                .toList();
+
+        BattleSimulator simulator = new BattleSimulator();
+        System.out.printf("Simulating %,d battles per pairing on %d threads (seed %d)%n",
+                battles, simulator.pool.getParallelism(), seed);
+
+        for (Pokemon first : starters) {
+            for (Pokemon second : starters) {
+                if (first == second) continue;
+                System.out.println(simulator.simulateBatched(first, second, battles, seed));
+            }
+        }
+    }
+
+    private static void simulateRandomTeams(int battles, long seed) {
+        SplittableRandom draws = new SplittableRandom(seed);
+        Team first = Team.random(SpeciesRegistry.standard(), Constants.TEAM_SIZE, draws);
+        Team second = Team.random(SpeciesRegistry.standard(), Constants.TEAM_SIZE, draws);
+
+        BattleSimulator simulator = new BattleSimulator();
+        System.out.printf("Simulating %,d team battles per order on %d threads (seed %d)%n",
+                battles, simulator.pool.getParallelism(), seed);
+        System.out.println(simulator.simulateTeams(first, second, battles, seed));
+        System.out.println(simulator.simulateTeams(second, first, battles, seed));
+    }
+}
@@ -0,0 +1,157 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.pokemon.Move;
+
+import java.util.Arrays;
+
+/**
+ * EffectWheel is a hashed timing wheel of timed battle entries keyed by turn
+ * number. Each turn maps to a slot, so advancing to a turn only visits the
+ * entries in that slot, not every entry that is still pending. Entries due
+ * more than one revolution ahead wait in their slot until their turn comes
+ * round.
+ *
+ * Entries live in parallel primitive arrays linked into per-slot lists, and
+ * freed entries are reused, so scheduling allocates nothing once the arrays
+ * have grown to the battle's needs.
+ */
+final class EffectWheel {
+
+    /**
+     * Receives each entry as it falls due
+     */
+    interface Expiry {
+        void expire(int kind, int side, int amount, Move move);
+    }
+
+    // ====== Class Fields ======
+
+    private static final int NONE = -1;
+
+    private final int[] heads;  // First entry in each slot, or NONE
+    private final int mask;
+    private int[] next;         // Next entry in the same slot, or in the free list
+    private long[] due;         // Turn each entry falls due on
+    private int[] kind;
+    private int[] side;
+    private int[] amount;
+    private Move[] moves;
+    private int free = NONE;    // First reusable entry
+    private int used;           // Entries ever handed out; later ones have never been used
+    private int size;           // Entries currently scheduled
+
+    // ====== Constructor ======
+
+    /**
+     * Creates an empty wheel
+     * @param slots Minimum number of slots, rounded up to a power of two
+     */
+    EffectWheel(int slots) {
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.heads = new int[size];
+        this.mask = size - 1;
+        Arrays.fill(heads, NONE);
+        allocate(16);
+    }
+
+    // ====== Scheduling ======
+
+    /**
+     * Schedules an entry
+     * @param turn Turn the entry falls due on
+     * @param kind Caller-defined entry kind
+     * @param side Side the entry applies to
+     * @param amount Caller-defined amount
+     * @param move Move the entry carries, or null
+     */
+    void schedule(long turn, int kind, int side, int amount, Move move) {
+        int entry;
+        if (free != NONE) {
+            entry = free;
+            free = next[entry];
+        } else {
+            if (used == due.length) allocate(used * 2);
+            entry = used++;
+        }
+
+        int slot = (int) (turn & mask);
+        due[entry] = turn;
+        this.kind[entry] = kind;
+        this.side[entry] = side;
+        this.amount[entry] = amount;
+        moves[entry] = move;
+        next[entry] = heads[slot];
+        heads[slot] = entry;
+        size++;
+    }
+
+    /**
+     * Removes every entry due on a turn and hands each to the expiry callback.
+     * Entries are unlinked before any callback runs, so callbacks may schedule more.
+     * @param turn Turn being started
+     * @param expiry Receives each entry that falls due
+     */
+    void advance(long turn, Expiry expiry) {
+        int slot = (int) (turn & mask);
+        int fired = NONE;
+        int previous = NONE;
+        int entry = heads[slot];
+        while (entry != NONE) {
+            int following = next[entry];
+            if (due[entry] == turn) {
+                if (previous == NONE) heads[slot] = following; else next[previous] = following;
+                next[entry] = fired;
+                fired = entry;
+            } else {
+                previous = entry;
+            }
+            entry = following;
+        }
+
+        while (fired != NONE) {
+            int following = next[fired];
+            int firedKind = kind[fired], firedSide = side[fired], firedAmount = amount[fired];
+            Move firedMove = moves[fired];
+            release(fired);
+            expiry.expire(firedKind, firedSide, firedAmount, firedMove);
+            fired = following;
+        }
+    }
+
+    /**
+     * Removes every entry without firing it
+     */
+    void clear() {
+        if (size == 0) return;
+        Arrays.fill(heads, NONE);
+        Arrays.fill(moves, 0, used, null);
+        free = NONE;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * @return Number of entries waiting to fall due
+     */
+    int size() {
+        return size;
+    }
+
+    // ====== Internal Methods ======
+
+    private void release(int entry) {
+        moves[entry] = null;
+        next[entry] = free;
+        free = entry;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        due = due == null ? new long[capacity] : Arrays.copyOf(due, capacity);
+        kind = kind == null ? new int[capacity] : Arrays.copyOf(kind, capacity);
+        side = side == null ? new int[capacity] : Arrays.copyOf(side, capacity);
+        amount = amount == null ? new int[capacity] : Arrays.copyOf(amount, capacity);
+        moves = moves == null ? new Move[capacity] : Arrays.copyOf(moves, capacity);
+    }
+}
@@ -1,20 +1,37 @@
 package com.artefact.pokemon.battle;
 
+import com.artefact.jfr.AttackFlightEvent;
+import com.artefact.jfr.BattleFlightEvent;
+import com.artefact.jfr.FileWriteFlightEvent;
+import com.artefact.jfr.HealFlightEvent;
+import com.artefact.jfr.TurnFlightEvent;
+import com.artefact.metrics.Metrics;
 import com.artefact.utils.Constants;
 import com.artefact.pokemon.Pokemon;
-import com.artefact.pokemon.types.FirePokemon;
-import com.artefact.pokemon.types.WaterPokemon;
-import com.artefact.pokemon.types.GrassPokemon;
+import com.artefact.pokemon.ai.ExpectiminimaxSolver;
+import com.artefact.pokemon.ai.MctsOpponentStrategy;
+import com.artefact.pokemon.ai.OpponentStrategy;
+import com.artefact.pokemon.ai.QLearningPolicy;
+import com.artefact.pokemon.ai.RandomOpponentStrategy;
+import com.artefact.pokemon.battle.event.BattleEventLog;
+import com.artefact.pokemon.battle.event.BattleEventType;
+import com.artefact.pokemon.battle.render.FrameRenderer;
+import com.artefact.pokemon.history.AsyncBattleWriter;
+import com.artefact.pokemon.history.BattleHistory;
+import com.artefact.pokemon.history.BattleRecord;
+import com.artefact.pokemon.species.Species;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.pokemon.team.Team;
+import com.artefact.pokemon.types.TypeChart;
 import com.artefact.pokemon.Move;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * PokemonBattler class handles the battle logic and user interactions for Pokemon battles.
@@ -23,9 +40,62 @@ import java.util.Scanner;
 public class PokemonBattler {
 
     // ====== Class Fields ======
-    private final Scanner scanner = new Scanner(System.in);
-    @SuppressWarnings("FieldMayBeFinal")
-    private List<String> battleCommentary = new ArrayList<>();  // List of battle comments
+    private final Scanner scanner;
+    private final boolean headless;                             // Suppresses console output
+    private final SplittableRandom random;                      // Random source for interactive battles
+    private final BattleEventLog events = new BattleEventLog(Constants.BATTLE_EVENT_CAPACITY);  // Recent battle events
+    private final BattleEffects effects = new BattleEffects(events);  // Status effects and charging moves
+    private OpponentStrategy opponentStrategy = new RandomOpponentStrategy();  // Computer decision maker
+    private AsyncBattleWriter battleWriter;                     // Background history writer, if any
+    private final FrameRenderer screen;                         // Draws each turn, or null when headless
+    private final PrintStream console;                          // Text between frames, so the next frame redraws in full
+    private String notice;                                      // Message shown in the next frame
+    private Team playerTeam;                                    // Player's team during a team battle, else null
+
+    // ====== Constructors ======
+
+    /**
+     * Creates an interactive battler reading player input from the console
+     */
+    public PokemonBattler() {
+        this(new Scanner(System.in), false, new SplittableRandom());
+    }
+
+    /**
+     * Creates an interactive battler whose opponent choices and dice rolls
+     * are reproducible from the given seed
+     * @param seed Seed for the battle's random source
+     */
+    public PokemonBattler(long seed) {
+        this(new Scanner(System.in), false, new SplittableRandom(seed));
+    }
+
+    private PokemonBattler(Scanner scanner, boolean headless, SplittableRandom random) {
+        this.scanner = scanner;
+        this.headless = headless;
+        this.random = random;
+        this.screen = headless ? null : new FrameRenderer(System.out, FrameRenderer.ansiSupported());
+        this.console = headless ? System.out : screen.interleaved();
+    }
+
+    /**
+     * Creates a battler with no console input or output, used for simulations.
+     * Simulated battles take their random source as a parameter instead.
+     * @return Headless PokemonBattler instance
+     */
+    static PokemonBattler headless() {
+        return new PokemonBattler(null, true, new SplittableRandom());
+    }
+
+    /**
+     * Creates a battler with no console input or output whose opponent
+     * choice is reproducible from the given seed
+     * @param seed Seed for the battler's random source
+     * @return Headless PokemonBattler instance
+     */
+    static PokemonBattler headless(long seed) {
+        return new PokemonBattler(null, true, new SplittableRandom(seed));
+    }
 
     // ====== Main Battle Flow Methods ======
 
@@ -33,29 +103,104 @@ public class PokemonBattler {
      * Initiates a new battle sequence between player and computer
      */
     public void startBattle() {
+        boolean team = chooseTeamBattle();
+        boolean statusMoves = chooseStatusMoves();
+        if (team) {
+            startTeamBattle(statusMoves);
+            return;
+        }
         Pokemon playerPokemon = choosePokemon();
         Pokemon computerPokemon = generateOpponent(playerPokemon);
+        if (statusMoves) {
+            SpeciesRegistry.standard().teachStatusMoves(playerPokemon);
+            SpeciesRegistry.standard().teachStatusMoves(computerPokemon);
+        }
+        chooseDifficulty();
         battle(playerPokemon, computerPokemon);
     }
 
+    /**
+     * Sets the strategy the computer uses to pick its actions
+     * @param opponentStrategy Strategy to use for computer turns
+     */
+    public void setOpponentStrategy(OpponentStrategy opponentStrategy) {
+        this.opponentStrategy = opponentStrategy;
+    }
+
+    /**
+     * Sets a background writer for battle results. Without one, results are
+     * written synchronously when each battle ends.
+     * @param battleWriter Writer to queue finished battles on
+     */
+    public void setBattleWriter(AsyncBattleWriter battleWriter) {
+        this.battleWriter = battleWriter;
+    }
+
+    /**
+     * Returns the event log for the current battle, so callers can attach
+     * their own sinks or read back recent events
+     * @return Event log shared by every battle this battler runs
+     */
+    public BattleEventLog getEventLog() {
+        return events;
+    }
+
     /**
      * Main battle loop handling turns and combat
      */
     public void battle(Pokemon player, Pokemon computer) {
-        System.out.println("\nBattle Start!");
-        addCommentary("Battle started between " + player.name + " and " + computer.name);
+        console.println("\nBattle Start!");
+        events.clear();
+        effects.reset(player, computer);
+        events.publish(BattleEventType.START, player, computer);
+        Metrics.BATTLES_STARTED.increment();
+        long battleStart = System.nanoTime();
+        BattleFlightEvent flight = new BattleFlightEvent();
+        flight.begin();
 
         boolean surrendered = false;
+        int turns = 0;
 
+        screen.invalidate();
         while (player.isAlive() && computer.isAlive() && !surrendered) {
-            displayBattleStatus(player, computer);
-            displayBattleHistory();
+            long turnStart = System.nanoTime();
+            TurnFlightEvent turn = new TurnFlightEvent();
+            turn.begin();
+            if (beginTurn(player, computer, random)) {
+                surrendered = !handlePlayerTurn(player, computer);
+            }
+            commitTurn(turn, ++turns, player, false);
+            Metrics.PLAYER_TURN_SECONDS.recordSince(turnStart);
+
+            if (surrendered || !computer.isAlive() || !player.isAlive()) break;
 
-            surrendered = !handlePlayerTurn(player, computer);
+            turnStart = System.nanoTime();
+            turn = new TurnFlightEvent();
+            turn.begin();
+            handleComputerTurn(computer, player, random);
+            commitTurn(turn, ++turns, computer, true);
+            Metrics.COMPUTER_TURN_SECONDS.recordSince(turnStart);
+        }
 
-            if (surrendered || !computer.isAlive()) break;
+        endBattle(player, computer, surrendered, turns, battleStart, flight);
+    }
 
-            handleComputerTurn(computer, player);
+    /**
+     * Records a finished battle's metrics and flight event, then announces
+     * the winner unless the player surrendered
+     */
+    private void endBattle(Pokemon player, Pokemon computer, boolean surrendered, int turns,
+                           long battleStart, BattleFlightEvent flight) {
+        (surrendered ? Metrics.BATTLES_SURRENDERED : Metrics.BATTLES_FINISHED).increment();
+        Metrics.BATTLE_SECONDS.recordSince(battleStart);
+        Metrics.BATTLE_TURNS.record(turns);
+        flight.end();
+        if (flight.shouldCommit()) {
+            flight.player = player.name;
+            flight.opponent = computer.name;
+            flight.outcome = surrendered ? "surrendered" : player.isAlive() ? "won" : "lost";
+            flight.turns = turns;
+            flight.commit();
         }
 
         if (!surrendered) {
@@ -63,52 +208,329 @@ public class PokemonBattler {
         }
     }
 
+    /**
+     * Runs a computer-vs-computer battle to completion without any output.
+     * Both sides take their turns through the same logic as the computer opponent,
+     * with the first Pokemon moving first.
+     * @param first Pokemon that takes the opening turn
+     * @param second Pokemon that responds
+     * @param random Random source for this battle; the same seed replays the same battle
+     * @return Number of turns taken before one side fainted
+     */
+    int simulateBattle(Pokemon first, Pokemon second, RandomGenerator random) {
+        events.clear();
+        effects.reset(first, second);
+        int turns = 0;
+        while (true) {
+            handleComputerTurn(first, second, random);
+            turns++;
+            if (!second.isAlive() || !first.isAlive()) return turns;
+
+            handleComputerTurn(second, first, random);
+            turns++;
+            if (!first.isAlive() || !second.isAlive()) return turns;
+        }
+    }
+
+    // ====== Team Battle Methods ======
+
+    /**
+     * Team battle loop. Each side's active Pokemon takes turns as in a
+     * one-on-one battle; the player may also switch, which uses their turn.
+     * When a Pokemon faints its team sends out a replacement without using
+     * a turn, and the battle ends when a team has no Pokemon left.
+     * @param player Player's team
+     * @param computer Computer's team
+     */
+    public void battle(Team player, Team computer) {
+        console.println("\nTeam Battle Start!");
+        playerTeam = player;
+        events.clear();
+        effects.reset(player.active(), computer.active());
+        events.publish(BattleEventType.START, player.active(), computer.active());
+        Metrics.BATTLES_STARTED.increment();
+        long battleStart = System.nanoTime();
+        BattleFlightEvent flight = new BattleFlightEvent();
+        flight.begin();
+
+        boolean surrendered = false;
+        int turns = 0;
+
+        screen.invalidate();
+        try {
+            while (true) {
+                long turnStart = System.nanoTime();
+                TurnFlightEvent turn = new TurnFlightEvent();
+                turn.begin();
+                if (beginTurn(player.active(), computer.active(), random)) {
+                    surrendered = !handlePlayerTurn(player.active(), computer.active());
+                }
+                commitTurn(turn, ++turns, player.active(), false);
+                Metrics.PLAYER_TURN_SECONDS.recordSince(turnStart);
+
+                if (surrendered || !replaceFainted(computer, player) || !replacePlayerFainted(player, computer)) break;
+
+                turnStart = System.nanoTime();
+                turn = new TurnFlightEvent();
+                turn.begin();
+                handleComputerTurn(computer.active(), player.active(), random);
+                commitTurn(turn, ++turns, computer.active(), true);
+                Metrics.COMPUTER_TURN_SECONDS.recordSince(turnStart);
+
+                if (!replacePlayerFainted(player, computer) || !replaceFainted(computer, player)) break;
+            }
+        } finally {
+            playerTeam = null;
+        }
+
+        endBattle(player.active(), computer.active(), surrendered, turns, battleStart, flight);
+    }
+
+    /**
+     * Runs a computer-vs-computer team battle to completion without any output.
+     * Fainted Pokemon are replaced by their team's best remaining matchup.
+     * @param first Team that takes the opening turn
+     * @param second Team that responds
+     * @param random Random source for this battle; the same seed replays the same battle
+     * @return Number of turns taken before one team had no Pokemon left
+     */
+    int simulateTeamBattle(Team first, Team second, RandomGenerator random) {
+        events.clear();
+        effects.reset(first.active(), second.active());
+        int turns = 0;
+        while (true) {
+            handleComputerTurn(first.active(), second.active(), random);
+            turns++;
+            if (!replaceFainted(second, first) || !replaceFainted(first, second)) return turns;
+
+            handleComputerTurn(second.active(), first.active(), random);
+            turns++;
+            if (!replaceFainted(first, second) || !replaceFainted(second, first)) return turns;
+        }
+    }
+
+    /**
+     * Sends out a computer-chosen replacement if a team's active Pokemon has fainted
+     * @param team Team to check
+     * @param opponent Opposing team, whose active Pokemon the replacement is chosen against
+     * @return false if the active Pokemon fainted and the team has nothing left to send out
+     */
+    boolean replaceFainted(Team team, Team opponent) {
+        if (team.active().isAlive()) return true;
+        int replacement = team.nextReplacement(opponent.active());
+        if (replacement < 0) return false;
+        switchMember(team, replacement);
+        return true;
+    }
+
+    /**
+     * Asks the player to send out a replacement if their active Pokemon has fainted
+     * @return false if the player's team has nothing left to send out
+     */
+    private boolean replacePlayerFainted(Team player, Team computer) {
+        if (player.active().isAlive()) return true;
+        if (player.isDefeated()) return false;
+        notice = player.active().name + " fainted! Choose your next Pokemon.";
+        int member;
+        do {
+            member = chooseTeamMember(player, computer.active());
+        } while (member < 0);
+        switchMember(player, member);
+        return true;
+    }
+
+    /**
+     * Sends out another team member, ending any effects on the outgoing one
+     * @param team Team making the switch
+     * @param member Index of the member to send out
+     * @return The new active Pokemon
+     */
+    Pokemon switchMember(Team team, int member) {
+        Pokemon outgoing = team.active();
+        Pokemon incoming = team.switchTo(member);
+        effects.replace(outgoing, incoming);
+        events.publish(BattleEventType.SWITCH, incoming, outgoing);
+        return incoming;
+    }
+
+    /**
+     * Clears status effects and charging moves ahead of a battle driven
+     * turn by turn from outside, such as a BattleSession
+     * @param first Pokemon on one side
+     * @param second Pokemon on the other side
+     */
+    void resetEffects(Pokemon first, Pokemon second) {
+        effects.reset(first, second);
+    }
+
     // ====== Pokemon Selection Methods ======
 
     /**
      * Handles the player's Pokemon selection
      */
     private Pokemon choosePokemon() {
-        System.out.println("Choose your Pokemon:");
-        System.out.println("1. Charizard (Fire Type)");
-        System.out.println("2. Blastoise (Water Type)");
-        System.out.println("3. Venusaur (Grass Type)");
+        List<Species> starters = SpeciesRegistry.standard().species();
+        console.println("Choose your Pokemon:");
+        for (int i = 0; i < starters.size(); i++) {
+            Species species = starters.get(i);
+            console.println((i + 1) + ". " + species.name() + " (" + species.type() + " Type)");
+        }
 
         while (true) {
             try {
                 int choice = Integer.parseInt(scanner.nextLine().trim());
-                return switch (choice) {
-                    case 1 -> FirePokemon.create("Charizard", 100, 20);
-                    case 2 -> WaterPokemon.create("Blastoise", 100, 20);
-                    case 3 -> GrassPokemon.create("Venusaur", 140, 10);
-                    default -> {
-                        System.out.println("Invalid choice. Please choose 1-3:");
-                        yield choosePokemon();
-                    }
-                };
+                Pokemon starter = createStarter(choice);
+                if (starter != null) return starter;
+                console.println("Invalid choice. Please choose 1-" + starters.size() + ":");
             } catch (NumberFormatException e) {
-                System.out.println("Please enter a valid number (1-3):");
+                console.println("Please enter a valid number (1-" + starters.size() + "):");
+            }
+        }
+    }
+
+    /**
+     * Creates one of the player's starter Pokemon from the species registry
+     * @param choice Position of the species in the registry, starting at 1
+     *               (1 for Charizard, 2 for Blastoise, 3 for Venusaur)
+     * @return New starter, or null if the choice is out of range
+     */
+    public static Pokemon createStarter(int choice) {
+        List<Species> starters = SpeciesRegistry.standard().species();
+        if (choice < 1 || choice > starters.size()) return null;
+        return starters.get(choice - 1).create();
+    }
+
+    /**
+     * Lets the player pick between a one-on-one battle and a team battle
+     * @return true for a team battle
+     */
+    private boolean chooseTeamBattle() {
+        console.println("Choose battle format:");
+        console.println("1. Single (one Pokemon each)");
+        console.println("2. Team (" + Constants.TEAM_SIZE + " Pokemon each)");
+
+        while (true) {
+            switch (scanner.nextLine().trim()) {
+                case "1" -> {
+                    return false;
+                }
+                case "2" -> {
+                    return true;
+                }
+                default -> console.println("Please enter 1 or 2:");
+            }
+        }
+    }
+
+    /**
+     * Lets the player choose whether every Pokemon also learns its type's
+     * status moves, which burn, poison, seed, put to sleep or charge up
+     * @return true to add the status moves
+     */
+    private boolean chooseStatusMoves() {
+        console.println("\nChoose moves:");
+        console.println("1. Standard");
+        console.println("2. With status moves (burns, sleep, charged attacks and more)");
+
+        while (true) {
+            switch (scanner.nextLine().trim()) {
+                case "1" -> {
+                    return false;
+                }
+                case "2" -> {
+                    return true;
+                }
+                default -> console.println("Please enter 1 or 2:");
+            }
+        }
+    }
+
+    /**
+     * Draws a random team for each side and runs a team battle
+     * @param statusMoves true to teach both teams their status moves
+     */
+    private void startTeamBattle(boolean statusMoves) {
+        SpeciesRegistry registry = SpeciesRegistry.standard();
+        Team player = Team.random(registry, Constants.TEAM_SIZE, random);
+        Team computer = Team.random(registry, Constants.TEAM_SIZE, random);
+        if (statusMoves) {
+            player.withStatusMoves();
+            computer.withStatusMoves();
+        }
+        console.println("\nYour team: " + player.toString().replace("/", ", "));
+        console.println("Opponent's team: " + computer.toString().replace("/", ", "));
+        chooseDifficulty();
+        battle(player, computer);
+    }
+
+    /**
+     * Lets the player pick between the default opponent, the search-based one,
+     * the one trained by self-play and the exact solver. The solver plays
+     * perfectly for the moves' power and accuracy but does not model status
+     * effects or charging.
+     */
+    private void chooseDifficulty() {
+        console.println("\nChoose difficulty:");
+        console.println("1. Normal");
+        console.println("2. Hard (opponent plans ahead)");
+        console.println("3. Trained (opponent learned from self-play)");
+        console.println("4. Expert (opponent plays perfectly)");
+
+        while (true) {
+            String input = scanner.nextLine().trim();
+            switch (input) {
+                case "1" -> {
+                    return;
+                }
+                case "2" -> {
+                    setOpponentStrategy(new MctsOpponentStrategy(Constants.MCTS_TURN_BUDGET_MS));
+                    return;
+                }
+                case "3" -> {
+                    QLearningPolicy policy = QLearningPolicy.standard();
+                    if (policy != null) {
+                        setOpponentStrategy(policy);
+                        return;
+                    }
+                    console.println("No trained opponent found. Run ./gradlew train first, or choose 1, 2 or 4:");
+                }
+                case "4" -> {
+                    setOpponentStrategy(new ExpectiminimaxSolver());
+                    return;
+                }
+                default -> console.println("Please enter 1, 2, 3 or 4:");
             }
         }
     }
 
     /**
-     * Generates a random opponent Pokemon different from player's choice
+     * Generates a random opponent Pokemon of a different type from the player's choice
      */
     public Pokemon generateOpponent(Pokemon playerPokemon) {
-        Random rand = new Random();
-        Pokemon opponent;
+        return generateOpponent(playerPokemon, SpeciesRegistry.standard());
+    }
+
+    /**
+     * Generates a random opponent from a registry, of a different type from
+     * the player's choice unless every species shares the player's type
+     * @param playerPokemon Player's Pokemon
+     * @param registry Registry to draw the opponent from
+     * @return New opponent
+     */
+    public Pokemon generateOpponent(Pokemon playerPokemon, SpeciesRegistry registry) {
+        List<Species> candidates = registry.species();
+        boolean otherTypes = false;
+        for (Species candidate : candidates) {
+            otherTypes |= candidate.type() != playerPokemon.type;
+        }
+        Species species;
 
         do {
-            int choice = rand.nextInt(3) + 1;
-            opponent = switch (choice) {
-                case 2 -> WaterPokemon.create("Blastoise", 100, 20);
-                case 3 -> GrassPokemon.create("Venusaur", 100, 20);
-                default -> FirePokemon.create("Charizard", 100, 20);
-            };
-        } while (opponent.getClass() == playerPokemon.getClass());
-
-        System.out.println("\nYour opponent is " + opponent.name + "!");
+            species = candidates.get(random.nextInt(candidates.size()));
+        } while (otherTypes && species.type() == playerPokemon.type);
+
+        Pokemon opponent = species.create();
+        if (!headless) console.println("\nYour opponent is " + opponent.name + "!");
         return opponent;
     }
 
@@ -120,10 +542,16 @@ public class PokemonBattler {
      */
     private boolean handlePlayerTurn(Pokemon player, Pokemon computer) {
         while (true) {  // Keep looping until a valid move is made
-            System.out.println("\nYour turn! Choose an action:");
-            System.out.println("1. Attack");
-            System.out.println("2. Use Potion (" + player.potions + " remaining)");
-            System.out.println("3. Surrender");
+            composeBattleStatus(player, computer);
+            screen.line("");
+            screen.line("Your turn! Choose an action:");
+            screen.line("1. Attack");
+            screen.line().append("2. Use Potion (").append(player.potions).append(" remaining)");
+            screen.line("3. Surrender");
+            if (playerTeam != null) screen.line("4. Switch Pokemon");
+            composeNotice();
+            screen.present();
+            int options = playerTeam != null ? 4 : 3;
 
             try {
                 String input = scanner.nextLine().trim();
@@ -132,7 +560,7 @@ public class PokemonBattler {
                 try {
                     choice = Integer.parseInt(input);
                 } catch (NumberFormatException e) {
-                    System.out.println("Invalid input. Please enter a number (1-3).");
+                    notice = "Invalid input. Please enter a number (1-" + options + ").";
                     continue;  // Restart the loop
                 }
 
@@ -142,205 +570,359 @@ public class PokemonBattler {
                         return true;
                     }
                     case 2 -> {
-                        if (player.potions > 0) {
-                            player.heal();
-                            addCommentary(player.name + " used a potion!");
+                        HealFlightEvent heal = new HealFlightEvent();
+                        heal.begin();
+                        int healAmount = player.usePotion();
+                        if (healAmount >= 0) {
+                            events.publish(BattleEventType.POTION, player, null, null, healAmount, 1.0);
                         } else {
-                            player.heal();
-                            addCommentary("No potions remaining!");
+                            events.publish(BattleEventType.NO_POTION, player, null);
                         }
+                        commitHeal(heal, player, true, healAmount, player.potions);
                         return true;
                     }
                     case 3 -> {
-                        System.out.println("You surrendered the battle!");
-                        System.out.println("Returning to menu... \n");
-                        addCommentary(player.name + " surrendered the battle!");
+                        console.println("You surrendered the battle!");
+                        console.println("Returning to menu... \n");
+                        events.publish(BattleEventType.SURRENDER, player, computer);
                         saveBattleResults(computer, player);
                         return false;  // Indicate surrender
                     }
+                    case 4 -> {
+                        if (playerTeam == null) {
+                            notice = "Invalid choice. Please enter a number between 1 and 3.";
+                            continue;
+                        }
+                        int member = chooseTeamMember(playerTeam, computer);
+                        if (member < 0) continue;  // Back to the action menu
+                        switchMember(playerTeam, member);
+                        return true;
+                    }
                     default -> {
-                        System.out.println("Invalid choice. Please enter a number between 1 and 3.");
+                        notice = "Invalid choice. Please enter a number between 1 and " + options + ".";
                         continue;  // Restart the loop
                     }
                 }
             } catch (Exception e) {
-                System.out.println("An error occurred. Please try again.");
+                notice = "An error occurred. Please try again.";
             }
         }
     }
 
     /**
-     * Handles the computer's turn including move selection and healing decisions
+     * Shows the player's team and reads which member to send out
+     * @return Index of the chosen member, or -1 if the choice cannot be sent out
      */
-    private void handleComputerTurn(Pokemon computer, Pokemon player) {
-        System.out.println("\nOpponent's turn!");
+    private int chooseTeamMember(Team team, Pokemon opponent) {
+        composeBattleStatus(team.active(), opponent);
+        screen.line("");
+        screen.line("Your team:");
+        for (int i = 0; i < team.size(); i++) {
+            StringBuilder line = screen.line().append(i + 1).append(". ").append(team.species(i).name())
+                    .append(" (").append(team.health(i)).append(" HP)");
+            if (i == team.activeIndex()) line.append(" - in battle");
+        }
+        screen.line("");
+        screen.line().append("Choose a Pokemon to send out (1-").append(team.size()).append("):");
+        composeNotice();
+        screen.present();
 
-        if (computer.getHealth() < 40 && computer.hasHeals() && Math.random() < 0.7) {
-            computer.computerHeal();
-            addCommentary(computer.name + " used a healing move!");
+        try {
+            int member = Integer.parseInt(scanner.nextLine().trim()) - 1;
+            if (team.canSwitchTo(member)) return member;
+            notice = "That Pokemon can't be sent out.";
+        } catch (NumberFormatException e) {
+            notice = "Invalid input. Please enter a number.";
+        }
+        return -1;
+    }
+
+    /**
+     * Handles the computer's turn, asking the opponent strategy whether to heal or attack
+     */
+    void handleComputerTurn(Pokemon computer, Pokemon player, RandomGenerator random) {
+        if (!beginTurn(computer, player, random)) return;
+
+        int action = opponentStrategy.chooseAction(computer, player, random);
+        if (action == OpponentStrategy.HEAL && computer.hasHeals()) {
+            HealFlightEvent heal = new HealFlightEvent();
+            heal.begin();
+            int healAmount = computer.computerHeal(random);
+            events.publish(BattleEventType.HEAL, computer, null, null, healAmount, 1.0);
+            commitHeal(heal, computer, false, healAmount, computer.healCount);
         } else {
-            executeComputerMove(computer, player);
+            executeComputerMove(computer, player, action, random);
         }
     }
 
+    /**
+     * Starts a side's turn: applies status damage, and lands a charged move
+     * or skips the turn if an effect calls for it
+     * @param actor Pokemon whose turn it is
+     * @param opponent Pokemon on the other side
+     * @param random Random source for the current battle
+     * @return true if the actor still chooses an action this turn
+     */
+    boolean beginTurn(Pokemon actor, Pokemon opponent, RandomGenerator random) {
+        if (!effects.startTurn(actor, random)) return false;
+        Move released = effects.takeReleasedMove(actor);
+        if (released == null) return true;
+        resolveMove(actor, opponent, released, random);
+        return false;
+    }
+
     // ====== Combat Mechanics Methods ======
 
     /**
      * Executes player's selected move
      */
     private void executePlayerMove(Pokemon player, Pokemon computer) {
-        displayMovesList(player);
-        System.out.println("Choose your move (1-" + player.moves.size() + "):");
+        composeBattleStatus(player, computer);
+        composeMovesList(player);
+        screen.line("");
+        screen.line().append("Choose your move (1-").append(player.moves.size()).append("):");
+        screen.present();
 
         try {
             int moveChoice = Integer.parseInt(scanner.nextLine().trim()) - 1;
             if (moveChoice >= 0 && moveChoice < player.moves.size()) {
-                executeMove(player, computer, player.moves.get(moveChoice));
+                executeMove(player, computer, player.moves.get(moveChoice), random);
             } else {
-                System.out.println("Invalid move choice. Turn skipped!");
-                addCommentary(player.name + " stumbled and missed their turn!");
+                notice = "Invalid move choice. Turn skipped!";
+                events.publish(BattleEventType.STUMBLE, player, computer);
             }
         } catch (NumberFormatException e) {
-            System.out.println("Invalid input. Turn skipped!");
+            notice = "Invalid input. Turn skipped!";
         }
     }
 
     /**
-     * Executes computer's randomly selected move
+     * Executes the move chosen by the opponent strategy
      */
-    private void executeComputerMove(Pokemon computer, Pokemon player) {
+    private void executeComputerMove(Pokemon computer, Pokemon player, int moveIndex, RandomGenerator random) {
         if (computer.moves == null || computer.moves.isEmpty()) {
-            System.out.println("ERROR: No moves available for " + computer.name);
+            console.println("ERROR: No moves available for " + computer.name);
             return;
         }
 
         try {
-            Move computerMove = computer.moves.get(new Random().nextInt(computer.moves.size()));
-            executeMove(computer, player, computerMove);
+            int index = moveIndex >= 0 && moveIndex < computer.moves.size()
+                    ? moveIndex : random.nextInt(computer.moves.size());
+            Move computerMove = computer.moves.get(index);
+            executeMove(computer, player, computerMove, random);
         } catch (Exception e) {
-            System.out.println("ERROR: Failed to execute computer move: " + e.getMessage());
+            console.println("ERROR: Failed to execute computer move: " + e.getMessage());
         }
     }
 
     /**
-     * Executes a move between attacker and defender
+     * Executes a move between attacker and defender, or starts charging it
+     * if it lands on a later turn
      */
-    private void executeMove(Pokemon attacker, Pokemon defender, Move move) {
-        if (move.attemptHit()) {
-            double typeMultiplier = getTypeMultiplier(attacker.type, defender.type);
-            int damage = (int)(move.basePower() * typeMultiplier);
-            defender.takeDamage(damage);
+    void executeMove(Pokemon attacker, Pokemon defender, Move move, RandomGenerator random) {
+        if (move.getChargeTurns() > 0) {
+            effects.startCharge(attacker, move);
+            return;
+        }
+        resolveMove(attacker, defender, move, random);
+    }
 
-            String effectiveness = typeMultiplier > 1.0 ? " It's super effective!" : "";
-            addCommentary(attacker.name + " used " + move.name() +
-                    " dealing " + damage + " damage!" + effectiveness);
+    /**
+     * Rolls a move's hit and applies its damage and status effect
+     */
+    private void resolveMove(Pokemon attacker, Pokemon defender, Move move, RandomGenerator random) {
+        AttackFlightEvent flight = new AttackFlightEvent();
+        flight.begin();
+        boolean hit = move.attemptHit(random);
+        double typeMultiplier = 1.0;
+        int damage = 0;
+        if (hit) {
+            typeMultiplier = getTypeMultiplier(attacker, defender);
+            damage = BattleRules.damage(move.getBasePower(), typeMultiplier * effects.attackMultiplier(attacker));
+            defender.takeDamage(damage);
+            events.publish(BattleEventType.HIT, attacker, defender, move, damage, typeMultiplier);
+            if (!defender.isAlive()) {
+                events.publish(BattleEventType.FAINT, defender, attacker);
+            } else if (move.getEffect() != null) {
+                effects.inflict(attacker, defender, move, random);
+            }
         } else {
-            System.out.println("The attack missed!");
-            addCommentary(attacker.name + "'s " + move.name() + " missed!");
+            events.publish(BattleEventType.MISS, attacker, defender, move, 0, 1.0);
+        }
+
+        flight.end();
+        if (flight.shouldCommit()) {
+            flight.attacker = attacker.name;
+            flight.defender = defender.name;
+            flight.move = move.getName();
+            flight.hit = hit;
+            flight.damage = damage;
+            flight.typeMultiplier = typeMultiplier;
+            flight.commit();
         }
     }
 
-    // ====== Display Methods ======
+    // ====== Flight Recorder Methods ======
+    // Event fields are only filled in when the event will be recorded, so with
+    // recording off the events reduce to an allocation the JIT removes.
 
     /**
-     * Displays current battle status including health bars
+     * Records one side's turn
      */
-    private void displayBattleStatus(Pokemon player, Pokemon computer) {
-        System.out.println("\n=== Battle Status ===");
-        System.out.println("Your " + player.name + " - " + player.getHealthBar());
-        System.out.println("Opponent's " + computer.name + " - " + computer.getHealthBar());
+    static void commitTurn(TurnFlightEvent turn, int number, Pokemon pokemon, boolean computer) {
+        turn.end();
+        if (turn.shouldCommit()) {
+            turn.turn = number;
+            turn.pokemon = pokemon.name;
+            turn.computer = computer;
+            turn.commit();
+        }
     }
 
     /**
-     * Displays available moves for a Pokemon
+     * Records a potion or computer heal
      */
-    private void displayMovesList(Pokemon pokemon) {
-        System.out.println("\nAvailable moves:");
-        for (int i = 0; i < pokemon.moves.size(); i++) {
-            Move move = pokemon.moves.get(i);
-            System.out.printf("%d. %s (Power: %d, Accuracy: %.0f%%)\n",
-                    i + 1, move.name(), move.basePower(),
-                    move.accuracy() * 100);
+    static void commitHeal(HealFlightEvent heal, Pokemon pokemon, boolean potion, int amount, int remaining) {
+        heal.end();
+        if (heal.shouldCommit()) {
+            heal.pokemon = pokemon.name;
+            heal.potion = potion;
+            heal.amount = amount;
+            heal.remaining = remaining;
+            heal.commit();
         }
     }
 
+    // ====== Display Methods ======
+
     /**
-     * Displays recent battle events
+     * Adds the battle status, with health bars, and the recent events to the frame
      */
-    private void displayBattleHistory() {
-        System.out.println("\n=== Recent Battle Events ===");
-        for (String comment : battleCommentary) {
-            System.out.println("» " + comment);
+    private void composeBattleStatus(Pokemon player, Pokemon computer) {
+        screen.line("");
+        screen.line("=== Battle Status ===");
+        screen.line().append("Your ").append(player.name).append(" - ").append(player.getHealthBar());
+        screen.line().append("Opponent's ").append(computer.name).append(" - ").append(computer.getHealthBar());
+
+        screen.line("");
+        screen.line("=== Recent Battle Events ===");
+        int retained = events.size();
+        for (int i = Math.max(0, retained - Constants.MAX_BATTLE_HISTORY); i < retained; i++) {
+            screen.line().append("» ").append(events.get(i).describe());
         }
-        System.out.println("========================");
+        screen.line("========================");
     }
 
-    // ====== Utility Methods ======
-
     /**
-     * Calculates type effectiveness multiplier
+     * Adds the available moves for a Pokemon to the frame
      */
-    private double getTypeMultiplier(String attackerType, String defenderType) {
-        if (attackerType.equals("Water") && defenderType.equals("Fire") ||
-                attackerType.equals("Fire") && defenderType.equals("Grass") ||
-                attackerType.equals("Grass") && defenderType.equals("Water")) {
-            return Constants.TYPE_ADVANTAGE_MULTIPLIER;
+    private void composeMovesList(Pokemon pokemon) {
+        screen.line("");
+        screen.line("Available moves:");
+        for (int i = 0; i < pokemon.moves.size(); i++) {
+            Move move = pokemon.moves.get(i);
+            screen.line().append(i + 1).append(". ").append(move.getName())
+                    .append(" (Power: ").append(move.getBasePower())
+                    .append(", Accuracy: ").append(Math.round(move.getAccuracy() * 100)).append("%)");
         }
-        return 1.0;
     }
 
     /**
-     * Adds commentary to battle history
+     * Adds the pending notice, such as an input error, to the frame and clears it
      */
-    private void addCommentary(String comment) {
-        battleCommentary.add(comment);
-        if (battleCommentary.size() > Constants.MAX_BATTLE_HISTORY) {
-            battleCommentary.remove(0);
+    private void composeNotice() {
+        if (notice != null) {
+            screen.line(notice);
+            notice = null;
         }
     }
 
+    // ====== Utility Methods ======
+
+    /**
+     * Calculates type effectiveness multiplier from the type chart,
+     * accounting for both of the defender's types
+     */
+    double getTypeMultiplier(Pokemon attacker, Pokemon defender) {
+        return TypeChart.STANDARD.multiplier(attacker.type, defender.type, defender.secondaryType);
+    }
+
     /**
      * Announces battle winner and saves results
      */
     private void announceWinner(Pokemon player, Pokemon computer) {
-        System.out.println("\nBattle End!");
+        console.println("\nBattle End!");
         Pokemon winner = player.isAlive() ? player : computer;
         Pokemon loser = player.isAlive() ? computer : player;
 
         if (player.isAlive()) {
-            System.out.println("Congratulations! Your " + player.name + " wins the battle!");
+            console.println("Congratulations! Your " + player.name + " wins the battle!");
         } else {
-            System.out.println("Your Pokemon was defeated! Opponent's " + computer.name + " wins!");
+            console.println("Your Pokemon was defeated! Opponent's " + computer.name + " wins!");
         }
+        events.publish(BattleEventType.WIN, winner, loser);
 
         saveBattleResults(winner, loser);
     }
 
     /**
-     * Saves battle results to file
+     * Builds a history record of the current battle from its retained events
+     */
+    BattleRecord toRecord(Pokemon winner, Pokemon loser) {
+        List<String> commentary = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            commentary.add(events.get(i).describe());
+        }
+        return BattleRecord.of(System.currentTimeMillis(), winner, loser, commentary);
+    }
+
+    /**
+     * Saves battle results to the indexed battle history, through the
+     * background writer when one is set
      */
     private void saveBattleResults(Pokemon winner, Pokemon loser) {
-        // Create the full path using Constants
-        String filename = String.format("%s/battle_history%s",
-                Constants.OUTPUT_DIR,
-                Constants.FILE_EXTENSION);
-
-        try (FileWriter writer = new FileWriter(filename, true)) {  // true for append mode
-            LocalDateTime now = LocalDateTime.now();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Constants.DATE_TIME_FORMAT);
-
-            writer.write("\nBattle @ " + now.format(formatter) + "\n");
-            writer.write("Winner: " + winner.name + " (" + winner.type + ")\n");
-            writer.write("Loser: " + loser.name + " (" + loser.type + ")\n");
-            writer.write("Battle Commentary:\n");
-            for (String comment : battleCommentary) {
-                writer.write(comment + "\n");
+        long start = System.nanoTime();
+        FileWriteFlightEvent flight = new FileWriteFlightEvent();
+        flight.begin();
+        try {
+            writeBattleRecord(toRecord(winner, loser), flight);
+        } finally {
+            Metrics.HISTORY_SAVE_SECONDS.recordSince(start);
+            flight.end();
+            if (flight.shouldCommit()) {
+                flight.kind = "battle history";
+                flight.commit();
             }
-            writer.write("------------------------\n");
+        }
+    }
+
+    private void writeBattleRecord(BattleRecord record, FileWriteFlightEvent flight) {
+        if (battleWriter != null) {
+            try {
+                battleWriter.submit(record);
+                flight.queued = true;
+                flight.succeeded = true;
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                System.err.println("Interrupted while saving battle history");
+                return;
+            } catch (IllegalStateException e) {
+                // Writer already shut down; fall through to a direct write
+            }
+        }
 
-            System.out.println("Battle history saved to: " + filename);
+        try (BattleHistory history = BattleHistory.open()) {
+            long before = history.journalSize();
+            history.record(record);
+            long written = history.journalSize() - before;
+            Metrics.HISTORY_WRITTEN_BYTES.add(written);
+            flight.path = Constants.OUTPUT_DIR + "/" + Constants.BATTLE_JOURNAL_FILE;
+            flight.bytes = written;
+            flight.succeeded = true;
+            console.println("Battle history saved to: " + Constants.OUTPUT_DIR);
         } catch (IOException e) {
-            System.err.println("Failed to save battle history to " + filename);
+            System.err.println("Failed to save battle history to " + Constants.OUTPUT_DIR);
             System.err.println("Error details: " + e.getMessage());
         }
     }
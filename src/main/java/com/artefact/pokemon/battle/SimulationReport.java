@@ -0,0 +1,58 @@
+package com.artefact.pokemon.battle;
+
+/**
+ * SimulationReport holds the outcome of a batch of headless battles
+ * between two Pokemon, along with derived win rates and throughput.
+ * @param firstName Name of the Pokemon that moved first
+ * @param secondName Name of the Pokemon that moved second
+ * @param battles Number of battles simulated
+ * @param firstWins Battles won by the first Pokemon
+ * @param secondWins Battles won by the second Pokemon
+ * @param totalTurns Sum of turns taken across all battles
+ * @param elapsedNanos Wall-clock time spent simulating
+ */
+public record SimulationReport(String firstName, String secondName, long battles,
+                               long firstWins, long secondWins, long totalTurns,
+                               long elapsedNanos) {
+
+    /**
+     * @return Fraction of battles won by the first Pokemon (0.0 to 1.0)
+     */
+    public double firstWinRate() {
+        return battles == 0 ? 0.0 : (double) firstWins / battles;
+    }
+
+    /**
+     * @return Fraction of battles won by the second Pokemon (0.0 to 1.0)
+     */
+    public double secondWinRate() {
+        return battles == 0 ? 0.0 : (double) secondWins / battles;
+    }
+
+    /**
+     * @return Mean number of turns per battle
+     */
+    public double averageTurns() {
+        return battles == 0 ? 0.0 : (double) totalTurns / battles;
+    }
+
+    /**
+     * @return Simulation throughput in battles per second
+     */
+    public double battlesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : battles * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Creates a one-line summary of the report
+     * @return Formatted string with win rates, turn count and throughput
+     */
+    @Override
+    public String toString() {
+        return String.format("%s vs %s: %d battles | %s %.1f%% - %s %.1f%% | avg %.2f turns | %,.0f battles/sec",
+                firstName, secondName, battles,
+                firstName, firstWinRate() * 100,
+                secondName, secondWinRate() * 100,
+                averageTurns(), battlesPerSecond());
+    }
+}
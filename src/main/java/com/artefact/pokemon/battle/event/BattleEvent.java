@@ -0,0 +1,150 @@
+package com.artefact.pokemon.battle.event;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+
+/**
+ * BattleEvent is one slot in a BattleEventLog ring buffer.
+ * Slots are reused as the ring wraps, so a sink must copy any fields it wants
+ * to keep beyond the onEvent call. Text is only built when describe() is called.
+ */
+public final class BattleEvent {
+
+    // ====== Class Fields ======
+
+    private long sequence;         // Position of this event in the battle, starting at 0
+    private BattleEventType type;  // Kind of event
+    private Pokemon actor;         // Pokemon performing the action
+    private Pokemon target;        // Pokemon on the receiving end, if any
+    private Move move;             // Move used, if any
+    private int amount;            // Damage dealt or HP recovered
+    private double multiplier;     // Type effectiveness multiplier for hits
+
+    // ====== Package Methods ======
+
+    /**
+     * Overwrites this slot with a new event
+     */
+    void set(long sequence, BattleEventType type, Pokemon actor, Pokemon target,
+             Move move, int amount, double multiplier) {
+        this.sequence = sequence;
+        this.type = type;
+        this.actor = actor;
+        this.target = target;
+        this.move = move;
+        this.amount = amount;
+        this.multiplier = multiplier;
+    }
+
+    // ====== Formatting Methods ======
+
+    /**
+     * Formats the event as a line of battle commentary
+     * @return Human readable description of the event
+     */
+    public String describe() {
+        return describe(type, actor == null ? null : actor.name, target == null ? null : target.name,
+                move == null ? null : move.getName(), amount, multiplier);
+    }
+
+    /**
+     * Formats an event from its parts, for copies that no longer hold the Pokemon
+     * @param type Kind of event
+     * @param actor Name of the Pokemon performing the action
+     * @param target Name of the Pokemon on the receiving end, or null
+     * @param move Name of the move used, or null
+     * @param amount Damage dealt or HP recovered
+     * @param multiplier Type effectiveness multiplier for hits
+     * @return Human readable description of the event
+     */
+    public static String describe(BattleEventType type, String actor, String target,
+                                  String move, int amount, double multiplier) {
+        return switch (type) {
+            case START -> "Battle started between " + actor + " and " + target;
+            case HIT -> actor + " used " + move + " dealing " + amount + " damage!"
+                    + describeEffectiveness(multiplier);
+            case MISS -> actor + "'s " + move + " missed!";
+            case HEAL -> actor + " used a healing move and recovered " + amount + " HP!";
+            case POTION -> actor + " used a potion and recovered " + amount + " HP!";
+            case NO_POTION -> "No potions remaining!";
+            case STUMBLE -> actor + " stumbled and missed their turn!";
+            case SURRENDER -> actor + " surrendered the battle!";
+            case FAINT -> actor + " fainted!";
+            case WIN -> actor + " won the battle!";
+            case BURNED -> actor + " was burned!";
+            case POISONED -> actor + " was poisoned!";
+            case FELL_ASLEEP -> actor + " fell asleep!";
+            case PARALYSED -> actor + " was paralysed!";
+            case SEEDED -> actor + " was seeded!";
+            case STATUS_DAMAGE -> actor + " lost " + amount + " HP to its status!";
+            case LEECHED -> actor + " drained " + amount + " HP from " + target + "!";
+            case ASLEEP -> actor + " is fast asleep!";
+            case FULLY_PARALYSED -> actor + " is paralysed and can't move!";
+            case CHARGING -> actor + " is charging " + move + "!";
+            case SWITCH -> actor + " was sent out in place of " + target + "!";
+        };
+    }
+
+    /**
+     * Describes a type multiplier for battle commentary
+     * @param multiplier Type effectiveness multiplier
+     * @return Effectiveness suffix, or an empty string for neutral hits
+     */
+    public static String describeEffectiveness(double multiplier) {
+        if (multiplier == 0.0) return " It had no effect...";
+        if (multiplier > 1.0) return " It's super effective!";
+        if (multiplier < 1.0) return " It's not very effective...";
+        return "";
+    }
+
+    // ====== Getter Methods ======
+
+    /**
+     * @return Position of this event within its battle
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return Kind of event
+     */
+    public BattleEventType getType() {
+        return type;
+    }
+
+    /**
+     * @return Pokemon performing the action
+     */
+    public Pokemon getActor() {
+        return actor;
+    }
+
+    /**
+     * @return Pokemon on the receiving end, or null
+     */
+    public Pokemon getTarget() {
+        return target;
+    }
+
+    /**
+     * @return Move used, or null
+     */
+    public Move getMove() {
+        return move;
+    }
+
+    /**
+     * @return Damage dealt or HP recovered
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * @return Type effectiveness multiplier for hits
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+}
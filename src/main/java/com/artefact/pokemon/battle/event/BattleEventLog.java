@@ -0,0 +1,130 @@
+package com.artefact.pokemon.battle.event;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+
+import java.util.Arrays;
+
+/**
+ * BattleEventLog is a fixed-size ring buffer of battle events.
+ * Publishing fills the next preallocated slot and passes it to each sink,
+ * so a battle with no sinks builds no strings and allocates nothing.
+ * Once the ring is full the oldest events are overwritten.
+ */
+public final class BattleEventLog {
+
+    // ====== Class Fields ======
+
+    private static final BattleEventSink[] NO_SINKS = new BattleEventSink[0];
+
+    private final BattleEvent[] slots;
+    private final int mask;
+    private long published;                               // Events published since the last clear
+    private volatile BattleEventSink[] sinks = NO_SINKS;  // Copied on change so publishing never locks
+
+    // ====== Constructor ======
+
+    /**
+     * Creates a log holding at least the given number of recent events
+     * @param capacity Minimum capacity, rounded up to a power of two
+     */
+    public BattleEventLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new BattleEvent[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new BattleEvent();
+        }
+        this.mask = size - 1;
+    }
+
+    // ====== Sink Management ======
+
+    /**
+     * Registers a sink to receive every future event
+     * @param sink Sink to add
+     */
+    public synchronized void addSink(BattleEventSink sink) {
+        BattleEventSink[] updated = Arrays.copyOf(sinks, sinks.length + 1);
+        updated[sinks.length] = sink;
+        sinks = updated;
+    }
+
+    /**
+     * Stops a sink receiving events
+     * @param sink Sink to remove
+     */
+    public synchronized void removeSink(BattleEventSink sink) {
+        sinks = Arrays.stream(sinks).filter(s -> s != sink).toArray(BattleEventSink[]::new);
+    }
+
+    // ====== Publishing ======
+
+    /**
+     * Publishes an event without a move or amount
+     */
+    public void publish(BattleEventType type, Pokemon actor, Pokemon target) {
+        publish(type, actor, target, null, 0, 1.0);
+    }
+
+    /**
+     * Writes an event into the next slot and hands it to every sink
+     * @param type Kind of event
+     * @param actor Pokemon performing the action
+     * @param target Pokemon on the receiving end, or null
+     * @param move Move used, or null
+     * @param amount Damage dealt or HP recovered
+     * @param multiplier Type effectiveness multiplier for hits
+     */
+    public void publish(BattleEventType type, Pokemon actor, Pokemon target,
+                        Move move, int amount, double multiplier) {
+        BattleEvent slot = slots[(int) (published & mask)];
+        slot.set(published, type, actor, target, move, amount, multiplier);
+        published++;
+        for (BattleEventSink sink : sinks) {
+            sink.onEvent(slot);
+        }
+    }
+
+    // ====== Reading ======
+
+    /**
+     * @return Number of events currently retained
+     */
+    public int size() {
+        return (int) Math.min(published, slots.length);
+    }
+
+    /**
+     * Reads a retained event, oldest first
+     * @param index 0 for the oldest retained event, size() - 1 for the newest
+     * @return Event slot
+     */
+    public BattleEvent get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Event " + index + " of " + size());
+        }
+        long sequence = published - size() + index;
+        return slots[(int) (sequence & mask)];
+    }
+
+    /**
+     * @return Total events published since the last clear
+     */
+    public long publishedCount() {
+        return published;
+    }
+
+    /**
+     * @return Maximum number of events retained
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Forgets all retained events, ready for a new battle
+     */
+    public void clear() {
+        published = 0;
+    }
+}
@@ -0,0 +1,415 @@
+package com.artefact.pokemon.battle.event;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BattleEventPublisher fans battle events out to any number of spectators
+ * through java.util.concurrent.Flow. Attach it to a BattleEventLog as a sink.
+ *
+ * The battle thread only copies each event into one shared, preallocated ring
+ * and wakes the SpectatorDispatcher, so its cost per event is the same for one
+ * spectator or ten thousand. The dispatcher thread, which may serve many
+ * publishers, then schedules a delivery task per spectator on its delivery
+ * executor. Each task walks that spectator's cursor
+ * through the ring, creating immutable snapshots as demand allows, so a
+ * spectator whose onNext blocks only holds up its own events.
+ * A spectator's buffer is its window of the shared ring: once it falls more
+ * than its buffer size behind, its overflow policy either skips the oldest
+ * events or disconnects it. The battle itself never waits for a spectator.
+ *
+ * Events must be published by one thread at a time, such as the battle loop
+ * or whichever thread holds a battle session's lock.
+ */
+public class BattleEventPublisher implements Flow.Publisher<BattleEventSnapshot>, BattleEventSink, AutoCloseable {
+
+    /**
+     * What happens when a spectator falls further behind than its buffer allows
+     */
+    public enum OverflowPolicy {
+        DROP_OLDEST,  // Skip ahead, discarding the events it missed
+        DISCONNECT    // End the subscription with an error
+    }
+
+    // ====== Class Fields ======
+
+    private static final long WRITING = -1;  // Slot sequence while the battle thread is rewriting it
+
+    private final int mask;
+    private final AtomicLongArray slotSequences;  // Publisher sequence held by each slot
+    private final long[] eventSequences;
+    private final BattleEventType[] types;
+    private final String[] actors;
+    private final String[] targets;
+    private final String[] moves;
+    private final int[] amounts;
+    private final double[] multipliers;
+    private volatile long head;                   // Next publisher sequence to write
+
+    private final int defaultBufferSize;
+    private final OverflowPolicy defaultPolicy;
+    private final Queue<Spectator> joining = new ConcurrentLinkedQueue<>();
+    private final List<Spectator> spectators = new ArrayList<>();  // Admitted spectators; dispatcher thread only
+    private final SpectatorDispatcher dispatcher;
+    private final Executor deliveryExecutor;  // Runs each spectator's deliveries
+    private final boolean ownsDispatcher;     // Dispatcher was created for this publisher alone
+    private final AtomicBoolean pending = new AtomicBoolean();  // Dispatcher has work to do here
+    private volatile boolean closed;
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a publisher with a dispatcher of its own, which stops once the
+     * publisher has closed. Prefer a shared dispatcher when many battles are spectated.
+     * @param ringCapacity Events retained for spectators, rounded up to a power of two
+     * @param defaultBufferSize Buffer size for spectators added with subscribe(Subscriber)
+     * @param defaultPolicy Overflow policy for spectators added with subscribe(Subscriber)
+     */
+    public BattleEventPublisher(int ringCapacity, int defaultBufferSize, OverflowPolicy defaultPolicy) {
+        this(ringCapacity, defaultBufferSize, defaultPolicy, new SpectatorDispatcher(), true);
+    }
+
+    /**
+     * Creates a publisher served by a shared dispatcher
+     * @param ringCapacity Events retained for spectators, rounded up to a power of two
+     * @param defaultBufferSize Buffer size for spectators added with subscribe(Subscriber)
+     * @param defaultPolicy Overflow policy for spectators added with subscribe(Subscriber)
+     * @param dispatcher Dispatcher that admits spectators and schedules their deliveries
+     */
+    public BattleEventPublisher(int ringCapacity, int defaultBufferSize, OverflowPolicy defaultPolicy,
+                                SpectatorDispatcher dispatcher) {
+        this(ringCapacity, defaultBufferSize, defaultPolicy, dispatcher, false);
+    }
+
+    private BattleEventPublisher(int ringCapacity, int defaultBufferSize, OverflowPolicy defaultPolicy,
+                                 SpectatorDispatcher dispatcher, boolean ownsDispatcher) {
+        int size = Integer.highestOneBit(Math.max(1, ringCapacity - 1)) << 1;
+        if (defaultBufferSize <= 0 || defaultBufferSize > size) {
+            throw new IllegalArgumentException("Buffer size must be between 1 and the ring capacity");
+        }
+        this.mask = size - 1;
+        this.slotSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slotSequences.set(i, WRITING);
+        }
+        this.eventSequences = new long[size];
+        this.types = new BattleEventType[size];
+        this.actors = new String[size];
+        this.targets = new String[size];
+        this.moves = new String[size];
+        this.amounts = new int[size];
+        this.multipliers = new double[size];
+        this.defaultBufferSize = defaultBufferSize;
+        this.defaultPolicy = defaultPolicy;
+        this.dispatcher = dispatcher;
+        this.deliveryExecutor = dispatcher.deliveryExecutor();
+        this.ownsDispatcher = ownsDispatcher;
+        dispatcher.register(this);
+    }
+
+    // ====== Publishing ======
+
+    /**
+     * Copies an event into the shared ring and flags it for the dispatcher.
+     * Runs on the battle thread and allocates nothing.
+     */
+    @Override
+    public void onEvent(BattleEvent event) {
+        if (closed) return;
+        long sequence = head;
+        int slot = (int) (sequence & mask);
+
+        // Mark the slot as being rewritten so a dispatcher reading it can tell
+        slotSequences.set(slot, WRITING);
+        VarHandle.storeStoreFence();
+        eventSequences[slot] = event.getSequence();
+        types[slot] = event.getType();
+        actors[slot] = event.getActor() == null ? null : event.getActor().name;
+        targets[slot] = event.getTarget() == null ? null : event.getTarget().name;
+        moves[slot] = event.getMove() == null ? null : event.getMove().getName();
+        amounts[slot] = event.getAmount();
+        multipliers[slot] = event.getMultiplier();
+        slotSequences.set(slot, sequence);
+
+        head = sequence + 1;
+        wake();
+    }
+
+    /**
+     * Reads a ring slot, or returns null if it has already been overwritten
+     */
+    private BattleEventSnapshot read(long sequence) {
+        int slot = (int) (sequence & mask);
+        if (slotSequences.get(slot) != sequence) return null;
+        BattleEventSnapshot snapshot = new BattleEventSnapshot(eventSequences[slot], types[slot],
+                actors[slot], targets[slot], moves[slot], amounts[slot], multipliers[slot]);
+        VarHandle.loadLoadFence();
+        return slotSequences.get(slot) == sequence ? snapshot : null;
+    }
+
+    // ====== Subscribing ======
+
+    /**
+     * Adds a spectator with the default buffer size and overflow policy.
+     * It receives events published after it joins.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super BattleEventSnapshot> subscriber) {
+        subscribe(subscriber, defaultBufferSize, defaultPolicy);
+    }
+
+    /**
+     * Adds a spectator with its own buffer size and overflow policy
+     * @param subscriber Spectator to add
+     * @param bufferSize Events it may fall behind before the policy applies
+     * @param policy What to do when it falls further behind
+     */
+    public void subscribe(Flow.Subscriber<? super BattleEventSnapshot> subscriber,
+                          int bufferSize, OverflowPolicy policy) {
+        if (bufferSize <= 0 || bufferSize > mask + 1) {
+            throw new IllegalArgumentException("Buffer size must be between 1 and the ring capacity");
+        }
+        joining.add(new Spectator(subscriber, bufferSize, policy));
+        if (closed) {
+            // The dispatcher may already have gone; its last pass and this one share the queue
+            admitClosing();
+        } else {
+            wake();
+        }
+    }
+
+    /**
+     * Stops publishing. Spectators receive whatever they have already requested
+     * and are then completed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        wake();
+    }
+
+    // ====== Dispatcher Thread ======
+
+    /**
+     * Flags this publisher and wakes the dispatcher, unless it is already
+     * flagged; allocates nothing
+     */
+    private void wake() {
+        if (!pending.get() && pending.compareAndSet(false, true)) {
+            dispatcher.wake();
+        }
+    }
+
+    /**
+     * Clears the flag set by wake(), so anything that happens after this
+     * call flags the publisher again
+     * @return true if the publisher was flagged
+     */
+    boolean takePending() {
+        return pending.get() && pending.getAndSet(false);
+    }
+
+    /**
+     * Admits new spectators and schedules a delivery for every spectator.
+     * Runs on the dispatcher thread whenever the publisher is flagged.
+     * @return true once the publisher has closed and needs no further passes
+     */
+    boolean dispatch() {
+        boolean closing = closed;
+        long published = head;
+        for (Spectator joined; (joined = joining.poll()) != null; ) {
+            joined.cursor = published;
+            spectators.add(joined);
+        }
+        for (Iterator<Spectator> it = spectators.iterator(); it.hasNext(); ) {
+            Spectator spectator = it.next();
+            if (spectator.finished) {
+                it.remove();
+            } else {
+                spectator.signal();
+            }
+        }
+        if (!closing) return false;
+
+        admitClosing();
+        spectators.clear();
+        if (ownsDispatcher) dispatcher.close();
+        return true;
+    }
+
+    /**
+     * Schedules spectators that joined around the time the publisher closed,
+     * so they are subscribed and completed straight away
+     */
+    private void admitClosing() {
+        for (Spectator joined; (joined = joining.poll()) != null; ) {
+            joined.cursor = head;
+            joined.signal();
+        }
+    }
+
+    /**
+     * One spectator's subscription. Its cursor and counters belong to its
+     * delivery task, which never runs twice at once; demand and cancellation
+     * are set from any thread.
+     */
+    private final class Spectator implements Flow.Subscription {
+        final Flow.Subscriber<? super BattleEventSnapshot> subscriber;
+        final int bufferSize;
+        final OverflowPolicy policy;
+        final AtomicLong demand = new AtomicLong();
+        final AtomicInteger signals = new AtomicInteger();  // Deliveries asked for; nonzero while a task is scheduled
+        volatile boolean cancelled;
+        volatile boolean finished;  // Subscription has ended and needs no more deliveries
+        volatile long badRequest;   // Non-positive request to report, or 0
+        long cursor;                // Next publisher sequence to deliver
+        boolean started;
+        boolean done;
+
+        Spectator(Flow.Subscriber<? super BattleEventSnapshot> subscriber, int bufferSize, OverflowPolicy policy) {
+            this.subscriber = subscriber;
+            this.bufferSize = bufferSize;
+            this.policy = policy;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = n == 0 ? -1 : n;
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        /**
+         * Schedules a delivery task unless one is already scheduled or running,
+         * in which case that task makes another pass
+         */
+        void signal() {
+            if (finished || signals.getAndIncrement() != 0) return;
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                finished = true;
+            }
+        }
+
+        /**
+         * Delivery task: passes over the ring until no more signals have arrived
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!finished) pass();
+                missed = signals.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void pass() {
+            if (!started) {
+                started = true;
+                if (!start()) {
+                    finished = true;
+                    return;
+                }
+            }
+            boolean closing = closed;
+            if (!deliver(head)) {
+                finished = true;
+            } else if (closing) {
+                complete();
+                finished = true;
+            }
+        }
+
+        /**
+         * Hands the subscription to the subscriber
+         * @return false if the subscriber threw
+         */
+        boolean start() {
+            try {
+                subscriber.onSubscribe(this);
+                return true;
+            } catch (RuntimeException e) {
+                cancelled = true;
+                return false;
+            }
+        }
+
+        /**
+         * Delivers as many events as demand allows
+         * @return false once the subscription has ended
+         */
+        boolean deliver(long published) {
+            if (cancelled) return false;
+            if (badRequest != 0) {
+                fail(new IllegalArgumentException("Spectators must request a positive number of events"));
+                return false;
+            }
+            if (published - cursor > bufferSize && !overflow(published - bufferSize)) {
+                return false;
+            }
+
+            while (cursor < published && demand.get() > 0 && !cancelled) {
+                BattleEventSnapshot snapshot = read(cursor);
+                if (snapshot == null) {
+                    // Overwritten while we were behind; apply the policy from the oldest live event
+                    if (!overflow(head - bufferSize)) return false;
+                    continue;
+                }
+                try {
+                    subscriber.onNext(snapshot);
+                } catch (RuntimeException e) {
+                    cancelled = true;  // A throwing subscriber is treated as cancelled
+                    return false;
+                }
+                cursor++;
+                demand.decrementAndGet();
+            }
+            return true;
+        }
+
+        /**
+         * Applies the overflow policy when the spectator has fallen too far behind
+         * @return false if the spectator was disconnected
+         */
+        boolean overflow(long oldestKept) {
+            if (policy == OverflowPolicy.DISCONNECT) {
+                fail(new IllegalStateException("Spectator fell more than " + bufferSize + " events behind"));
+                return false;
+            }
+            cursor = Math.max(cursor, oldestKept);
+            return true;
+        }
+
+        void fail(Throwable error) {
+            if (done) return;
+            done = true;
+            subscriber.onError(error);
+        }
+
+        void complete() {
+            if (done || cancelled) return;
+            done = true;
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.artefact.pokemon.battle.event;
+
+/**
+ * BattleEventSink receives events as they are published to a BattleEventLog.
+ * Sinks run on the battle thread, so they should return quickly.
+ */
+@FunctionalInterface
+public interface BattleEventSink {
+
+    /**
+     * Called once for every published event
+     * @param event Event slot, only valid for the duration of the call
+     */
+    void onEvent(BattleEvent event);
+}
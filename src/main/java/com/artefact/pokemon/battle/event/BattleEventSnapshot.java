@@ -0,0 +1,23 @@
+package com.artefact.pokemon.battle.event;
+
+/**
+ * BattleEventSnapshot is an immutable copy of a battle event, safe to keep
+ * after the ring slot it came from has been reused.
+ * @param sequence Position of the event within its battle
+ * @param type Kind of event
+ * @param actor Name of the Pokemon performing the action
+ * @param target Name of the Pokemon on the receiving end, or null
+ * @param move Name of the move used, or null
+ * @param amount Damage dealt or HP recovered
+ * @param multiplier Type effectiveness multiplier for hits
+ */
+public record BattleEventSnapshot(long sequence, BattleEventType type, String actor, String target,
+                                  String move, int amount, double multiplier) {
+
+    /**
+     * @return Human readable description, matching BattleEvent.describe()
+     */
+    public String describe() {
+        return BattleEvent.describe(type, actor, target, move, amount, multiplier);
+    }
+}
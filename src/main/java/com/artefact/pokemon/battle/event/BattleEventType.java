@@ -0,0 +1,28 @@
+package com.artefact.pokemon.battle.event;
+
+/**
+ * BattleEventType lists every kind of action a battle can publish.
+ */
+public enum BattleEventType {
+    START,           // Battle began between actor and target
+    HIT,             // Actor's move hit the target for amount damage
+    MISS,            // Actor's move missed the target
+    HEAL,            // Actor used a computer heal and recovered amount HP
+    POTION,          // Actor used a potion and recovered amount HP
+    NO_POTION,       // Actor tried to use a potion with none left
+    STUMBLE,         // Actor lost its turn to an invalid move choice
+    SURRENDER,       // Actor surrendered the battle
+    FAINT,           // Actor's health reached zero
+    WIN,             // Actor won the battle against the target
+    BURNED,          // Target's move burned the actor for amount HP a turn
+    POISONED,        // Target's move poisoned the actor for amount HP a turn
+    FELL_ASLEEP,     // Target's move put the actor to sleep
+    PARALYSED,       // Target's move paralysed the actor
+    SEEDED,          // Target's move seeded the actor, draining amount HP a turn
+    STATUS_DAMAGE,   // Actor lost amount HP to burn or poison
+    LEECHED,         // Actor drained amount HP from the target
+    ASLEEP,          // Actor lost its turn to sleep
+    FULLY_PARALYSED, // Actor lost its turn to paralysis
+    CHARGING,        // Actor is charging the move instead of acting
+    SWITCH           // Actor was sent out in place of the target
+}
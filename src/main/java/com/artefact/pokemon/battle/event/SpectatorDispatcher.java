@@ -0,0 +1,114 @@
+package com.artefact.pokemon.battle.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SpectatorDispatcher runs the spectator side of any number of
+ * BattleEventPublishers on one thread. When a publisher has new events,
+ * spectators or demand, the dispatcher thread admits its new spectators and
+ * schedules their deliveries on the shared delivery executor, so a server
+ * with many spectated battles uses one dispatcher thread however many
+ * battles it holds.
+ *
+ * Each wake-up only visits publishers that flagged themselves, and every
+ * delivery runs on the executor, so a spectator whose onNext blocks holds up
+ * neither the dispatcher nor any other spectator.
+ */
+public final class SpectatorDispatcher implements AutoCloseable {
+
+    // ====== Class Fields ======
+
+    private final List<BattleEventPublisher> publishers = new CopyOnWriteArrayList<>();
+    private final Executor deliveryExecutor;  // Runs every spectator's deliveries
+    private final Thread thread;
+    private volatile boolean closed;
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a dispatcher that delivers on daemon threads of its own,
+     * started as needed and retired when idle
+     */
+    public SpectatorDispatcher() {
+        this(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "battle-spectator");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a dispatcher that delivers on the given executor
+     * @param deliveryExecutor Executor each spectator's deliveries run on; a spectator
+     *                         that blocks holds one of its threads
+     */
+    public SpectatorDispatcher(Executor deliveryExecutor) {
+        this.deliveryExecutor = deliveryExecutor;
+        this.thread = new Thread(this::run, "battle-spectators");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // ====== Publisher Methods ======
+
+    /**
+     * Starts serving a publisher
+     */
+    void register(BattleEventPublisher publisher) {
+        publishers.add(publisher);
+        wake();
+    }
+
+    /**
+     * Wakes the dispatcher thread. Allocates nothing, so the battle thread can call it per event.
+     */
+    void wake() {
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return Executor spectators' deliveries run on
+     */
+    Executor deliveryExecutor() {
+        return deliveryExecutor;
+    }
+
+    /**
+     * @return Number of publishers still being served
+     */
+    public int publisherCount() {
+        return publishers.size();
+    }
+
+    /**
+     * Stops the dispatcher thread. The delivery executor is left running, so
+     * deliveries already scheduled finish; publishers still open stop
+     * delivering new events, so close them first.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        wake();
+    }
+
+    // ====== Dispatcher Thread ======
+
+    /**
+     * Serves every flagged publisher each time it is woken, dropping
+     * publishers whose final pass has run
+     */
+    private void run() {
+        while (!closed) {
+            for (BattleEventPublisher publisher : publishers) {
+                if (publisher.takePending() && publisher.dispatch()) {
+                    publishers.remove(publisher);
+                }
+            }
+            LockSupport.park(this);
+        }
+    }
+}
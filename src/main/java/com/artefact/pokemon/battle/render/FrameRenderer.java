@@ -0,0 +1,207 @@
+package com.artefact.pokemon.battle.render;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * FrameRenderer draws a whole screen of text at once. Callers compose a frame
+ * line by line into a reusable buffer, then present it with a single write.
+ *
+ * On an ANSI terminal the frame is pinned to the top of the screen and only
+ * lines that differ from the previous frame are redrawn, using cursor
+ * positioning. Anything printed below the frame between presents is cleared
+ * by the next one. Without ANSI support frames scroll instead: each present
+ * writes the frame from its first changed line down, so logs and piped output
+ * stay readable without repeating unchanged text.
+ *
+ * Other output shown between frames should go through interleaved(). Anything
+ * written there makes the next present draw the whole frame again, since the
+ * lines it would have skipped have scrolled away, so per-turn text belongs in
+ * the frame itself and interleaved() is for occasional output such as menus.
+ */
+public final class FrameRenderer {
+
+    // ====== Class Fields ======
+
+    private static final String CSI = "\u001B[";  // ANSI control sequence introducer
+
+    private final PrintStream out;
+    private final boolean ansi;
+
+    private StringBuilder current = new StringBuilder(1024);   // Frame being composed
+    private StringBuilder previous = new StringBuilder(1024);  // Frame currently on screen
+    private int[] currentEnds = new int[32];                   // End offset of each composed line
+    private int[] previousEnds = new int[32];
+    private int currentLines;
+    private int previousLines;
+    private boolean lineOpen;
+    private boolean fullRedraw = true;  // Next present repaints the whole screen
+    private final StringBuilder output = new StringBuilder(2048);
+    private PrintStream interleaved;     // Stream for output between frames, created on first use
+
+    // ====== Constructor ======
+
+    /**
+     * Creates a renderer
+     * @param out Stream each frame is written to
+     * @param ansi true to redraw changed lines in place, false to scroll each frame's changed tail
+     */
+    public FrameRenderer(PrintStream out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+    }
+
+    /**
+     * Checks whether standard output is an interactive terminal that understands
+     * ANSI cursor movement
+     * @return true if in-place redrawing can be used
+     */
+    public static boolean ansiSupported() {
+        String term = System.getenv("TERM");
+        return System.console() != null && term != null && !term.equals("dumb");
+    }
+
+    /**
+     * Returns a stream for text shown between frames, such as battle commentary.
+     * It writes straight to the renderer's stream and makes the next present a full redraw.
+     * @return Stream sharing this renderer's output
+     */
+    public PrintStream interleaved() {
+        if (interleaved == null) {
+            interleaved = new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                    fullRedraw = true;
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) {
+                    fullRedraw = true;
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void flush() {
+                    out.flush();
+                }
+            }, true);
+        }
+        return interleaved;
+    }
+
+    // ====== Composition Methods ======
+
+    /**
+     * Starts a new line of the frame
+     * @return Frame buffer to append the line's text to; it must not contain line breaks
+     */
+    public StringBuilder line() {
+        if (lineOpen) endLine();
+        lineOpen = true;
+        return current;
+    }
+
+    /**
+     * Adds a complete line to the frame
+     * @param text Line text without a line break
+     */
+    public void line(CharSequence text) {
+        line().append(text);
+    }
+
+    /**
+     * Forces the next present to repaint the whole screen, for example after
+     * other output has scrolled the frame away
+     */
+    public void invalidate() {
+        fullRedraw = true;
+    }
+
+    /**
+     * Writes the composed frame and starts an empty one
+     */
+    public void present() {
+        if (lineOpen) endLine();
+        output.setLength(0);
+
+        if (ansi) {
+            appendChangedLines();
+        } else {
+            appendChangedTail();
+        }
+        out.append(output);
+        out.flush();
+
+        StringBuilder buffer = previous;
+        previous = current;
+        current = buffer;
+        current.setLength(0);
+        int[] ends = previousEnds;
+        previousEnds = currentEnds;
+        currentEnds = ends;
+        previousLines = currentLines;
+        currentLines = 0;
+    }
+
+    // ====== Internal Methods ======
+
+    private void endLine() {
+        if (currentLines == currentEnds.length) {
+            int[] grown = new int[currentEnds.length * 2];
+            System.arraycopy(currentEnds, 0, grown, 0, currentLines);
+            currentEnds = grown;
+        }
+        currentEnds[currentLines++] = current.length();
+        lineOpen = false;
+    }
+
+    private static int start(int[] ends, int line) {
+        return line == 0 ? 0 : ends[line - 1];
+    }
+
+    /**
+     * Moves to each changed line and rewrites it, then clears everything below the frame
+     */
+    private void appendChangedLines() {
+        if (fullRedraw) {
+            output.append(CSI).append('H').append(CSI).append("2J");
+        }
+        for (int i = 0; i < currentLines; i++) {
+            if (fullRedraw || i >= previousLines || !sameAsPrevious(i)) {
+                output.append(CSI).append(i + 1).append(";1H")
+                        .append(current, start(currentEnds, i), currentEnds[i])
+                        .append(CSI).append('K');
+            }
+        }
+        output.append(CSI).append(currentLines + 1).append(";1H").append(CSI).append('J');
+        fullRedraw = false;
+    }
+
+    /**
+     * Appends the frame from its first changed line onwards. Lines above it are
+     * still on screen from the previous frame; a frame with no new lines is repeated in full.
+     */
+    private void appendChangedTail() {
+        int first = 0;
+        if (!fullRedraw) {
+            while (first < currentLines && first < previousLines && sameAsPrevious(first)) first++;
+            if (first == currentLines) first = 0;
+        }
+        for (int i = first; i < currentLines; i++) {
+            output.append(current, start(currentEnds, i), currentEnds[i]).append(System.lineSeparator());
+        }
+        fullRedraw = false;
+    }
+
+    private boolean sameAsPrevious(int line) {
+        int from = start(currentEnds, line);
+        int length = currentEnds[line] - from;
+        int previousFrom = start(previousEnds, line);
+        if (previousEnds[line] - previousFrom != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (current.charAt(from + i) != previous.charAt(previousFrom + i)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package com.artefact.pokemon.battle.render;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * HealthBars renders health as a fixed-width progress bar such as
+ * "[██████████░░░░░░░░░░] 50/100". Every bar for a given max HP is built once
+ * into a table indexed by current health, so drawing a bar is an array lookup.
+ */
+public final class HealthBars {
+    // Prevent instantiation
+    private HealthBars() {
+        throw new UnsupportedOperationException("This utility class should not be instantiated");
+    }
+
+    // ====== Class Fields ======
+
+    private static final int BAR_LENGTH = 20;    // Cells in every bar
+    private static final int TABLED_MAX = 1024;  // Largest max HP given a table; higher values are built on demand
+
+    // Tables indexed by max HP, filled the first time each max HP is drawn
+    private static final AtomicReferenceArray<String[]> TABLES = new AtomicReferenceArray<>(TABLED_MAX + 1);
+
+    // ====== Rendering Methods ======
+
+    /**
+     * Returns the health bar for a Pokemon
+     * @param health Current health points
+     * @param maxHealth Health the bar is measured against
+     * @return Bar followed by current and max health
+     */
+    public static String render(int health, int maxHealth) {
+        if (maxHealth <= 0 || maxHealth > TABLED_MAX || health < 0 || health > maxHealth) {
+            return build(health, maxHealth);
+        }
+        String[] table = TABLES.get(maxHealth);
+        if (table == null) {
+            table = buildTable(maxHealth);
+            TABLES.compareAndSet(maxHealth, null, table);  // Losing a race just discards an identical table
+        }
+        return table[health];
+    }
+
+    private static String[] buildTable(int maxHealth) {
+        String[] table = new String[maxHealth + 1];
+        for (int health = 0; health <= maxHealth; health++) {
+            table[health] = build(health, maxHealth);
+        }
+        return table;
+    }
+
+    private static String build(int health, int maxHealth) {
+        int filledBars = maxHealth <= 0 ? 0 : (int)((double)health / maxHealth * BAR_LENGTH);
+        StringBuilder healthBar = new StringBuilder(BAR_LENGTH + 16).append('[');
+        for (int i = 0; i < BAR_LENGTH; i++) {
+            healthBar.append(i < filledBars ? "█" : "░");
+        }
+        healthBar.append("] ").append(health).append('/').append(maxHealth);
+        return healthBar.toString();
+    }
+}
@@ -0,0 +1,188 @@
+package com.artefact.pokemon.history;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AsyncBattleWriter records battles on a background thread so finished
+ * battles never wait on file I/O. Submitted records go into a bounded queue.
+ * The writer thread collects everything that arrives within one flush interval
+ * and records the whole group with a single write to the journal and index.
+ * When the queue is full, submit blocks until the writer catches up.
+ * A group that fails to write is counted as failed and the writer carries on;
+ * if the writer thread stops anyway, submit fails instead of waiting forever.
+ */
+public class AsyncBattleWriter implements AutoCloseable {
+
+    /**
+     * When recorded battles are forced to disk
+     */
+    public enum SyncPolicy {
+        NEVER,        // Leave it to the operating system
+        EVERY_BATCH,  // After each group write
+        ON_CLOSE      // Once, when the writer shuts down
+    }
+
+    // ====== Class Fields ======
+
+    private final BattleHistory history;
+    private final BlockingQueue<BattleRecord> queue;
+    private final long flushIntervalNanos;
+    private final int maxBatch;
+    private final SyncPolicy syncPolicy;
+    private final Thread writerThread;
+    private final ReadWriteLock submitLock = new ReentrantReadWriteLock();  // Orders submits before close
+    private volatile boolean closed;
+    private long written;  // Battles recorded so far; guarded by this
+    private long failed;   // Battles lost to write errors; guarded by this
+
+    // ====== Constructor ======
+
+    /**
+     * Starts a writer thread for a battle history
+     * @param history History to record into; closed when the writer closes
+     * @param queueCapacity Maximum battles waiting to be written before submit blocks
+     * @param flushIntervalMillis How long to keep collecting a group after its first battle arrives
+     * @param syncPolicy When to force written battles to disk
+     */
+    public AsyncBattleWriter(BattleHistory history, int queueCapacity, long flushIntervalMillis,
+                             SyncPolicy syncPolicy) {
+        if (queueCapacity <= 0 || flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive and flush interval non-negative");
+        }
+        this.history = history;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.maxBatch = queueCapacity;
+        this.syncPolicy = syncPolicy;
+        this.writerThread = new Thread(this::run, "battle-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    // ====== Submission ======
+
+    /**
+     * Queues a battle for writing, blocking while the queue is full
+     * @param record Finished battle
+     * @throws InterruptedException If interrupted while waiting for space
+     * @throws IllegalStateException If the writer has been closed or its thread has stopped
+     */
+    public void submit(BattleRecord record) throws InterruptedException {
+        // Held across the check and the enqueue so close cannot slip in between
+        submitLock.readLock().lockInterruptibly();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Battle writer is closed");
+            }
+            while (!queue.offer(record, 100, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) {
+                    throw new IllegalStateException("Battle writer has stopped");
+                }
+            }
+        } finally {
+            submitLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of battles written so far
+     */
+    public synchronized long writtenCount() {
+        return written;
+    }
+
+    /**
+     * @return Number of battles that could not be written
+     */
+    public synchronized long failedCount() {
+        return failed;
+    }
+
+    // ====== Writer Thread ======
+
+    private void run() {
+        List<BattleRecord> batch = new ArrayList<>();
+        while (!closed || !queue.isEmpty()) {
+            try {
+                BattleRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // Keep collecting until the flush interval passes or the group is full
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatch && !closed) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    BattleRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                queue.drainTo(batch, maxBatch - batch.size());
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // Nothing interrupts this thread on purpose; keep draining until closed
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<BattleRecord> batch) {
+        try {
+            history.recordAll(batch);
+            if (syncPolicy == SyncPolicy.EVERY_BATCH) {
+                history.sync();
+            }
+            synchronized (this) {
+                written += batch.size();
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                failed += batch.size();
+            }
+            System.err.println("Failed to save " + batch.size() + " battles to history");
+            System.err.println("Error details: " + e.getMessage());
+        }
+    }
+
+    // ====== Shutdown ======
+
+    /**
+     * Stops accepting battles, waits for everything queued to be written,
+     * then syncs according to the policy and closes the history
+     * @throws IOException If the final sync or close fails
+     */
+    @Override
+    public void close() throws IOException {
+        submitLock.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+        } finally {
+            submitLock.writeLock().unlock();
+        }
+
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            if (syncPolicy != SyncPolicy.NEVER) {
+                history.sync();
+            }
+        } finally {
+            history.close();
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+}
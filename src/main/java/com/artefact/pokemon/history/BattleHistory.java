@@ -0,0 +1,165 @@
+package com.artefact.pokemon.history;
+
+import com.artefact.utils.Constants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BattleHistory is the query service over saved battles. It owns the battle
+ * journal and its index, keeps them in step as battles are recorded, and
+ * answers win-rate, head-to-head and date-range questions from the index.
+ */
+public class BattleHistory implements AutoCloseable {
+
+    // ====== Class Fields ======
+
+    private final BattleJournal journal;
+    private final BattleHistoryIndex index;
+
+    // ====== Constructor ======
+
+    private BattleHistory(BattleJournal journal, BattleHistoryIndex index) {
+        this.journal = journal;
+        this.index = index;
+    }
+
+    /**
+     * Opens the battle history in the default output directory
+     * @return Open BattleHistory
+     * @throws IOException If the history files cannot be opened
+     */
+    public static BattleHistory open() throws IOException {
+        return open(Path.of(Constants.OUTPUT_DIR));
+    }
+
+    /**
+     * Opens the battle history in a directory. An old text history is
+     * converted into the journal the first time the journal is created.
+     * @param directory Directory holding the history files
+     * @return Open BattleHistory
+     * @throws IOException If the history files cannot be opened
+     */
+    public static BattleHistory open(Path directory) throws IOException {
+        Path journalFile = directory.resolve(Constants.BATTLE_JOURNAL_FILE);
+        Path textFile = directory.resolve("battle_history" + Constants.FILE_EXTENSION);
+        boolean migrate = !Files.exists(journalFile) && Files.exists(textFile);
+
+        BattleJournal journal = BattleJournal.open(journalFile);
+        try {
+            if (migrate) {
+                int converted = TextHistoryConverter.convert(textFile, journal);
+                System.out.println("Converted " + converted + " battles from " + textFile);
+            }
+            BattleHistoryIndex index = BattleHistoryIndex.open(
+                    directory.resolve(Constants.BATTLE_INDEX_FILE), journal);
+            return new BattleHistory(journal, index);
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+    }
+
+    // ====== Recording ======
+
+    /**
+     * Appends a battle to the journal and indexes it
+     * @param record Finished battle
+     * @throws IOException If either file cannot be written
+     */
+    public void record(BattleRecord record) throws IOException {
+        recordAll(List.of(record));
+    }
+
+    /**
+     * Appends several battles to the journal and index, with one write to each
+     * @param records Finished battles, in order
+     * @throws IOException If either file cannot be written
+     */
+    public void recordAll(List<BattleRecord> records) throws IOException {
+        long[] offsets = journal.appendAll(records);
+        index.addAll(offsets, records);
+    }
+
+    /**
+     * Forces recorded battles to disk. The index can be rebuilt from the
+     * journal, so only the journal is synced.
+     * @throws IOException If the sync fails
+     */
+    public void sync() throws IOException {
+        journal.sync();
+    }
+
+    // ====== Queries ======
+
+    /**
+     * @return A species' wins and losses between two times (epoch millis, end exclusive)
+     */
+    public WinLoss winLoss(String species, long from, long to) {
+        return index.winLoss(species, from, to);
+    }
+
+    /**
+     * @return A species' wins and losses against one opponent between two times
+     */
+    public WinLoss headToHead(String species, String opponent, long from, long to) {
+        return index.headToHead(species, opponent, from, to);
+    }
+
+    /**
+     * Reads every battle between two times
+     * @param from Start of the range in epoch milliseconds, inclusive
+     * @param to End of the range in epoch milliseconds, exclusive
+     * @return Battles in chronological order
+     * @throws IOException If the journal cannot be read
+     */
+    public List<BattleRecord> battlesBetween(long from, long to) throws IOException {
+        return read(index.offsetsBetween(from, to));
+    }
+
+    /**
+     * Reads every battle a species took part in between two times
+     * @param species Pokemon name
+     * @param from Start of the range in epoch milliseconds, inclusive
+     * @param to End of the range in epoch milliseconds, exclusive
+     * @return Battles in chronological order
+     * @throws IOException If the journal cannot be read
+     */
+    public List<BattleRecord> battlesFor(String species, long from, long to) throws IOException {
+        return read(index.offsetsFor(species, from, to));
+    }
+
+    /**
+     * @return Total number of battles recorded
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return Size of the journal in bytes
+     */
+    public long journalSize() {
+        return journal.size();
+    }
+
+    private List<BattleRecord> read(long[] offsets) throws IOException {
+        List<BattleRecord> records = new ArrayList<>(offsets.length);
+        for (long offset : offsets) {
+            records.add(journal.read(offset));
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            index.close();
+        } finally {
+            journal.close();
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.artefact.pokemon.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BattleHistoryIndex is an on-disk index over a BattleJournal by date,
+ * winner species and loser species. The index file is an append-only list of
+ * entries: a species entry assigns the next species id to a name, and a battle
+ * entry holds a timestamp, the record's journal offset and the winner and loser ids.
+ *
+ * On open the entries are loaded into postings lists of battle numbers for
+ * all battles, per winner, per loser and per pairing. Every postings list is
+ * kept sorted by time, so a date range is found by binary search. Counting
+ * queries therefore cost a couple of binary searches and listing queries cost
+ * the size of their result. Battles nearly always arrive in time order and
+ * are appended; one recorded after the wall clock stepped backwards is
+ * inserted at its own time instead.
+ */
+public class BattleHistoryIndex implements AutoCloseable {
+
+    // ====== Class Fields ======
+
+    private static final int MAGIC = 0x50424931;  // "PBI1"
+    private static final int HEADER_BYTES = 4;
+    private static final byte SPECIES_ENTRY = 0;
+    private static final byte BATTLE_ENTRY = 1;
+    private static final int BATTLE_ENTRY_BYTES = 1 + 8 + 8 + 4 + 4;
+
+    private final FileChannel channel;
+    private ByteBuffer pending = ByteBuffer.allocate(256);     // Entries waiting to be written
+    private long end;                                          // Offset the next entry is written at
+
+    private final Map<String, Integer> speciesIds = new HashMap<>();
+    private final List<String> speciesNames = new ArrayList<>();
+    private long[] timestamps = new long[1024];  // Battle number -> end time
+    private long[] offsets = new long[1024];     // Battle number -> journal offset
+    private int battles;
+    private final Postings all = new Postings();               // Every battle, sorted by time
+    private final List<Postings> wins = new ArrayList<>();     // Species id -> battles won
+    private final List<Postings> losses = new ArrayList<>();   // Species id -> battles lost
+    private final Map<Long, Postings> pairings = new HashMap<>();  // (winner, loser) -> battles
+
+    // ====== Constructor ======
+
+    private BattleHistoryIndex(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens an index, creating it if needed, and indexes any journal records
+     * it has not seen yet
+     * @param file Path of the index file
+     * @param journal Journal the index describes
+     * @return Open, up-to-date index
+     * @throws IOException If either file cannot be read or written
+     */
+    public static BattleHistoryIndex open(Path file, BattleJournal journal) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        BattleHistoryIndex index = new BattleHistoryIndex(channel);
+        try {
+            index.load();
+            if (index.battles == 0) {
+                journal.forEach(index::add);
+            } else {
+                journal.forEachAfter(index.offsets[index.battles - 1], index::add);
+            }
+            return index;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // ====== Indexing ======
+
+    /**
+     * Indexes a record that has just been appended to the journal
+     * @param offset Journal offset of the record
+     * @param record Record that was appended
+     * @throws IOException If the index entry cannot be written
+     */
+    public void add(long offset, BattleRecord record) throws IOException {
+        addAll(new long[] {offset}, List.of(record));
+    }
+
+    /**
+     * Indexes several records with a single write to the index file
+     * @param journalOffsets Journal offset of each record
+     * @param records Records that were appended, in journal order
+     * @throws IOException If the index entries cannot be written
+     */
+    public synchronized void addAll(long[] journalOffsets, List<BattleRecord> records) throws IOException {
+        pending.clear();
+        List<String> added = new ArrayList<>();  // Species first seen in this group, in id order
+        int[] winners = new int[journalOffsets.length];
+        int[] losers = new int[journalOffsets.length];
+        for (int i = 0; i < journalOffsets.length; i++) {
+            BattleRecord record = records.get(i);
+            winners[i] = speciesId(record.winnerName(), added);
+            losers[i] = speciesId(record.loserName(), added);
+            reserve(BATTLE_ENTRY_BYTES);
+            pending.put(BATTLE_ENTRY).putLong(record.timestamp()).putLong(journalOffsets[i])
+                    .putInt(winners[i]).putInt(losers[i]);
+        }
+
+        // Only index in memory once the entries are in the file
+        long start = end;
+        try {
+            write(pending.flip());
+        } catch (IOException e) {
+            end = start;  // The next group overwrites any partial write
+            throw e;
+        }
+        for (String name : added) {
+            addSpecies(name);
+        }
+        for (int i = 0; i < journalOffsets.length; i++) {
+            addBattle(records.get(i).timestamp(), journalOffsets[i], winners[i], losers[i]);
+        }
+    }
+
+    /**
+     * Looks up a species id, assigning the next free one and queueing a
+     * species entry if the name is new
+     */
+    private int speciesId(String name, List<String> added) {
+        Integer id = speciesIds.get(name);
+        if (id != null) return id;
+        int pendingId = added.indexOf(name);
+        if (pendingId >= 0) return speciesNames.size() + pendingId;
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        reserve(5 + bytes.length);
+        pending.put(SPECIES_ENTRY).putInt(bytes.length).put(bytes);
+        added.add(name);
+        return speciesNames.size() + added.size() - 1;
+    }
+
+    private void reserve(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            pending = grown.put(pending);
+        }
+    }
+
+    // ====== Queries ======
+
+    /**
+     * Counts a species' wins and losses in a date range
+     * @param species Pokemon name
+     * @param from Start of the range in epoch milliseconds, inclusive
+     * @param to End of the range in epoch milliseconds, exclusive
+     * @return Wins and losses in the range
+     */
+    public synchronized WinLoss winLoss(String species, long from, long to) {
+        Integer id = speciesIds.get(species);
+        if (id == null) return new WinLoss(0, 0);
+        return new WinLoss(wins.get(id).count(from, to), losses.get(id).count(from, to));
+    }
+
+    /**
+     * Counts one species' record against another in a date range
+     * @param species Pokemon whose wins and losses are counted
+     * @param opponent Opposing Pokemon
+     * @param from Start of the range in epoch milliseconds, inclusive
+     * @param to End of the range in epoch milliseconds, exclusive
+     * @return Wins and losses of species against opponent
+     */
+    public synchronized WinLoss headToHead(String species, String opponent, long from, long to) {
+        Integer id = speciesIds.get(species);
+        Integer opponentId = speciesIds.get(opponent);
+        if (id == null || opponentId == null) return new WinLoss(0, 0);
+        Postings won = pairings.get(pairKey(id, opponentId));
+        Postings lost = pairings.get(pairKey(opponentId, id));
+        return new WinLoss(won == null ? 0 : won.count(from, to), lost == null ? 0 : lost.count(from, to));
+    }
+
+    /**
+     * Finds the journal offsets of every battle in a date range
+     * @param from Start of the range in epoch milliseconds, inclusive
+     * @param to End of the range in epoch milliseconds, exclusive
+     * @return Journal offsets in chronological order
+     */
+    public synchronized long[] offsetsBetween(long from, long to) {
+        int start = all.lowerBound(from);
+        int stop = all.lowerBound(to);
+        long[] result = new long[Math.max(0, stop - start)];
+        for (int n = 0; n < result.length; n++) {
+            result[n] = offsets[all.battles[start + n]];
+        }
+        return result;
+    }
+
+    /**
+     * Finds the journal offsets of a species' battles in a date range
+     * @param species Pokemon name
+     * @param from Start of the range in epoch milliseconds, inclusive
+     * @param to End of the range in epoch milliseconds, exclusive
+     * @return Journal offsets of battles it won or lost, in chronological order
+     */
+    public synchronized long[] offsetsFor(String species, long from, long to) {
+        Integer id = speciesIds.get(species);
+        if (id == null) return new long[0];
+        Postings won = wins.get(id);
+        Postings lost = losses.get(id);
+        int i = won.lowerBound(from), wonEnd = won.lowerBound(to);
+        int j = lost.lowerBound(from), lostEnd = lost.lowerBound(to);
+        long[] result = new long[Math.max(0, wonEnd - i) + Math.max(0, lostEnd - j)];
+        int n = 0;
+        while (i < wonEnd || j < lostEnd) {  // Merge the two sorted lists
+            if (j >= lostEnd || (i < wonEnd && before(won.battles[i], lost.battles[j]))) {
+                result[n++] = offsets[won.battles[i++]];
+            } else {
+                result[n++] = offsets[lost.battles[j++]];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Number of battles indexed
+     */
+    public synchronized int size() {
+        return battles;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // ====== Loading ======
+
+    /**
+     * Reads every complete entry into memory, dropping a torn entry at the end
+     */
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            write(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).flip());
+            return;
+        }
+        if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+            throw new IOException("Battle history index is unreadable");
+        }
+
+        MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (data.getInt() != MAGIC) {
+            throw new IOException("Battle history index is unreadable");
+        }
+        while (data.hasRemaining()) {
+            int start = data.position();
+            byte kind = data.get();
+            if (kind == SPECIES_ENTRY && data.remaining() >= 4) {
+                int length = data.getInt();
+                if (length < 0 || length > data.remaining()) {
+                    data.position(start);
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                data.get(bytes);
+                addSpecies(new String(bytes, StandardCharsets.UTF_8));
+            } else if (kind == BATTLE_ENTRY && data.remaining() >= BATTLE_ENTRY_BYTES - 1) {
+                addBattle(data.getLong(), data.getLong(), data.getInt(), data.getInt());
+            } else {
+                data.position(start);
+                break;
+            }
+        }
+        end = data.position();
+        channel.truncate(end);
+    }
+
+    private int addSpecies(String name) {
+        int id = speciesNames.size();
+        speciesNames.add(name);
+        speciesIds.put(name, id);
+        wins.add(new Postings());
+        losses.add(new Postings());
+        return id;
+    }
+
+    private void addBattle(long timestamp, long offset, int winner, int loser) {
+        if (battles == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, battles * 2);
+            offsets = Arrays.copyOf(offsets, battles * 2);
+        }
+        timestamps[battles] = timestamp;
+        offsets[battles] = offset;
+        all.add(battles);
+        wins.get(winner).add(battles);
+        losses.get(loser).add(battles);
+        pairings.computeIfAbsent(pairKey(winner, loser), key -> new Postings()).add(battles);
+        battles++;
+    }
+
+    // ====== Internal Methods ======
+
+    private void write(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            end += channel.write(source, end);
+        }
+    }
+
+    private static long pairKey(int winner, int loser) {
+        return (long) winner << 32 | loser;
+    }
+
+    /**
+     * @return true if battle a sorts before battle b: earlier, or recorded first at the same time
+     */
+    private boolean before(int a, int b) {
+        return timestamps[a] < timestamps[b] || (timestamps[a] == timestamps[b] && a < b);
+    }
+
+    /**
+     * A growable list of battle numbers, sorted by time
+     */
+    private final class Postings {
+        int[] battles = new int[8];
+        int size;
+
+        /**
+         * Adds a battle numbered after every battle in the list, shifting
+         * later-stamped battles up if the clock stepped backwards
+         */
+        void add(int battle) {
+            if (size == battles.length) {
+                battles = Arrays.copyOf(battles, size * 2);
+            }
+            int position = size++;
+            while (position > 0 && before(battle, battles[position - 1])) {
+                battles[position] = battles[position - 1];
+                position--;
+            }
+            battles[position] = battle;
+        }
+
+        /**
+         * @return First position whose battle ended at or after the given time
+         */
+        int lowerBound(long time) {
+            int low = 0, high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestamps[battles[mid]] < time) low = mid + 1; else high = mid;
+            }
+            return low;
+        }
+
+        int count(long from, long to) {
+            return Math.max(0, lowerBound(to) - lowerBound(from));
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.artefact.pokemon.history;
+
+import com.artefact.pokemon.types.PokemonType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * BattleJournal is an append-only binary log of finished battles.
+ * The file starts with a magic number and version, followed by records of the form
+ * [payload length][CRC32 of payload][payload]. Records are appended through a
+ * FileChannel and read back by scanning memory-mapped windows of the file.
+ *
+ * A record cut short by a crash mid-write is treated as the end of the journal
+ * and is overwritten by the next append. Opening only walks the record lengths
+ * and checks the final record, so it stays cheap on large journals; full scans
+ * verify every checksum and report a mismatch as corruption.
+ */
+public class BattleJournal implements AutoCloseable {
+
+    // ====== Class Fields ======
+
+    static final int MAGIC = 0x50424A31;      // "PBJ1"
+    static final int HEADER_BYTES = 8;        // Magic number and version
+    static final int RECORD_HEADER_BYTES = 8; // Payload length and checksum
+    private static final int VERSION = 1;
+    private static final int NO_TYPE = -1;    // Stored in place of a missing secondary type
+    private static final long MAX_WINDOW = Integer.MAX_VALUE;  // Largest single mapping
+
+    private final Path file;
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);  // Reused encode buffer
+    private long end;                                       // Offset the next record is written at
+
+    /**
+     * Receives records during a scan
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        /**
+         * @param offset File offset of the record, usable with read(long)
+         * @param record Decoded record
+         * @throws IOException If the visitor itself fails; the scan stops and rethrows
+         */
+        void visit(long offset, BattleRecord record) throws IOException;
+    }
+
+    // ====== Constructor ======
+
+    private BattleJournal(Path file, FileChannel channel, long end) {
+        this.file = file;
+        this.channel = channel;
+        this.end = end;
+    }
+
+    /**
+     * Opens a journal for appending, creating it if needed.
+     * Any torn record left at the end of the file is discarded.
+     * @param file Path of the journal file
+     * @return Open journal positioned after the last complete record
+     * @throws IOException If the file cannot be opened or is not a battle journal
+     */
+    public static BattleJournal open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end;
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+                writeFully(channel, header, 0);
+                end = HEADER_BYTES;
+            } else {
+                end = findEnd(file, channel);
+                channel.truncate(end);
+            }
+            return new BattleJournal(file, channel, end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // ====== Writing ======
+
+    /**
+     * Appends a record to the end of the journal
+     * @param record Battle to store
+     * @return File offset of the new record
+     * @throws IOException If the write fails
+     */
+    public long append(BattleRecord record) throws IOException {
+        return appendAll(List.of(record))[0];
+    }
+
+    /**
+     * Appends several records with a single write
+     * @param records Battles to store, in order
+     * @return File offset of each new record
+     * @throws IOException If the write fails
+     */
+    public synchronized long[] appendAll(List<BattleRecord> records) throws IOException {
+        long[] offsets = new long[records.size()];
+        buffer.clear();
+        for (int i = 0; i < offsets.length; i++) {
+            int start = buffer.position();
+            ensureCapacity(RECORD_HEADER_BYTES);
+            buffer.position(start + RECORD_HEADER_BYTES);
+            encode(records.get(i));
+            int payloadLength = buffer.position() - start - RECORD_HEADER_BYTES;
+
+            crc.reset();
+            crc.update(buffer.array(), start + RECORD_HEADER_BYTES, payloadLength);
+            buffer.putInt(start, payloadLength);
+            buffer.putInt(start + 4, (int) crc.getValue());
+            offsets[i] = end + start;
+        }
+        buffer.flip();
+
+        int length = buffer.remaining();
+        writeFully(channel, buffer, end);
+        end += length;
+        return offsets;
+    }
+
+    /**
+     * Forces appended records to disk
+     * @throws IOException If the sync fails
+     */
+    public void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * @return Size of the journal in bytes, up to the end of the last record
+     */
+    public synchronized long size() {
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // ====== Reading ======
+
+    /**
+     * Visits every complete record in file order
+     * @param visitor Receives each record and its offset
+     * @throws IOException If the journal cannot be read or a checksum does not match
+     */
+    public void forEach(RecordVisitor visitor) throws IOException {
+        scan(file, channel, HEADER_BYTES, visitor);
+    }
+
+    /**
+     * Visits the records that follow a known record, in file order
+     * @param offset Offset of a record already seen; only later records are visited
+     * @param visitor Receives each record and its offset
+     * @throws IOException If the journal cannot be read or a checksum does not match
+     */
+    public void forEachAfter(long offset, RecordVisitor visitor) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(channel, header, offset);
+        scan(file, channel, offset + RECORD_HEADER_BYTES + header.getInt(0), visitor);
+    }
+
+    /**
+     * Reads every record in a journal file without opening it for writing
+     * @param file Path of the journal file
+     * @param visitor Receives each record and its offset
+     * @throws IOException If the journal cannot be read or a checksum does not match
+     */
+    public static void forEach(Path file, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            scan(file, channel, HEADER_BYTES, visitor);
+        }
+    }
+
+    /**
+     * Reads a single record by its offset
+     * @param offset Offset returned by append or passed to a visitor
+     * @return Decoded record
+     * @throws IOException If the read fails or the checksum does not match
+     */
+    public BattleRecord read(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(channel, header, offset);
+        int length = header.getInt(0);
+        if (length <= 0 || offset + RECORD_HEADER_BYTES + length > size()) {
+            throw new IOException("No record at offset " + offset + " in " + file);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(channel, payload, offset + RECORD_HEADER_BYTES);
+        payload.flip();
+        verify(payload, header.getInt(4), offset);
+        return decode(payload);
+    }
+
+    /**
+     * Walks record lengths to find the end of the last complete record.
+     * The final record's checksum is checked so a torn write is discarded.
+     */
+    private static long findEnd(Path file, FileChannel channel) throws IOException {
+        checkHeader(file, channel);
+        long fileSize = channel.size();
+        long offset = HEADER_BYTES;
+        long last = -1;
+        int lastChecksum = 0;
+        while (offset < fileSize) {
+            long windowStart = offset;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    windowStart, Math.min(fileSize - windowStart, MAX_WINDOW));
+            int position = 0;
+            while (window.limit() - position >= RECORD_HEADER_BYTES) {
+                int length = window.getInt(position);
+                if (length <= 0 || length > window.limit() - position - RECORD_HEADER_BYTES) break;
+                last = windowStart + position;
+                lastChecksum = window.getInt(position + 4);
+                position += RECORD_HEADER_BYTES + length;
+            }
+            offset = windowStart + position;
+            if (position == 0 || windowStart + window.limit() == fileSize) break;
+        }
+        if (last >= 0) {
+            ByteBuffer payload = ByteBuffer.allocate((int) (offset - last - RECORD_HEADER_BYTES));
+            readFully(channel, payload, last + RECORD_HEADER_BYTES);
+            if (checksum(payload.flip()) != lastChecksum) {
+                return last;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Scans mapped windows of the file, decoding records for the visitor.
+     * Stops at the first torn record.
+     */
+    private static void scan(Path file, FileChannel channel, long start, RecordVisitor visitor) throws IOException {
+        checkHeader(file, channel);
+        long fileSize = channel.size();
+
+        long offset = start;
+        while (offset < fileSize) {
+            // Map as much as fits in one buffer; a record crossing the window edge starts the next window
+            long windowStart = offset;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    windowStart, Math.min(fileSize - windowStart, MAX_WINDOW));
+            int position = 0;
+            while (window.limit() - position >= RECORD_HEADER_BYTES) {
+                int length = window.getInt(position);
+                int checksum = window.getInt(position + 4);
+                if (length <= 0 || length > window.limit() - position - RECORD_HEADER_BYTES) break;
+
+                ByteBuffer payload = window.slice(position + RECORD_HEADER_BYTES, length);
+                verify(payload, checksum, windowStart + position);
+                visitor.visit(windowStart + position, decode(payload));
+                position += RECORD_HEADER_BYTES + length;
+            }
+            offset = windowStart + position;
+            if (position == 0 || windowStart + window.limit() == fileSize) {
+                break;  // Torn record at the end of the file, or everything consumed
+            }
+        }
+    }
+
+    private static void checkHeader(Path file, FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            throw new IOException(file + " is not a battle journal");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException(file + " is not a battle journal");
+        }
+    }
+
+    private static void verify(ByteBuffer payload, int checksum, long offset) throws IOException {
+        if (checksum(payload) != checksum) {
+            throw new IOException("Checksum mismatch in battle journal record at offset " + offset);
+        }
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    // ====== Encoding ======
+
+    private void encode(BattleRecord record) {
+        ensureCapacity(8);
+        buffer.putLong(record.timestamp());
+        putString(record.winnerName());
+        putTypes(record.winnerType(), record.winnerSecondaryType());
+        putString(record.loserName());
+        putTypes(record.loserType(), record.loserSecondaryType());
+        ensureCapacity(4);
+        buffer.putInt(record.events().size());
+        for (String event : record.events()) {
+            putString(event);
+        }
+    }
+
+    private void putTypes(PokemonType primary, PokemonType secondary) {
+        ensureCapacity(2);
+        buffer.put((byte) primary.ordinal());
+        buffer.put((byte) (secondary == null ? NO_TYPE : secondary.ordinal()));
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(4 + bytes.length);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (buffer.remaining() < extra) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+
+    private static BattleRecord decode(ByteBuffer payload) {
+        long timestamp = payload.getLong();
+        String winnerName = getString(payload);
+        PokemonType winnerType = PokemonType.fromOrdinal(payload.get());
+        PokemonType winnerSecondary = getOptionalType(payload);
+        String loserName = getString(payload);
+        PokemonType loserType = PokemonType.fromOrdinal(payload.get());
+        PokemonType loserSecondary = getOptionalType(payload);
+        int eventCount = payload.getInt();
+        List<String> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(getString(payload));
+        }
+        return new BattleRecord(timestamp, winnerName, winnerType, winnerSecondary,
+                loserName, loserType, loserSecondary, events);
+    }
+
+    private static PokemonType getOptionalType(ByteBuffer payload) {
+        byte ordinal = payload.get();
+        return ordinal == NO_TYPE ? null : PokemonType.fromOrdinal(ordinal);
+    }
+
+    private static String getString(ByteBuffer payload) {
+        int length = payload.getInt();
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ====== Channel Helpers ======
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) throw new IOException("Unexpected end of battle journal");
+            position += read;
+        }
+    }
+}
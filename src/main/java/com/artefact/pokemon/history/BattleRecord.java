@@ -0,0 +1,42 @@
+package com.artefact.pokemon.history;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.PokemonType;
+
+import java.util.List;
+
+/**
+ * BattleRecord is one finished battle as stored in the battle journal.
+ * @param timestamp Time the battle ended, in epoch milliseconds
+ * @param winnerName Name of the winning Pokemon
+ * @param winnerType Primary type of the winner
+ * @param winnerSecondaryType Secondary type of the winner, or null
+ * @param loserName Name of the losing Pokemon
+ * @param loserType Primary type of the loser
+ * @param loserSecondaryType Secondary type of the loser, or null
+ * @param events Battle commentary, oldest first
+ */
+public record BattleRecord(long timestamp,
+                           String winnerName, PokemonType winnerType, PokemonType winnerSecondaryType,
+                           String loserName, PokemonType loserType, PokemonType loserSecondaryType,
+                           List<String> events) {
+
+    public BattleRecord {
+        events = List.copyOf(events);
+    }
+
+    /**
+     * Builds a record from the Pokemon at the end of a battle
+     * @param timestamp Time the battle ended, in epoch milliseconds
+     * @param winner Winning Pokemon
+     * @param loser Losing Pokemon
+     * @param events Battle commentary, oldest first
+     * @return New BattleRecord
+     */
+    public static BattleRecord of(long timestamp, Pokemon winner, Pokemon loser, List<String> events) {
+        return new BattleRecord(timestamp,
+                winner.name, winner.type, winner.secondaryType,
+                loser.name, loser.type, loser.secondaryType,
+                events);
+    }
+}
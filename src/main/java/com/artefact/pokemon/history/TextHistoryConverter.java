@@ -0,0 +1,132 @@
+package com.artefact.pokemon.history;
+
+import com.artefact.pokemon.types.PokemonType;
+import com.artefact.utils.Constants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TextHistoryConverter migrates the old free-text battle_history.txt format
+ * into a BattleJournal. Each text entry looks like:
+ * <pre>
+ * Battle @ 01-02-2024 13:45:00
+ * Winner: Charizard (Fire)
+ * Loser: Venusaur (Grass)
+ * Battle Commentary:
+ * ...one line per event...
+ * ------------------------
+ * </pre>
+ */
+public final class TextHistoryConverter {
+    // Prevent instantiation
+    private TextHistoryConverter() {
+        throw new UnsupportedOperationException("This utility class should not be instantiated");
+    }
+
+    // ====== Class Fields ======
+
+    private static final String BATTLE_PREFIX = "Battle @ ";
+    private static final String WINNER_PREFIX = "Winner: ";
+    private static final String LOSER_PREFIX = "Loser: ";
+    private static final String COMMENTARY_HEADER = "Battle Commentary:";
+    private static final String SEPARATOR = "------------------------";
+
+    // ====== Conversion Methods ======
+
+    /**
+     * Appends every complete entry in a text history file to a journal.
+     * Entries that cannot be parsed are skipped.
+     * @param textFile Path of the old battle_history.txt
+     * @param journal Journal to append to
+     * @return Number of battles converted
+     * @throws IOException If either file cannot be accessed
+     */
+    public static int convert(Path textFile, BattleJournal journal) throws IOException {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Constants.DATE_TIME_FORMAT);
+        int converted = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            String line;
+            long timestamp = 0;
+            String[] winner = null;
+            String[] loser = null;
+            List<String> events = null;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(BATTLE_PREFIX)) {
+                    timestamp = parseTimestamp(line.substring(BATTLE_PREFIX.length()), formatter);
+                    winner = null;
+                    loser = null;
+                    events = null;
+                } else if (line.startsWith(WINNER_PREFIX)) {
+                    winner = parseCombatant(line.substring(WINNER_PREFIX.length()));
+                } else if (line.startsWith(LOSER_PREFIX)) {
+                    loser = parseCombatant(line.substring(LOSER_PREFIX.length()));
+                } else if (line.equals(COMMENTARY_HEADER)) {
+                    events = new ArrayList<>();
+                } else if (line.equals(SEPARATOR)) {
+                    BattleRecord record = toRecord(timestamp, winner, loser, events);
+                    if (record != null) {
+                        journal.append(record);
+                        converted++;
+                    }
+                    winner = null;
+                    loser = null;
+                    events = null;
+                } else if (events != null && !line.isEmpty()) {
+                    events.add(line);
+                }
+            }
+        }
+        return converted;
+    }
+
+    // ====== Parsing Helpers ======
+
+    private static long parseTimestamp(String text, DateTimeFormatter formatter) {
+        try {
+            return LocalDateTime.parse(text.trim(), formatter)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Splits "Name (Type)" or "Name (Type/Type)" into name and type names
+     */
+    private static String[] parseCombatant(String text) {
+        int open = text.lastIndexOf('(');
+        int close = text.lastIndexOf(')');
+        if (open < 0 || close < open) return null;
+        String name = text.substring(0, open).trim();
+        String[] types = text.substring(open + 1, close).split("/");
+        return new String[] {name, types[0].trim(), types.length > 1 ? types[1].trim() : null};
+    }
+
+    private static BattleRecord toRecord(long timestamp, String[] winner, String[] loser, List<String> events) {
+        if (winner == null || loser == null) return null;
+        try {
+            return new BattleRecord(timestamp,
+                    winner[0], PokemonType.fromName(winner[1]), optionalType(winner[2]),
+                    loser[0], PokemonType.fromName(loser[1]), optionalType(loser[2]),
+                    events == null ? List.of() : events);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static PokemonType optionalType(String name) {
+        return name == null ? null : PokemonType.fromName(name);
+    }
+}
@@ -0,0 +1,28 @@
+package com.artefact.pokemon.history;
+
+/**
+ * WinLoss is a win/loss tally returned by battle history queries.
+ * @param wins Battles won
+ * @param losses Battles lost
+ */
+public record WinLoss(long wins, long losses) {
+
+    /**
+     * @return Total battles counted
+     */
+    public long battles() {
+        return wins + losses;
+    }
+
+    /**
+     * @return Fraction of battles won (0.0 to 1.0), or 0.0 if there were none
+     */
+    public double winRate() {
+        return battles() == 0 ? 0.0 : (double) wins / battles();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d-%d (%.1f%%)", wins, losses, winRate() * 100);
+    }
+}
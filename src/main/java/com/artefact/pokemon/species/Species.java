@@ -0,0 +1,57 @@
+package com.artefact.pokemon.species;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import com.artefact.pokemon.types.PokemonType;
+import com.artefact.pokemon.types.WaterPokemon;
+
+import java.util.List;
+
+/**
+ * Species is one immutable entry in the SpeciesRegistry. Every Pokemon created
+ * from a species references the same Move instances, so a registry with
+ * thousands of species holds each move only once.
+ * @param name Species name
+ * @param type Primary type, which also selects the Pokemon class
+ * @param secondaryType Secondary type, or null if single-typed
+ * @param health Starting health points
+ * @param attackPower Base attack damage
+ * @param description Descriptive text
+ * @param moves Shared, unmodifiable move set
+ */
+public record Species(String name, PokemonType type, PokemonType secondaryType,
+                      int health, int attackPower, String description, List<Move> moves) {
+
+    public Species {
+        moves = List.copyOf(moves);
+    }
+
+    // ====== Factory Methods ======
+
+    /**
+     * Creates a new Pokemon of this species at full health
+     * @return New Pokemon whose moves are the registry's shared instances
+     */
+    public Pokemon create() {
+        Pokemon pokemon = switch (type) {
+            case FIRE -> new FirePokemon(name, health, attackPower);
+            case WATER -> new WaterPokemon(name, health, attackPower);
+            case GRASS -> new GrassPokemon(name, health, attackPower);
+            default -> throw new IllegalStateException("No Pokemon class for type " + type);
+        };
+        pokemon.secondaryType = secondaryType;
+        pokemon.description = description;
+        pokemon.moves.addAll(moves);
+        return pokemon;
+    }
+
+    /**
+     * @param type Primary type of a species
+     * @return true if there is a Pokemon class for that type
+     */
+    public static boolean isPlayable(PokemonType type) {
+        return type == PokemonType.FIRE || type == PokemonType.WATER || type == PokemonType.GRASS;
+    }
+}
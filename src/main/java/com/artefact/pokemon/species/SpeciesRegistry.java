@@ -0,0 +1,456 @@
+package com.artefact.pokemon.species;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.MoveEffect;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.StatusEffect;
+import com.artefact.pokemon.types.PokemonType;
+import com.artefact.utils.Constants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * SpeciesRegistry is the immutable catalogue of species and moves, defined in
+ * a text data file instead of in code. Each move is created once and shared by
+ * every species and every Pokemon that uses it.
+ *
+ * Parsing the text is only needed when it changes. The first load compiles the
+ * registry into a binary cache stamped with a checksum of the source; later
+ * loads with the same source read the cache directly, which is a flat run of
+ * primitives with moves referenced by index.
+ */
+public final class SpeciesRegistry {
+
+    // ====== Class Fields ======
+
+    private static final String DATA_RESOURCE = "species.txt";  // Bundled data file next to this class
+    private static final int CACHE_MAGIC = 0x50535231;          // "PSR1"
+    private static final int CACHE_VERSION = 3;
+    private static final byte NO_TYPE = -1;                     // Cache marker for a missing secondary type
+    private static final byte NO_EFFECT = -1;                   // Cache marker for a move without a status effect
+
+    private final List<Move> moves;                        // Every move, in declaration order
+    private final Map<String, Move> movesByName;
+    private final Map<PokemonType, List<Move>> movesets;   // Default moves for each type class
+    private final Map<PokemonType, List<Move>> statusMovesets;  // Extra moves for battles with status moves
+    private final List<Species> species;                   // Every species, in declaration order
+    private final Map<String, Species> speciesByName;
+
+    // ====== Constructor ======
+
+    private SpeciesRegistry(List<Move> moves, Map<PokemonType, List<Move>> movesets,
+                            Map<PokemonType, List<Move>> statusMovesets, List<Species> species) {
+        this.moves = List.copyOf(moves);
+        this.movesByName = new HashMap<>();
+        for (Move move : moves) movesByName.put(move.getName(), move);
+        this.movesets = Collections.unmodifiableMap(new EnumMap<>(movesets));
+        this.statusMovesets = Collections.unmodifiableMap(new EnumMap<>(statusMovesets));
+        this.species = List.copyOf(species);
+        this.speciesByName = new HashMap<>();
+        for (Species entry : species) speciesByName.put(entry.name(), entry);
+    }
+
+    // ====== Loading Methods ======
+
+    /**
+     * Returns the registry built from the bundled data file, loading it on first use
+     * @return Shared standard registry
+     */
+    public static SpeciesRegistry standard() {
+        return Standard.REGISTRY;
+    }
+
+    // Holder class so the data file is only read when a species is first needed
+    private static final class Standard {
+        static final SpeciesRegistry REGISTRY = loadBundled();
+
+        private static SpeciesRegistry loadBundled() {
+            try (InputStream in = SpeciesRegistry.class.getResourceAsStream(DATA_RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Species data file " + DATA_RESOURCE + " is missing");
+                }
+                return load(in.readAllBytes(), Paths.get(Constants.OUTPUT_DIR, Constants.SPECIES_CACHE_FILE));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read species data", e);
+            }
+        }
+    }
+
+    /**
+     * Loads a registry from a data file, using and refreshing a binary cache
+     * @param source Text data file
+     * @param cache Cache file; created or replaced if missing or out of date
+     * @return Loaded registry
+     * @throws IOException If the data file cannot be read
+     */
+    public static SpeciesRegistry load(Path source, Path cache) throws IOException {
+        return load(Files.readAllBytes(source), cache);
+    }
+
+    private static SpeciesRegistry load(byte[] source, Path cache) {
+        long fingerprint = fingerprint(source);
+        SpeciesRegistry cached = readCache(cache, fingerprint);
+        if (cached != null) return cached;
+
+        SpeciesRegistry parsed = parse(new String(source, StandardCharsets.UTF_8));
+        try {
+            parsed.writeCache(cache, fingerprint);
+        } catch (IOException e) {
+            // The cache only saves parsing time, so an unwritable cache is not fatal
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses registry text in the data file format
+     * @param text Contents of a data file
+     * @return Parsed registry
+     * @throws IllegalArgumentException If a line is malformed or refers to an unknown move
+     */
+    public static SpeciesRegistry parse(String text) {
+        Map<String, Move> moves = new LinkedHashMap<>();
+        Map<PokemonType, List<Move>> movesets = new EnumMap<>(PokemonType.class);
+        Map<PokemonType, List<Move>> statusMovesets = new EnumMap<>(PokemonType.class);
+        Map<String, Species> species = new LinkedHashMap<>();
+
+        String[] lines = text.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] fields = line.split("\\|");
+            for (int f = 0; f < fields.length; f++) fields[f] = fields[f].strip();
+
+            try {
+                switch (fields[0]) {
+                    case "move" -> {
+                        expectFields(fields, 5, 6);
+                        Move move = parseMove(fields);
+                        if (moves.putIfAbsent(move.getName(), move) != null) {
+                            throw new IllegalArgumentException("Duplicate move " + move.getName());
+                        }
+                    }
+                    case "moveset" -> {
+                        expectFields(fields, 3, 3);
+                        movesets.put(PokemonType.fromName(fields[1]), moveList(fields[2], moves));
+                    }
+                    case "statusset" -> {
+                        expectFields(fields, 3, 3);
+                        statusMovesets.put(PokemonType.fromName(fields[1]), moveList(fields[2], moves));
+                    }
+                    case "species" -> {
+                        expectFields(fields, 7, 7);
+                        String[] types = fields[2].split("/");
+                        PokemonType type = PokemonType.fromName(types[0]);
+                        if (!Species.isPlayable(type)) {
+                            throw new IllegalArgumentException("No Pokemon class for type " + type);
+                        }
+                        PokemonType secondary = types.length > 1 ? PokemonType.fromName(types[1]) : null;
+                        Species entry = new Species(fields[1], type, secondary, Integer.parseInt(fields[3]),
+                                Integer.parseInt(fields[4]), fields[6], moveList(fields[5], moves));
+                        if (species.putIfAbsent(entry.name(), entry) != null) {
+                            throw new IllegalArgumentException("Duplicate species " + entry.name());
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unknown entry kind '" + fields[0] + "'");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Species data line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return new SpeciesRegistry(new ArrayList<>(moves.values()), movesets, statusMovesets,
+                new ArrayList<>(species.values()));
+    }
+
+    private static void expectFields(String[] fields, int min, int max) {
+        if (fields.length < min || fields.length > max) {
+            throw new IllegalArgumentException("Expected " + (min == max ? min : min + "-" + max)
+                    + " fields but found " + fields.length);
+        }
+    }
+
+    /**
+     * Parses a move line. The optional last field lists comma-separated extras:
+     * "charge N" makes the move charge for N turns, and a status effect is
+     * "burn|poison|leech DAMAGE TURNS [CHANCE]" or "sleep|paralysis TURNS [CHANCE]".
+     */
+    private static Move parseMove(String[] fields) {
+        MoveEffect effect = null;
+        int chargeTurns = 0;
+        if (fields.length == 6) {
+            for (String extra : fields[5].split(",")) {
+                String[] words = extra.strip().split("\\s+");
+                if (words[0].equalsIgnoreCase("charge")) {
+                    if (words.length != 2) throw new IllegalArgumentException("Expected 'charge TURNS'");
+                    chargeTurns = Integer.parseInt(words[1]);
+                } else if (effect != null) {
+                    throw new IllegalArgumentException("A move can have only one status effect");
+                } else {
+                    effect = parseEffect(words);
+                }
+            }
+        }
+        return new Move(fields[1], Integer.parseInt(fields[2]), parseAccuracy(fields[3]), fields[4],
+                effect, chargeTurns);
+    }
+
+    private static MoveEffect parseEffect(String[] words) {
+        StatusEffect status = StatusEffect.fromName(words[0]);
+        boolean damaging = status == StatusEffect.BURN || status == StatusEffect.POISON || status == StatusEffect.LEECH;
+        int required = damaging ? 3 : 2;
+        if (words.length < required || words.length > required + 1) {
+            throw new IllegalArgumentException(damaging
+                    ? "Expected '" + words[0] + " DAMAGE TURNS [CHANCE]'"
+                    : "Expected '" + words[0] + " TURNS [CHANCE]'");
+        }
+        int potency = damaging ? Integer.parseInt(words[1]) : 0;
+        int turns = Integer.parseInt(words[required - 1]);
+        double chance = words.length > required ? Double.parseDouble(words[required]) : 1.0;
+        return new MoveEffect(status, potency, turns, chance);
+    }
+
+    private static double parseAccuracy(String field) {
+        return switch (field) {
+            case "HIGH" -> Constants.HIGH_ACCURACY;
+            case "MEDIUM" -> Constants.MEDIUM_ACCURACY;
+            case "LOW" -> Constants.LOW_ACCURACY;
+            default -> Double.parseDouble(field);
+        };
+    }
+
+    private static List<Move> moveList(String field, Map<String, Move> moves) {
+        List<Move> list = new ArrayList<>();
+        for (String name : field.split(",")) {
+            Move move = moves.get(name.strip());
+            if (move == null) {
+                throw new IllegalArgumentException("Unknown move " + name.strip());
+            }
+            list.add(move);
+        }
+        return list;
+    }
+
+    // ====== Binary Cache ======
+
+    /**
+     * Combines a checksum and the length of the source text into one value
+     */
+    private static long fingerprint(byte[] source) {
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        return crc.getValue() << 32 | (source.length & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reads the cache if it exists and was compiled from the same source
+     * @return Cached registry, or null if the cache is missing, stale or unreadable
+     */
+    private static SpeciesRegistry readCache(Path cache, long fingerprint) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache)))) {
+            if (in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION || in.readLong() != fingerprint) {
+                return null;
+            }
+
+            Move[] moves = new Move[in.readInt()];
+            for (int i = 0; i < moves.length; i++) {
+                String name = in.readUTF();
+                int basePower = in.readInt();
+                double accuracy = in.readDouble();
+                String description = in.readUTF();
+                byte status = in.readByte();
+                MoveEffect effect = status == NO_EFFECT ? null : new MoveEffect(
+                        StatusEffect.fromOrdinal(status), in.readInt(), in.readInt(), in.readDouble());
+                moves[i] = new Move(name, basePower, accuracy, description, effect, in.readInt());
+            }
+
+            Map<PokemonType, List<Move>> movesets = readMovesets(in, moves);
+            Map<PokemonType, List<Move>> statusMovesets = readMovesets(in, moves);
+
+            int speciesCount = in.readInt();
+            List<Species> species = new ArrayList<>(speciesCount);
+            for (int i = 0; i < speciesCount; i++) {
+                String name = in.readUTF();
+                PokemonType type = PokemonType.fromOrdinal(in.readByte());
+                byte secondary = in.readByte();
+                int health = in.readInt();
+                int attackPower = in.readInt();
+                String description = in.readUTF();
+                species.add(new Species(name, type, secondary == NO_TYPE ? null : PokemonType.fromOrdinal(secondary),
+                        health, attackPower, description, readMoveList(in, moves)));
+            }
+            return new SpeciesRegistry(List.of(moves), movesets, statusMovesets, species);
+        } catch (IOException | RuntimeException e) {
+            return null;  // A damaged cache is simply rebuilt from the source
+        }
+    }
+
+    private static Map<PokemonType, List<Move>> readMovesets(DataInputStream in, Move[] moves) throws IOException {
+        Map<PokemonType, List<Move>> movesets = new EnumMap<>(PokemonType.class);
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            PokemonType type = PokemonType.fromOrdinal(in.readByte());
+            movesets.put(type, readMoveList(in, moves));
+        }
+        return movesets;
+    }
+
+    private static List<Move> readMoveList(DataInputStream in, Move[] moves) throws IOException {
+        Move[] list = new Move[in.readUnsignedShort()];
+        for (int i = 0; i < list.length; i++) {
+            list[i] = moves[in.readInt()];
+        }
+        return List.of(list);
+    }
+
+    /**
+     * Writes the registry to a temporary file and moves it over the cache,
+     * so a crash mid-write never leaves a truncated cache behind
+     */
+    private void writeCache(Path cache, long fingerprint) throws IOException {
+        Path parent = cache.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, cache.getFileName().toString(), ".tmp");
+
+        try {
+            Map<Move, Integer> index = new IdentityHashMap<>();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(CACHE_MAGIC);
+                out.writeInt(CACHE_VERSION);
+                out.writeLong(fingerprint);
+
+                out.writeInt(moves.size());
+                for (Move move : moves) {
+                    index.put(move, index.size());
+                    out.writeUTF(move.getName());
+                    out.writeInt(move.getBasePower());
+                    out.writeDouble(move.getAccuracy());
+                    out.writeUTF(move.getDescription());
+                    MoveEffect effect = move.getEffect();
+                    if (effect == null) {
+                        out.writeByte(NO_EFFECT);
+                    } else {
+                        out.writeByte(effect.status().ordinal());
+                        out.writeInt(effect.potency());
+                        out.writeInt(effect.turns());
+                        out.writeDouble(effect.chance());
+                    }
+                    out.writeInt(move.getChargeTurns());
+                }
+
+                writeMovesets(out, movesets, index);
+                writeMovesets(out, statusMovesets, index);
+
+                out.writeInt(species.size());
+                for (Species entry : species) {
+                    out.writeUTF(entry.name());
+                    out.writeByte(entry.type().ordinal());
+                    out.writeByte(entry.secondaryType() == null ? NO_TYPE : entry.secondaryType().ordinal());
+                    out.writeInt(entry.health());
+                    out.writeInt(entry.attackPower());
+                    out.writeUTF(entry.description());
+                    writeMoveList(out, entry.moves(), index);
+                }
+            }
+            Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeMovesets(DataOutputStream out, Map<PokemonType, List<Move>> movesets,
+                                      Map<Move, Integer> index) throws IOException {
+        out.writeInt(movesets.size());
+        for (Map.Entry<PokemonType, List<Move>> entry : movesets.entrySet()) {
+            out.writeByte(entry.getKey().ordinal());
+            writeMoveList(out, entry.getValue(), index);
+        }
+    }
+
+    private static void writeMoveList(DataOutputStream out, List<Move> list, Map<Move, Integer> index)
+            throws IOException {
+        out.writeShort(list.size());
+        for (Move move : list) {
+            out.writeInt(index.get(move));
+        }
+    }
+
+    // ====== Lookup Methods ======
+
+    /**
+     * @param name Species name
+     * @return Matching species, or null if there is none
+     */
+    public Species get(String name) {
+        return speciesByName.get(name);
+    }
+
+    /**
+     * @return Every species in data file order
+     */
+    public List<Species> species() {
+        return species;
+    }
+
+    /**
+     * @param name Move name
+     * @return Shared Move instance, or null if there is none
+     */
+    public Move move(String name) {
+        return movesByName.get(name);
+    }
+
+    /**
+     * @return Every move in data file order
+     */
+    public List<Move> moves() {
+        return moves;
+    }
+
+    /**
+     * Looks up the default moves given to every Pokemon of a type
+     * @param type Primary type
+     * @return Shared moves for that type, empty if none are defined
+     */
+    public List<Move> moveset(PokemonType type) {
+        return movesets.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Looks up the status moves every Pokemon of a type learns in battles
+     * with status moves turned on
+     * @param type Primary type
+     * @return Shared status moves for that type, empty if none are defined
+     */
+    public List<Move> statusMoveset(PokemonType type) {
+        return statusMovesets.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Teaches a Pokemon its type's status moves, after the moves it already knows
+     * @param pokemon Pokemon to teach; must not know the status moves yet
+     * @return The same Pokemon
+     */
+    public Pokemon teachStatusMoves(Pokemon pokemon) {
+        pokemon.moves.addAll(statusMoveset(pokemon.type));
+        return pokemon;
+    }
+}
@@ -0,0 +1,294 @@
+package com.artefact.pokemon.team;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.species.Species;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.pokemon.types.TypeChart;
+import com.artefact.utils.Constants;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Team is one side of a team battle. Its members are indices into a shared
+ * SpeciesRegistry, and their health and remaining heals live in primitive
+ * arrays, so its size does not depend on how large the registry is.
+ * Potions are pooled across the whole team.
+ *
+ * Battles only ever see the active member as a Pokemon object. Switching
+ * writes the outgoing member's state back into the arrays and loads the
+ * incoming member's, so turns cost the same as a one-on-one battle. A
+ * member's Pokemon is created the first time it is sent out and kept after
+ * that, including across reset(), so a reused team allocates nothing. A team
+ * therefore holds up to one Pokemon per member, each a small object with
+ * its own move list, although the moves themselves are shared with the registry.
+ */
+public final class Team {
+
+    // ====== Class Fields ======
+
+    private final SpeciesRegistry registry;
+    private final short[] members;  // Index of each member's species in the registry
+    private final int[] health;     // Health of each member; the active member's lives in its Pokemon
+    private final int[] heals;      // Computer heals left for each member
+    private final int startingPotions;
+    private final Pokemon[] views;  // Each member's Pokemon, created when first sent out and then kept
+    private int potions;            // Shared pool; the active member's Pokemon holds the current count
+    private int active;
+    private Pokemon current;        // Active member
+    private boolean statusMoves;    // Members also learn their type's status moves
+
+    // ====== Constructors ======
+
+    private Team(SpeciesRegistry registry, short[] members, int startingPotions) {
+        if (members.length == 0) {
+            throw new IllegalArgumentException("A team needs at least one member");
+        }
+        this.registry = registry;
+        this.members = members;
+        this.health = new int[members.length];
+        this.heals = new int[members.length];
+        this.views = new Pokemon[members.length];
+        this.startingPotions = startingPotions;
+        reset();
+    }
+
+    /**
+     * Builds a team from species names
+     * @param registry Registry the species come from
+     * @param names Species names, lead first
+     * @return New team at full health
+     * @throws IllegalArgumentException If a name is not in the registry or the list is empty
+     */
+    public static Team of(SpeciesRegistry registry, List<String> names) {
+        List<Species> all = registry.species();
+        short[] members = new short[names.size()];
+        for (int i = 0; i < members.length; i++) {
+            Species species = registry.get(names.get(i));
+            if (species == null) {
+                throw new IllegalArgumentException("Unknown species: " + names.get(i));
+            }
+            members[i] = (short) all.indexOf(species);
+        }
+        return new Team(registry, members, Constants.TEAM_POTIONS);
+    }
+
+    /**
+     * Builds a team of randomly drawn playable species, repeats allowed
+     * @param registry Registry the species come from
+     * @param size Number of members
+     * @param random Random source for the draws
+     * @return New team at full health
+     */
+    public static Team random(SpeciesRegistry registry, int size, RandomGenerator random) {
+        return random(registry, null, size, random);
+    }
+
+    /**
+     * Builds a team led by a chosen species, with randomly drawn teammates
+     * @param registry Registry the species come from
+     * @param lead Species sent out first, or null to draw it too
+     * @param size Number of members, including the lead
+     * @param random Random source for the draws
+     * @return New team at full health
+     * @throws IllegalArgumentException If the lead is not in the registry
+     */
+    public static Team random(SpeciesRegistry registry, Species lead, int size, RandomGenerator random) {
+        List<Species> all = registry.species();
+        short[] members = new short[size];
+        int first = 0;
+        if (lead != null) {
+            int index = all.indexOf(lead);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown species: " + lead.name());
+            }
+            members[first++] = (short) index;
+        }
+        for (int i = first; i < size; i++) {
+            int index;
+            do {
+                index = random.nextInt(all.size());
+            } while (!Species.isPlayable(all.get(index).type()));
+            members[i] = (short) index;
+        }
+        return new Team(registry, members, Constants.TEAM_POTIONS);
+    }
+
+    /**
+     * @return Independent team with the same members, at full health
+     */
+    public Team copy() {
+        Team copy = new Team(registry, members.clone(), startingPotions);
+        return statusMoves ? copy.withStatusMoves() : copy;
+    }
+
+    /**
+     * Teaches every member its type's status moves, for battles with status moves turned on
+     * @return This team
+     */
+    public Team withStatusMoves() {
+        if (!statusMoves) {
+            statusMoves = true;
+            for (Pokemon view : views) {
+                if (view != null) registry.teachStatusMoves(view);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Restores every member to full health and refills the potion pool,
+     * with the lead sent out first
+     */
+    public void reset() {
+        for (int i = 0; i < members.length; i++) {
+            health[i] = species(i).health();
+            heals[i] = Constants.STARTING_HEAL_COUNT;
+        }
+        potions = startingPotions;
+        active = 0;
+        current = load(0);
+    }
+
+    // ====== Switching Methods ======
+
+    /**
+     * @param member Index of a team member
+     * @return true if the member can be sent out: not fainted and not already active
+     */
+    public boolean canSwitchTo(int member) {
+        return member >= 0 && member < members.length && member != active && health(member) > 0;
+    }
+
+    /**
+     * Sends out another member, storing the outgoing member's state
+     * @param member Index of the member to send out
+     * @return The new active Pokemon
+     * @throws IllegalArgumentException If the member is fainted, already active or out of range
+     */
+    public Pokemon switchTo(int member) {
+        if (!canSwitchTo(member)) {
+            throw new IllegalArgumentException("Cannot switch to team member " + (member + 1));
+        }
+        health[active] = current.health;
+        heals[active] = current.healCount;
+        potions = current.potions;
+        active = member;
+        current = load(member);
+        return current;
+    }
+
+    /**
+     * Picks the member to send out after the active one faints: the
+     * standing member whose type hits the opponent hardest, earliest on ties
+     * @param opponent Opponent's active Pokemon
+     * @return Index of the replacement, or -1 if no member can battle
+     */
+    public int nextReplacement(Pokemon opponent) {
+        int best = -1;
+        double bestMultiplier = -1.0;
+        for (int i = 0; i < members.length; i++) {
+            if (!canSwitchTo(i)) continue;
+            double multiplier = TypeChart.STANDARD.multiplier(
+                    species(i).type(), opponent.type, opponent.secondaryType);
+            if (multiplier > bestMultiplier) {
+                best = i;
+                bestMultiplier = multiplier;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Copies a member's stored state into its Pokemon
+     */
+    private Pokemon load(int member) {
+        Pokemon pokemon = views[member];
+        if (pokemon == null) {
+            pokemon = species(member).create();
+            if (statusMoves) registry.teachStatusMoves(pokemon);
+            views[member] = pokemon;
+        }
+        pokemon.health = health[member];
+        pokemon.healCount = heals[member];
+        pokemon.potions = potions;
+        return pokemon;
+    }
+
+    // ====== Accessor Methods ======
+
+    /**
+     * @return Active member's Pokemon
+     */
+    public Pokemon active() {
+        return current;
+    }
+
+    /**
+     * @return Index of the active member
+     */
+    public int activeIndex() {
+        return active;
+    }
+
+    /**
+     * @return Number of members
+     */
+    public int size() {
+        return members.length;
+    }
+
+    /**
+     * @param member Index of a team member
+     * @return Species of that member
+     */
+    public Species species(int member) {
+        return registry.species().get(members[member]);
+    }
+
+    /**
+     * @param member Index of a team member
+     * @return Current health of that member
+     */
+    public int health(int member) {
+        return member == active && current != null ? current.health : health[member];
+    }
+
+    /**
+     * @return Number of members that have not fainted
+     */
+    public int remaining() {
+        int standing = 0;
+        for (int i = 0; i < members.length; i++) {
+            if (health(i) > 0) standing++;
+        }
+        return standing;
+    }
+
+    /**
+     * @return true once every member has fainted
+     */
+    public boolean isDefeated() {
+        return remaining() == 0;
+    }
+
+    /**
+     * @return Potions left in the team's shared pool
+     */
+    public int potions() {
+        return current.potions;
+    }
+
+    /**
+     * @return Member names, lead first, separated by slashes
+     */
+    @Override
+    public String toString() {
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < members.length; i++) {
+            if (i > 0) names.append('/');
+            names.append(species(i).name());
+        }
+        return names.toString();
+    }
+}
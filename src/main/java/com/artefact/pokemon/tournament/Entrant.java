@@ -0,0 +1,40 @@
+package com.artefact.pokemon.tournament;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.species.SpeciesRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Entrant is one competitor in a tournament. Every match gets its own
+ * Pokemon made by the entrant's factory and recycled through the worker's
+ * PokemonPool, so entrants can play many matches at once.
+ * @param id Position in the entry list, also used as the seed order
+ * @param name Display name
+ * @param species Factory for the entrant's Pokemon
+ */
+public record Entrant(int id, String name, Supplier<Pokemon> species) {
+
+    /**
+     * Species available to generated rosters, in registry order
+     */
+    public static final List<Supplier<Pokemon>> SPECIES = SpeciesRegistry.standard().species().stream()
+            .<Supplier<Pokemon>>map(species -> species::create)
+            .toList();
+
+    /**
+     * Builds a roster cycling through every available species
+     * @param count Number of entrants
+     * @return Entrants numbered from 0
+     */
+    public static List<Entrant> roster(int count) {
+        List<Entrant> entrants = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            Supplier<Pokemon> species = SPECIES.get(id % SPECIES.size());
+            entrants.add(new Entrant(id, species.get().name + " #" + (id + 1), species));
+        }
+        return entrants;
+    }
+}
@@ -0,0 +1,102 @@
+package com.artefact.pokemon.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Standings holds every entrant's record in a running tournament.
+ * Results are recorded as each match finishes, from whichever thread played it,
+ * so the table can be read at any time while the tournament is in progress.
+ */
+public class Standings {
+
+    /**
+     * One entrant's line in the table
+     * @param entrant Competitor
+     * @param wins Matches won, including byes
+     * @param losses Matches lost
+     */
+    public record Line(Entrant entrant, int wins, int losses) {
+    }
+
+    // ====== Class Fields ======
+
+    private final List<Entrant> entrants;
+    private final AtomicIntegerArray wins;
+    private final AtomicIntegerArray losses;
+    private final LongAdder matches = new LongAdder();
+
+    // ====== Constructor ======
+
+    /**
+     * @param entrants Competitors, indexed by their id
+     */
+    public Standings(List<Entrant> entrants) {
+        this.entrants = entrants;
+        this.wins = new AtomicIntegerArray(entrants.size());
+        this.losses = new AtomicIntegerArray(entrants.size());
+    }
+
+    // ====== Recording ======
+
+    /**
+     * Records the result of a match
+     * @param winner Entrant that won
+     * @param loser Entrant that lost
+     */
+    public void record(Entrant winner, Entrant loser) {
+        wins.incrementAndGet(winner.id());
+        losses.incrementAndGet(loser.id());
+        matches.increment();
+    }
+
+    /**
+     * Records a bye, which counts as a win
+     * @param entrant Entrant that received the bye
+     */
+    public void recordBye(Entrant entrant) {
+        wins.incrementAndGet(entrant.id());
+    }
+
+    // ====== Queries ======
+
+    /**
+     * @return Matches won by an entrant so far, including byes
+     */
+    public int wins(Entrant entrant) {
+        return wins.get(entrant.id());
+    }
+
+    /**
+     * @return Matches lost by an entrant so far
+     */
+    public int losses(Entrant entrant) {
+        return losses.get(entrant.id());
+    }
+
+    /**
+     * @return Matches played so far, excluding byes
+     */
+    public long matchesPlayed() {
+        return matches.sum();
+    }
+
+    /**
+     * Takes a snapshot of the table, best record first.
+     * Ties are broken by fewer losses, then by entry order.
+     * @return Every entrant's current line
+     */
+    public List<Line> ranking() {
+        List<Line> lines = new ArrayList<>(entrants.size());
+        for (Entrant entrant : entrants) {
+            lines.add(new Line(entrant, wins.get(entrant.id()), losses.get(entrant.id())));
+        }
+        lines.sort(Comparator.comparingInt(Line::wins).reversed()
+                .thenComparingInt(Line::losses)
+                .thenComparingInt(line -> line.entrant().id()));
+        return lines;
+    }
+}
@@ -0,0 +1,360 @@
+package com.artefact.pokemon.tournament;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.PokemonPool;
+import com.artefact.pokemon.battle.BattleSimulator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tournament runs round-robin, single-elimination and Swiss events over a
+ * list of entrants. Matches are single headless battles played concurrently on
+ * a fork-join pool, and every result goes straight into the live Standings.
+ *
+ * Each match draws its dice from a generator seeded by the tournament seed
+ * and the match's position in the event, so a seeded tournament produces the
+ * same results however the pool schedules its matches.
+ */
+public class Tournament {
+
+    // ====== Class Fields ======
+
+    private static final int MATCHES_PER_TASK = 1_024;    // Round-robin work per leaf task
+    private static final int PAIRINGS_PER_TASK = 64;      // Swiss matches per leaf task
+    private static final int SWISS_REMATCH_SEARCH = 64;   // Candidates checked before accepting a rematch
+
+    private final List<Entrant> entrants;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private volatile Standings standings;  // Table for the event in progress
+
+    // ====== Constructors ======
+
+    /**
+     * Creates a tournament on the common fork-join pool
+     * @param entrants Competitors; each entrant's id must be its index in the list
+     * @param seed Seed for every match in the tournament
+     */
+    public Tournament(List<Entrant> entrants, long seed) {
+        this(entrants, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a tournament on a specific pool
+     * @param entrants Competitors; each entrant's id must be its index in the list
+     * @param seed Seed for every match in the tournament
+     * @param pool Work-stealing pool matches are played on
+     */
+    public Tournament(List<Entrant> entrants, long seed, ForkJoinPool pool) {
+        for (int i = 0; i < entrants.size(); i++) {
+            if (entrants.get(i).id() != i) {
+                throw new IllegalArgumentException("Entrant ids must match their position in the list");
+            }
+        }
+        this.entrants = List.copyOf(entrants);
+        this.seed = seed;
+        this.pool = pool;
+        this.standings = new Standings(this.entrants);
+    }
+
+    /**
+     * @return Standings of the current or most recent event, updated as matches finish
+     */
+    public Standings getStandings() {
+        return standings;
+    }
+
+    // ====== Matches ======
+
+    /**
+     * Plays one match and records the result. A coin flip decides who moves first.
+     * @param a First entrant
+     * @param b Second entrant
+     * @param matchKey Unique key for the match within the event
+     * @return Winner
+     */
+    private Entrant play(Entrant a, Entrant b, long matchKey) {
+        SplittableRandom random = new SplittableRandom(seed ^ matchKey * 0x9E3779B97F4A7C15L);
+        boolean aFirst = random.nextBoolean();
+        PokemonPool pokemonPool = PokemonPool.forThread();
+        Pokemon pa = pokemonPool.acquire(a.species());
+        Pokemon pb = pokemonPool.acquire(b.species());
+        boolean aWon = aFirst
+                ? BattleSimulator.playBattle(pa, pb, random)
+                : !BattleSimulator.playBattle(pb, pa, random);
+        pokemonPool.release(a.species(), pa);
+        pokemonPool.release(b.species(), pb);
+
+        Entrant winner = aWon ? a : b;
+        standings.record(winner, aWon ? b : a);
+        return winner;
+    }
+
+    // ====== Round Robin ======
+
+    /**
+     * Plays every entrant against every other entrant once
+     * @return Final standings
+     */
+    public Standings roundRobin() {
+        standings = new Standings(entrants);
+        pool.invoke(new RoundRobinTask(0, entrants.size()));
+        return standings;
+    }
+
+    /**
+     * Plays the matches for a range of rows of the round-robin table, where
+     * row i holds entrant i's matches against every later entrant
+     */
+    private final class RoundRobinTask extends RecursiveAction {
+        private final int fromRow;
+        private final int toRow;
+
+        RoundRobinTask(int fromRow, int toRow) {
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            int n = entrants.size();
+            long work = (long) (toRow - fromRow) * (n - fromRow);  // Upper bound on matches in range
+            if (toRow - fromRow <= 1 || work <= MATCHES_PER_TASK) {
+                for (int i = fromRow; i < toRow; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        play(entrants.get(i), entrants.get(j), (long) i * n + j);
+                    }
+                }
+                return;
+            }
+            int mid = (fromRow + toRow) >>> 1;
+            invokeAll(new RoundRobinTask(fromRow, mid), new RoundRobinTask(mid, toRow));
+        }
+    }
+
+    // ====== Single Elimination ======
+
+    /**
+     * Plays a knockout bracket. Entrants are seeded in list order, with byes
+     * going to the top seeds when the field is not a power of two, and each
+     * bye counts as a win in the standings like a Swiss bye. Each match
+     * is a fork-join task over its two feeder matches, so it is played as soon
+     * as both feeders have finished and different parts of the bracket advance
+     * independently, with no barrier between rounds.
+     * @return Champion, or null if there are no entrants
+     */
+    public Entrant singleElimination() {
+        standings = new Standings(entrants);
+        if (entrants.isEmpty()) return null;
+
+        int size = Integer.highestOneBit(Math.max(1, entrants.size() - 1)) << 1;
+        Entrant[] slots = new Entrant[size];
+        int[] order = bracketOrder(size);
+        for (int slot = 0; slot < size; slot++) {
+            slots[slot] = order[slot] < entrants.size() ? entrants.get(order[slot]) : null;  // null is a bye
+        }
+        return pool.invoke(new BracketTask(slots, 0, size));
+    }
+
+    /**
+     * Decides the winner of a run of bracket slots by playing both halves
+     * and then the match between their winners
+     */
+    private final class BracketTask extends RecursiveTask<Entrant> {
+        private final Entrant[] slots;
+        private final int from;
+        private final int to;
+
+        BracketTask(Entrant[] slots, int from, int to) {
+            this.slots = slots;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Entrant compute() {
+            if (to - from == 1) return slots[from];
+
+            int mid = (from + to) >>> 1;
+            BracketTask upper = new BracketTask(slots, from, mid);
+            upper.fork();
+            Entrant b = new BracketTask(slots, mid, to).compute();
+            Entrant a = upper.join();
+            if (a == null || b == null) {
+                Entrant advancing = a == null ? b : a;
+                if (advancing != null) standings.recordBye(advancing);
+                return advancing;
+            }
+            return play(a, b, (long) from * slots.length + to);  // Unique per bracket node
+        }
+    }
+
+    /**
+     * Standard bracket order, so seed 1 can only meet seed 2 in the final
+     * @param size Bracket size, a power of two
+     * @return Seed index for each bracket slot
+     */
+    static int[] bracketOrder(int size) {
+        int[] order = {0};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] expanded = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                expanded[2 * i] = order[i];
+                expanded[2 * i + 1] = length - 1 - order[i];
+            }
+            order = expanded;
+        }
+        return order;
+    }
+
+    // ====== Swiss ======
+
+    /**
+     * Plays a Swiss event with enough rounds to separate a single leader
+     * @return Final standings
+     */
+    public Standings swiss() {
+        int rounds = 32 - Integer.numberOfLeadingZeros(Math.max(1, entrants.size() - 1));
+        return swiss(rounds);
+    }
+
+    /**
+     * Plays a Swiss event. Each round pairs entrants with similar records,
+     * avoiding rematches where possible, and plays all its matches in parallel.
+     * A round's pairings depend on every result of the round before, so rounds
+     * run one after another.
+     * @param rounds Number of rounds
+     * @return Final standings
+     */
+    public Standings swiss(int rounds) {
+        standings = new Standings(entrants);
+        Set<Long> played = new HashSet<>();
+        int n = entrants.size();
+
+        for (int round = 0; round < rounds; round++) {
+            List<Standings.Line> table = standings.ranking();
+            int[] nextFree = new int[n + 1];  // Skips paired table positions, with path compression
+            for (int i = 0; i <= n; i++) nextFree[i] = i;
+            Entrant[] first = new Entrant[n / 2];
+            Entrant[] second = new Entrant[n / 2];
+            int pairs = 0;
+
+            for (int i = findFree(nextFree, 0); i < n; i = findFree(nextFree, i)) {
+                Entrant a = table.get(i).entrant();
+                nextFree[i] = i + 1;
+
+                int fallback = findFree(nextFree, i + 1);
+                int pick = fallback;
+                for (int j = fallback, tries = 0; j < n && tries < SWISS_REMATCH_SEARCH;
+                     j = findFree(nextFree, j + 1), tries++) {
+                    if (!played.contains(pairKey(a, table.get(j).entrant()))) {
+                        pick = j;
+                        break;
+                    }
+                }
+                if (pick >= n) {
+                    standings.recordBye(a);
+                    continue;
+                }
+
+                Entrant b = table.get(pick).entrant();
+                nextFree[pick] = pick + 1;
+                played.add(pairKey(a, b));
+                first[pairs] = a;
+                second[pairs] = b;
+                pairs++;
+            }
+            pool.invoke(new PairingsTask(first, second, 0, pairs, (long) round * n));
+        }
+        return standings;
+    }
+
+    private static int findFree(int[] nextFree, int index) {
+        int root = index;
+        while (nextFree[root] != root) root = nextFree[root];
+        while (nextFree[index] != root) {
+            int next = nextFree[index];
+            nextFree[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    /**
+     * Plays a range of one round's pairings, splitting until the range is small
+     */
+    private final class PairingsTask extends RecursiveAction {
+        private final Entrant[] first;
+        private final Entrant[] second;
+        private final int from;
+        private final int to;
+        private final long roundKey;
+
+        PairingsTask(Entrant[] first, Entrant[] second, int from, int to, long roundKey) {
+            this.first = first;
+            this.second = second;
+            this.from = from;
+            this.to = to;
+            this.roundKey = roundKey;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PAIRINGS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    play(first[i], second[i], roundKey + first[i].id());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PairingsTask(first, second, from, mid, roundKey),
+                    new PairingsTask(first, second, mid, to, roundKey));
+        }
+    }
+
+    private static long pairKey(Entrant a, Entrant b) {
+        int low = Math.min(a.id(), b.id());
+        int high = Math.max(a.id(), b.id());
+        return (long) low << 32 | high;
+    }
+
+    // ====== Command Line Entry Point ======
+
+    /**
+     * Runs a generated tournament and prints the top of the table
+     * @param args Format (round-robin, elimination or swiss), optional entrant count
+     *             (defaults to 10,000) and optional seed
+     */
+    public static void main(String[] args) {
+        String format = args.length > 0 ? args[0] : "elimination";
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+
+        Tournament tournament = new Tournament(Entrant.roster(count), seed);
+        long start = System.nanoTime();
+        switch (format) {
+            case "round-robin" -> tournament.roundRobin();
+            case "swiss" -> tournament.swiss();
+            case "elimination" -> System.out.println("Champion: " + tournament.singleElimination().name());
+            default -> throw new IllegalArgumentException("Format must be round-robin, elimination or swiss");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Standings standings = tournament.getStandings();
+        System.out.printf("%s, %,d entrants, %,d matches in %.2fs (seed %d)%n",
+                format, count, standings.matchesPlayed(), seconds, seed);
+        List<Standings.Line> table = standings.ranking();
+        for (int i = 0; i < Math.min(10, table.size()); i++) {
+            Standings.Line line = table.get(i);
+            System.out.printf("%2d. %-20s %d-%d%n", i + 1, line.entrant().name(), line.wins(), line.losses());
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.artefact.pokemon.types;
 
-import com.artefact.utils.Constants;
 import com.artefact.pokemon.Pokemon;
-import com.artefact.pokemon.Move;
+import com.artefact.pokemon.species.SpeciesRegistry;
 
 /**
  * FirePokemon class represents fire-type Pokemon.
@@ -20,7 +19,7 @@ public class FirePokemon extends Pokemon {
      * @param attackPower Base attack damage
      */
     public FirePokemon(String name, int health, int attackPower) {
-        super(name, "Fire", health, attackPower,
+        super(name, PokemonType.FIRE, health, attackPower,
                 "A powerful Fire-type Pokemon that breathes scorching flames.");
     }
 
@@ -36,7 +35,7 @@ public class FirePokemon extends Pokemon {
     public static FirePokemon create(String name, int health, int attackPower) {
         return (FirePokemon) Pokemon.createPokemon(
                 name,
-                "Fire",
+                PokemonType.FIRE,
                 health,
                 attackPower,
                 "A powerful Fire-type Pokemon that breathes scorching flames.",
@@ -48,7 +47,7 @@ public class FirePokemon extends Pokemon {
 
     /**
      * Executes attack against opponent Pokemon
-     * Applies type effectiveness multiplier against Grass-type Pokemon
+     * Applies the type chart multiplier for the opponent's types
      * @param opponent Target Pokemon to attack
      */
     @Override
@@ -56,9 +55,8 @@ public class FirePokemon extends Pokemon {
         System.out.println(this.name + " uses Fire Blast!");
 
         // Calculate damage with type multiplier
-        double multiplier = 1.0;
-        if (opponent.type.equals("Grass")) {
-            multiplier = 1.1;  // Fire is super effective against Grass
+        double multiplier = TypeChart.STANDARD.multiplier(this, opponent);
+        if (multiplier > 1.0) {
             System.out.println("It's super effective!");
         }
 
@@ -68,28 +66,11 @@ public class FirePokemon extends Pokemon {
     // ====== Move Management ======
 
     /**
-     * Initialises the FirePokemon's move set
+     * Initialises the FirePokemon's move set from the species registry
      * Includes Fire Blast, Ember, and Inferno with varying power and accuracy
      */
     @Override
     public void initialiseMoves() {
-        moves.add(new Move(
-                "Fire Blast",    // High power, medium accuracy
-                20,
-                Constants.MEDIUM_ACCURACY,
-                "A powerful blast of fire"
-        ));
-        moves.add(new Move(
-                "Ember",         // Lower power, high accuracy
-                15,
-                Constants.HIGH_ACCURACY,
-                "A weak but accurate fire attack"
-        ));
-        moves.add(new Move(
-                "Inferno",       // Highest power, low accuracy
-                25,
-                Constants.LOW_ACCURACY,
-                "A devastating but inaccurate attack"
-        ));
+        moves.addAll(SpeciesRegistry.standard().moveset(PokemonType.FIRE));
     }
 }
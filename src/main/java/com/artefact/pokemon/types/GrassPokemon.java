@@ -1,8 +1,7 @@
 package com.artefact.pokemon.types;
 
 import com.artefact.pokemon.Pokemon;
-import com.artefact.pokemon.Move;
-import com.artefact.utils.Constants;
+import com.artefact.pokemon.species.SpeciesRegistry;
 
 /**
  * GrassPokemon class represents grass-type Pokemon.
@@ -20,7 +19,7 @@ public class GrassPokemon extends Pokemon {
      * @param attackPower Base attack damage
      */
     public GrassPokemon(String name, int health, int attackPower) {
-        super(name, "Grass", health, attackPower,
+        super(name, PokemonType.GRASS, health, attackPower,
                 "It fills its body with power. While it basks in the sun, it can convert " +
                         "the light into energy. As a result, it is more powerful in the summertime.");
     }
@@ -37,7 +36,7 @@ public class GrassPokemon extends Pokemon {
     public static GrassPokemon create(String name, int health, int attackPower) {
         return (GrassPokemon) Pokemon.createPokemon(
                 name,
-                "Grass",
+                PokemonType.GRASS,
                 health,
                 attackPower,
                 "It fills its body with power. While it basks in the sun, it can convert " +
@@ -50,7 +49,7 @@ public class GrassPokemon extends Pokemon {
 
     /**
      * Executes attack against opponent Pokemon
-     * Applies type effectiveness multiplier against Water-type Pokemon
+     * Applies the type chart multiplier for the opponent's types
      * @param opponent Target Pokemon to attack
      */
     @Override
@@ -58,9 +57,8 @@ public class GrassPokemon extends Pokemon {
         System.out.println(this.name + " uses Vine Whip!");
 
         // Calculate damage with type multiplier
-        double multiplier = 1.0;
-        if (opponent.type.equals("Water")) {
-            multiplier = 1.1;  // Grass is super effective against Water
+        double multiplier = TypeChart.STANDARD.multiplier(this, opponent);
+        if (multiplier > 1.0) {
             System.out.println("It's super effective!");
         }
 
@@ -70,28 +68,11 @@ public class GrassPokemon extends Pokemon {
     // ====== Move Management ======
 
     /**
-     * Initialises the GrassPokemon's move set
+     * Initialises the GrassPokemon's move set from the species registry
      * Includes Leaf Storm, Leaf Blade, and Solar Beam with varying power and accuracy
      */
     @Override
     public void initialiseMoves() {
-        moves.add(new Move(
-                "Leaf Storm",    // High power, medium accuracy
-                20,
-                Constants.MEDIUM_ACCURACY,
-                "A powerful hurricane of leaves!"
-        ));
-        moves.add(new Move(
-                "Leaf Blade",    // Lower power, high accuracy
-                15,
-                Constants.HIGH_ACCURACY,
-                "A weak but accurate leaf attack"
-        ));
-        moves.add(new Move(
-                "Solar Beam",    // Highest power, lowest accuracy
-                25,
-                Constants.LOW_ACCURACY,
-                "A devastating but inaccurate attack."
-        ));
+        moves.addAll(SpeciesRegistry.standard().moveset(PokemonType.GRASS));
     }
-}
\ No newline at end of file
+}
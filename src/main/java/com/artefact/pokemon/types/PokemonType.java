@@ -0,0 +1,82 @@
+package com.artefact.pokemon.types;
+
+/**
+ * PokemonType enumerates the eighteen elemental types.
+ * Ordinals index directly into the TypeChart effectiveness table,
+ * so the declaration order must not change.
+ */
+public enum PokemonType {
+    NORMAL("Normal"),
+    FIRE("Fire"),
+    WATER("Water"),
+    ELECTRIC("Electric"),
+    GRASS("Grass"),
+    ICE("Ice"),
+    FIGHTING("Fighting"),
+    POISON("Poison"),
+    GROUND("Ground"),
+    FLYING("Flying"),
+    PSYCHIC("Psychic"),
+    BUG("Bug"),
+    ROCK("Rock"),
+    GHOST("Ghost"),
+    DRAGON("Dragon"),
+    DARK("Dark"),
+    STEEL("Steel"),
+    FAIRY("Fairy");
+
+    // ====== Class Fields ======
+
+    private static final PokemonType[] VALUES = values();  // Cached to avoid cloning on lookup
+
+    private final String displayName;  // Name shown to players and written to files
+
+    // ====== Constructor ======
+
+    PokemonType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    // ====== Lookup Methods ======
+
+    /**
+     * Resolves a type from its display name, ignoring case
+     * @param name Type name such as "Fire" or "water"
+     * @return Matching PokemonType
+     * @throws IllegalArgumentException if no type has that name
+     */
+    public static PokemonType fromName(String name) {
+        for (PokemonType type : VALUES) {
+            if (type.displayName.equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown Pokemon type: " + name);
+    }
+
+    /**
+     * Resolves a type from its ordinal
+     * @param ordinal Index of the type in declaration order
+     * @return Matching PokemonType
+     */
+    public static PokemonType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @return Number of types, which is also the width of the type chart
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    // ====== Utility Methods ======
+
+    /**
+     * @return Display name of the type, e.g. "Fire"
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,148 @@
+package com.artefact.pokemon.types;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.utils.Constants;
+
+import java.util.Arrays;
+
+import static com.artefact.pokemon.types.PokemonType.*;
+
+/**
+ * TypeChart holds the precomputed type effectiveness table for all eighteen types.
+ * Multipliers are stored in a flat array indexed by attacker and defender ordinal,
+ * so every damage calculation is a single array lookup. Dual-typed defenders
+ * multiply the effectiveness against each of their types.
+ */
+public final class TypeChart {
+
+    // ====== Effectiveness Levels ======
+
+    private static final byte IMMUNE = 0;
+    private static final byte RESISTED = 1;
+    private static final byte NEUTRAL = 2;
+    private static final byte SUPER_EFFECTIVE = 3;
+
+    private static final int TYPE_COUNT = PokemonType.count();
+
+    // Effectiveness level for every attacker/defender pair, shared by all charts.
+    // Declared before STANDARD so it is populated when that chart is built.
+    private static final byte[] LEVELS = buildLevels();
+
+    /**
+     * Default chart built from the multipliers in Constants
+     */
+    public static final TypeChart STANDARD = new TypeChart(
+            Constants.TYPE_ADVANTAGE_MULTIPLIER,
+            Constants.TYPE_RESISTANCE_MULTIPLIER,
+            Constants.TYPE_IMMUNITY_MULTIPLIER);
+
+    // ====== Class Fields ======
+
+    private final double[] multipliers;  // Flattened [attacker * TYPE_COUNT + defender] table
+    private final double advantageMultiplier;
+
+    // ====== Constructor ======
+
+    /**
+     * Creates a chart with custom multipliers for each effectiveness level
+     * @param advantageMultiplier Multiplier for super effective attacks
+     * @param resistanceMultiplier Multiplier for resisted attacks
+     * @param immunityMultiplier Multiplier for attacks the defender is immune to
+     */
+    public TypeChart(double advantageMultiplier, double resistanceMultiplier, double immunityMultiplier) {
+        double[] byLevel = {immunityMultiplier, resistanceMultiplier, 1.0, advantageMultiplier};
+        this.multipliers = new double[LEVELS.length];
+        for (int i = 0; i < LEVELS.length; i++) {
+            multipliers[i] = byLevel[LEVELS[i]];
+        }
+        this.advantageMultiplier = advantageMultiplier;
+    }
+
+    // ====== Lookup Methods ======
+
+    /**
+     * Looks up the multiplier for an attack against a single type
+     * @param attacker Type of the attack
+     * @param defender Type of the defending Pokemon
+     * @return Damage multiplier
+     */
+    public double multiplier(PokemonType attacker, PokemonType defender) {
+        return multipliers[attacker.ordinal() * TYPE_COUNT + defender.ordinal()];
+    }
+
+    /**
+     * Looks up the multiplier for an attack against a possibly dual-typed defender
+     * @param attacker Type of the attack
+     * @param primary Defender's primary type
+     * @param secondary Defender's secondary type, or null if single-typed
+     * @return Combined damage multiplier
+     */
+    public double multiplier(PokemonType attacker, PokemonType primary, PokemonType secondary) {
+        int row = attacker.ordinal() * TYPE_COUNT;
+        double result = multipliers[row + primary.ordinal()];
+        if (secondary != null && secondary != primary) {
+            result *= multipliers[row + secondary.ordinal()];
+        }
+        return result;
+    }
+
+    /**
+     * Looks up the multiplier for one Pokemon attacking another with its own type
+     * @param attacker Attacking Pokemon
+     * @param defender Defending Pokemon
+     * @return Combined damage multiplier
+     */
+    public double multiplier(Pokemon attacker, Pokemon defender) {
+        return multiplier(attacker.type, defender.type, defender.secondaryType);
+    }
+
+    /**
+     * @return Multiplier applied to super effective attacks
+     */
+    public double getAdvantageMultiplier() {
+        return advantageMultiplier;
+    }
+
+    // ====== Chart Definition ======
+
+    private static byte[] buildLevels() {
+        byte[] levels = new byte[TYPE_COUNT * TYPE_COUNT];
+        Arrays.fill(levels, NEUTRAL);
+
+        define(levels, NORMAL, of(), of(ROCK, STEEL), of(GHOST));
+        define(levels, FIRE, of(GRASS, ICE, BUG, STEEL), of(FIRE, WATER, ROCK, DRAGON), of());
+        define(levels, WATER, of(FIRE, GROUND, ROCK), of(WATER, GRASS, DRAGON), of());
+        define(levels, ELECTRIC, of(WATER, FLYING), of(ELECTRIC, GRASS, DRAGON), of(GROUND));
+        define(levels, GRASS, of(WATER, GROUND, ROCK),
+                of(FIRE, GRASS, POISON, FLYING, BUG, DRAGON, STEEL), of());
+        define(levels, ICE, of(GRASS, GROUND, FLYING, DRAGON), of(FIRE, WATER, ICE, STEEL), of());
+        define(levels, FIGHTING, of(NORMAL, ICE, ROCK, DARK, STEEL),
+                of(POISON, FLYING, PSYCHIC, BUG, FAIRY), of(GHOST));
+        define(levels, POISON, of(GRASS, FAIRY), of(POISON, GROUND, ROCK, GHOST), of(STEEL));
+        define(levels, GROUND, of(FIRE, ELECTRIC, POISON, ROCK, STEEL), of(GRASS, BUG), of(FLYING));
+        define(levels, FLYING, of(GRASS, FIGHTING, BUG), of(ELECTRIC, ROCK, STEEL), of());
+        define(levels, PSYCHIC, of(FIGHTING, POISON), of(PSYCHIC, STEEL), of(DARK));
+        define(levels, BUG, of(GRASS, PSYCHIC, DARK),
+                of(FIRE, FIGHTING, POISON, FLYING, GHOST, STEEL, FAIRY), of());
+        define(levels, ROCK, of(FIRE, ICE, FLYING, BUG), of(FIGHTING, GROUND, STEEL), of());
+        define(levels, GHOST, of(PSYCHIC, GHOST), of(DARK), of(NORMAL));
+        define(levels, DRAGON, of(DRAGON), of(STEEL), of(FAIRY));
+        define(levels, DARK, of(PSYCHIC, GHOST), of(FIGHTING, DARK, FAIRY), of());
+        define(levels, STEEL, of(ICE, ROCK, FAIRY), of(FIRE, WATER, ELECTRIC, STEEL), of());
+        define(levels, FAIRY, of(FIGHTING, DRAGON, DARK), of(FIRE, POISON, STEEL), of());
+
+        return levels;
+    }
+
+    private static void define(byte[] levels, PokemonType attacker, PokemonType[] superEffective,
+                               PokemonType[] resisted, PokemonType[] immune) {
+        int row = attacker.ordinal() * TYPE_COUNT;
+        for (PokemonType defender : superEffective) levels[row + defender.ordinal()] = SUPER_EFFECTIVE;
+        for (PokemonType defender : resisted) levels[row + defender.ordinal()] = RESISTED;
+        for (PokemonType defender : immune) levels[row + defender.ordinal()] = IMMUNE;
+    }
+
+    private static PokemonType[] of(PokemonType... types) {
+        return types;
+    }
+}
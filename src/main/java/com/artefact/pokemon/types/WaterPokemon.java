@@ -1,8 +1,7 @@
 package com.artefact.pokemon.types;
 
 import com.artefact.pokemon.Pokemon;
-import com.artefact.pokemon.Move;
-import com.artefact.utils.Constants;
+import com.artefact.pokemon.species.SpeciesRegistry;
 
 /**
  * WaterPokemon class represents water-type Pokemon.
@@ -20,7 +19,7 @@ public class WaterPokemon extends Pokemon {
      * @param attackPower Base attack damage
      */
     public WaterPokemon(String name, int health, int attackPower) {
-        super(name, "Water", health, attackPower,
+        super(name, PokemonType.WATER, health, attackPower,
                 "It has jet nozzles on its shell. This impressive Pokemon uses these jets " +
                         "to charge toward foes with all the force of a rocket.");
     }
@@ -37,7 +36,7 @@ public class WaterPokemon extends Pokemon {
     public static WaterPokemon create(String name, int health, int attackPower) {
         return (WaterPokemon) Pokemon.createPokemon(
                 name,
-                "Water",
+                PokemonType.WATER,
                 health,
                 attackPower,
                 "It has jet nozzles on its shell. This impressive Pokemon uses these jets " +
@@ -50,7 +49,7 @@ public class WaterPokemon extends Pokemon {
 
     /**
      * Executes attack against opponent Pokemon
-     * Applies type effectiveness multiplier against Fire-type Pokemon
+     * Applies the type chart multiplier for the opponent's types
      * @param opponent Target Pokemon to attack
      */
     @Override
@@ -58,9 +57,8 @@ public class WaterPokemon extends Pokemon {
         System.out.println(this.name + " uses Water Gun!");
 
         // Calculate damage with type multiplier
-        double multiplier = 1.0;
-        if (opponent.type.equals("Fire")) {
-            multiplier = 1.1;  // Water is super effective against Fire
+        double multiplier = TypeChart.STANDARD.multiplier(this, opponent);
+        if (multiplier > 1.0) {
             System.out.println("It's super effective!");
         }
 
@@ -70,28 +68,11 @@ public class WaterPokemon extends Pokemon {
     // ====== Move Management ======
 
     /**
-     * Initialises the WaterPokemon's move set
+     * Initialises the WaterPokemon's move set from the species registry
      * Includes Wave Crash, Water Gun, and Hydro Pump with varying power and accuracy
      */
     @Override
     public void initialiseMoves() {
-        moves.add(new Move(
-                "Wave Crash",    // High power, low accuracy
-                20,
-                Constants.MEDIUM_ACCURACY,
-                "A powerful wave crashes down!"
-        ));
-        moves.add(new Move(
-                "Water Gun",     // Lower power, high accuracy
-                15,
-                Constants.HIGH_ACCURACY,
-                "A weak but accurate water attack"
-        ));
-        moves.add(new Move(
-                "Hydro Pump",    // Highest power, medium accuracy
-                25,
-                Constants.LOW_ACCURACY,
-                "A devastating but inaccurate attack."
-        ));
+        moves.addAll(SpeciesRegistry.standard().moveset(PokemonType.WATER));
     }
 }
@@ -0,0 +1,392 @@
+package com.artefact.server;
+
+import com.artefact.metrics.Metrics;
+import com.artefact.metrics.MetricsServer;
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.BattleSession;
+import com.artefact.pokemon.battle.event.SpectatorDispatcher;
+import com.artefact.pokemon.history.AsyncBattleWriter;
+import com.artefact.pokemon.history.BattleHistory;
+import com.artefact.pokemon.team.Team;
+import com.artefact.utils.Constants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BattleServer hosts player-vs-computer battles over a local HTTP JSON API.
+ * Every battle is an isolated BattleSession, so one process can serve many
+ * clients at once.
+ *
+ * Endpoints:
+ * <pre>
+ * POST   /battles              {"starter": 1-3, "difficulty": "normal"|"hard", "format": "single"|"team",
+ *                               "moves": "standard"|"status", "seed": n}
+ * GET    /battles/{id}
+ * POST   /battles/{id}/actions {"action": "attack", "move": 1-n} | {"action": "potion"} | {"action": "surrender"}
+ *                              | {"action": "switch", "member": 1-6}
+ * DELETE /battles/{id}
+ * GET    /battles/{id}/events  Server-sent events for spectators, ending with the battle
+ * GET    /metrics              Prometheus text format
+ * </pre>
+ * Each other battle endpoint returns the battle state, or {"error": "..."} on failure.
+ * Team battles add the player's team, the opponent's remaining count and
+ * whether the player must switch before anything else.
+ */
+public class BattleServer {
+
+    // ====== Class Fields ======
+
+    private static final int MAX_BODY_BYTES = 4096;  // Largest request body accepted
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ScheduledExecutorService evictor;
+    private final BattleSessions sessions;
+    private final ExecutorService spectatorExecutor;  // Delivers events to every battle's spectators
+    private final SpectatorDispatcher spectators;     // Shared by every spectated battle
+    private final AsyncBattleWriter battleWriter;  // Records finished battles, or null
+
+    // ====== Constructor ======
+
+    /**
+     * Creates a server using the session limits from Constants
+     * @param port Port to listen on, or 0 for any free port
+     * @param battleWriter Writer for finished battles, or null to keep no history
+     * @throws IOException If the port cannot be bound
+     */
+    public BattleServer(int port, AsyncBattleWriter battleWriter) throws IOException {
+        this(port, battleWriter, Constants.MAX_BATTLE_SESSIONS, Constants.BATTLE_SESSION_IDLE_SECONDS);
+    }
+
+    /**
+     * Creates a server with explicit session limits
+     * @param port Port to listen on, or 0 for any free port
+     * @param battleWriter Writer for finished battles, or null to keep no history
+     * @param maxSessions Most battles held at once
+     * @param idleSeconds Seconds without a request before a battle is evicted
+     * @throws IOException If the port cannot be bound
+     */
+    public BattleServer(int port, AsyncBattleWriter battleWriter, int maxSessions, long idleSeconds)
+            throws IOException {
+        this.battleWriter = battleWriter;
+        this.sessions = new BattleSessions(maxSessions, idleSeconds);
+        this.requestExecutor = newRequestExecutor();
+        this.spectatorExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "battle-spectator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.spectators = new SpectatorDispatcher(spectatorExecutor);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.server.setExecutor(requestExecutor);
+        this.server.createContext("/battles", this::handle);
+        this.server.createContext("/metrics", MetricsServer.handler(Metrics.REGISTRY));
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "battle-session-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleSeconds / 4);
+        evictor.scheduleAtFixedRate(sessions::evictIdle, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs each request on its own virtual thread where the JVM supports them
+     * (Java 21+), otherwise on a bounded pool of platform threads
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4, runnable -> {
+                Thread thread = new Thread(runnable, "battle-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // ====== Lifecycle ======
+
+    /**
+     * Starts accepting requests
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and releases the server threads.
+     * The battle writer is left open for its owner to close.
+     */
+    public void stop() {
+        server.stop(0);
+        evictor.shutdownNow();
+        requestExecutor.shutdown();
+        spectators.close();
+        spectatorExecutor.shutdown();
+    }
+
+    /**
+     * @return Port the server is listening on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return Number of live battles
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    // ====== Request Handling ======
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String[] path = exchange.getRequestURI().getPath().split("/");  // "", "battles", id, "actions"
+        String method = exchange.getRequestMethod();
+        if (path.length == 4 && path[3].equals("events") && method.equals("GET")) {
+            streamEvents(exchange, path[2]);  // Stays open after this returns
+            return;
+        }
+        try (exchange) {
+            try {
+                if (path.length == 2 && method.equals("POST")) {
+                    createBattle(exchange);
+                } else if (path.length == 3 && method.equals("GET")) {
+                    BattleSession session = requireSession(path[2]);
+                    send(exchange, 200, stateJson(session));
+                } else if (path.length == 3 && method.equals("DELETE")) {
+                    requireSession(path[2]);
+                    sessions.remove(path[2]);
+                    send(exchange, 204, null);
+                } else if (path.length == 4 && path[3].equals("actions") && method.equals("POST")) {
+                    submitAction(exchange, requireSession(path[2]));
+                } else {
+                    send(exchange, 404, errorJson("No such endpoint"));
+                }
+            } catch (SessionNotFoundException e) {
+                send(exchange, 404, errorJson("No such battle"));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, errorJson(e.getMessage()));
+            } catch (IllegalStateException e) {
+                send(exchange, 409, errorJson(e.getMessage()));
+            } catch (RuntimeException e) {
+                send(exchange, 500, errorJson("Internal error"));
+            }
+        }
+    }
+
+    private void createBattle(HttpExchange exchange) throws IOException {
+        Map<String, String> body = Json.parseObject(readBody(exchange));
+        int starter = Integer.parseInt(body.getOrDefault("starter", "1"));
+        boolean hard = body.getOrDefault("difficulty", "normal").equalsIgnoreCase("hard");
+        boolean team = body.getOrDefault("format", "single").equalsIgnoreCase("team");
+        boolean statusMoves = body.getOrDefault("moves", "standard").equalsIgnoreCase("status");
+        long seed = body.containsKey("seed")
+                ? Long.parseLong(body.get("seed"))
+                : ThreadLocalRandom.current().nextLong();
+
+        BattleSession session = sessions.create(starter, hard, seed, team, statusMoves);
+        if (session == null) {
+            send(exchange, 503, errorJson("Too many battles in progress"));
+            return;
+        }
+        send(exchange, 201, stateJson(session));
+    }
+
+    private void submitAction(HttpExchange exchange, BattleSession session) throws IOException {
+        Map<String, String> body = Json.parseObject(readBody(exchange));
+        String action = body.getOrDefault("action", "");
+        switch (action) {
+            case "attack" -> session.attack(Integer.parseInt(body.getOrDefault("move", "1")) - 1);
+            case "potion" -> session.usePotion();
+            case "surrender" -> session.surrender();
+            case "switch" -> session.switchTo(Integer.parseInt(body.getOrDefault("member", "1")) - 1);
+            default -> throw new IllegalArgumentException("Action must be attack, potion, switch or surrender");
+        }
+        if (session.getStatus() != BattleSession.Status.ONGOING) {
+            recordResult(session);
+        }
+        send(exchange, 200, stateJson(session));
+    }
+
+    /**
+     * Starts streaming a battle's events to a spectator. The exchange is
+     * closed by the stream when the battle ends or the client disconnects.
+     */
+    private void streamEvents(HttpExchange exchange, String id) throws IOException {
+        BattleSession session = sessions.get(id);
+        if (session == null) {
+            try (exchange) {
+                send(exchange, 404, errorJson("No such battle"));
+            }
+            return;
+        }
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            session.spectate(new EventStream(exchange), spectators);
+        } catch (IOException | RuntimeException e) {
+            exchange.close();
+            throw e;
+        }
+    }
+
+    private void recordResult(BattleSession session) {
+        if (battleWriter == null) return;
+        try {
+            battleWriter.submit(session.toRecord());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            // Writer already shut down; the result is not kept
+        }
+    }
+
+    private BattleSession requireSession(String id) {
+        BattleSession session = sessions.get(id);
+        if (session == null) throw new SessionNotFoundException();
+        return session;
+    }
+
+    /**
+     * Thrown when a request names a battle that does not exist
+     */
+    private static final class SessionNotFoundException extends RuntimeException {
+        SessionNotFoundException() {
+            super(null, null, false, false);  // Control flow only; no stack trace needed
+        }
+    }
+
+    // ====== JSON Formatting ======
+
+    private static String stateJson(BattleSession session) {
+        synchronized (session) {
+            StringBuilder json = new StringBuilder(512);
+            json.append("{\"id\":").append(Json.quote(session.getId()))
+                    .append(",\"status\":").append(Json.quote(session.getStatus().name().toLowerCase()))
+                    .append(",\"turns\":").append(session.getTurns())
+                    .append(",\"player\":");
+            appendPokemon(json, session.getPlayer(), true);
+            json.append(",\"opponent\":");
+            appendPokemon(json, session.getComputer(), false);
+            Team team = session.getPlayerTeam();
+            if (team != null) {
+                json.append(",\"awaitingSwitch\":").append(session.isAwaitingSwitch())
+                        .append(",\"opponentRemaining\":").append(session.getComputerTeam().remaining())
+                        .append(",\"team\":[");
+                for (int i = 0; i < team.size(); i++) {
+                    if (i > 0) json.append(',');
+                    json.append("{\"name\":").append(Json.quote(team.species(i).name()))
+                            .append(",\"health\":").append(team.health(i))
+                            .append(",\"active\":").append(i == team.activeIndex())
+                            .append('}');
+                }
+                json.append(']');
+            }
+            json.append(",\"events\":[");
+            List<String> events = session.recentEvents(Constants.MAX_BATTLE_HISTORY);
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) json.append(',');
+                json.append(Json.quote(events.get(i)));
+            }
+            return json.append("]}").toString();
+        }
+    }
+
+    private static void appendPokemon(StringBuilder json, Pokemon pokemon, boolean withMoves) {
+        json.append("{\"name\":").append(Json.quote(pokemon.name))
+                .append(",\"type\":").append(Json.quote(pokemon.getTypeLabel()))
+                .append(",\"health\":").append(pokemon.health)
+                .append(",\"potions\":").append(pokemon.potions);
+        if (withMoves) {
+            json.append(",\"moves\":[");
+            for (int i = 0; i < pokemon.moves.size(); i++) {
+                Move move = pokemon.moves.get(i);
+                if (i > 0) json.append(',');
+                json.append("{\"name\":").append(Json.quote(move.getName()))
+                        .append(",\"power\":").append(move.getBasePower())
+                        .append(",\"accuracy\":").append(move.getAccuracy())
+                        .append('}');
+            }
+            json.append(']');
+        }
+        json.append('}');
+    }
+
+    private static String errorJson(String message) {
+        return "{\"error\":" + Json.quote(message == null ? "Bad request" : message) + "}";
+    }
+
+    // ====== I/O Helpers ======
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body is too large");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        if (json == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // ====== Entry Point ======
+
+    /**
+     * Runs the battle server until the process is stopped
+     * @param args Optional port, defaulting to BATTLE_SERVER_PORT
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Constants.BATTLE_SERVER_PORT;
+        AsyncBattleWriter writer = new AsyncBattleWriter(BattleHistory.open(),
+                Constants.BATTLE_WRITER_QUEUE_CAPACITY,
+                Constants.BATTLE_WRITER_FLUSH_MILLIS,
+                AsyncBattleWriter.SyncPolicy.EVERY_BATCH);
+        BattleServer server = new BattleServer(port, writer);
+        Metrics.registerMBeans();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close battle history: " + e.getMessage());
+            }
+        }));
+        server.start();
+        System.out.println("Battle server listening on http://localhost:" + server.getPort() + "/battles");
+    }
+}
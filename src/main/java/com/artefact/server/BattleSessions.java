@@ -0,0 +1,118 @@
+package com.artefact.server;
+
+import com.artefact.pokemon.battle.BattleSession;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BattleSessions is the registry of live battles. It caps the number of
+ * sessions held at once and evicts sessions that have been idle too long,
+ * so memory stays bounded however many clients come and go.
+ */
+class BattleSessions {
+
+    // ====== Class Fields ======
+
+    private final Map<String, BattleSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();  // Tracks size without scanning the map
+    private final int maxSessions;
+    private final long idleNanos;
+
+    // ====== Constructor ======
+
+    /**
+     * @param maxSessions Most sessions held at once
+     * @param idleSeconds Seconds without a request before a session is evicted
+     */
+    BattleSessions(int maxSessions, long idleSeconds) {
+        this.maxSessions = maxSessions;
+        this.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+    }
+
+    // ====== Session Methods ======
+
+    /**
+     * Starts and registers a new battle
+     * @param starter Player's starter choice
+     * @param hard true for the search-based opponent
+     * @param seed Seed for the battle's random source
+     * @param team true for a team battle
+     * @param statusMoves true to add the status moves
+     * @return New session, or null if the session limit has been reached
+     */
+    BattleSession create(int starter, boolean hard, long seed, boolean team, boolean statusMoves) {
+        if (!reserve()) {
+            evictIdle();
+            if (!reserve()) return null;
+        }
+        try {
+            BattleSession session = new BattleSession(UUID.randomUUID().toString(), starter, hard, seed, team,
+                    statusMoves);
+            sessions.put(session.getId(), session);
+            return session;
+        } catch (RuntimeException e) {
+            count.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = count.get();
+            if (current >= maxSessions) return false;
+            if (count.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Looks up a session and marks it as used
+     * @param id Session identifier
+     * @return Session, or null if unknown or evicted
+     */
+    BattleSession get(String id) {
+        BattleSession session = sessions.get(id);
+        if (session != null) session.touch();
+        return session;
+    }
+
+    /**
+     * Removes a session
+     * @param id Session identifier
+     * @return true if the session existed
+     */
+    boolean remove(String id) {
+        BattleSession session = sessions.remove(id);
+        if (session == null) return false;
+        count.decrementAndGet();
+        session.close();
+        return true;
+    }
+
+    /**
+     * Removes every session idle for longer than the timeout
+     * @return Number of sessions evicted
+     */
+    int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (BattleSession session : sessions.values()) {
+            if (now - session.lastAccessNanos() > idleNanos && sessions.remove(session.getId(), session)) {
+                count.decrementAndGet();
+                session.close();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * @return Number of live sessions
+     */
+    int size() {
+        return count.get();
+    }
+}
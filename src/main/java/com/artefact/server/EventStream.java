@@ -0,0 +1,68 @@
+package com.artefact.server;
+
+import com.artefact.pokemon.battle.event.BattleEventSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow;
+
+/**
+ * EventStream sends one spectator's battle events to an HTTP client as
+ * server-sent events, one JSON object per event. It writes from the
+ * spectator's delivery thread, so a slow client only delays its own stream,
+ * and it closes the exchange when the battle ends or the client goes away.
+ */
+final class EventStream implements Flow.Subscriber<BattleEventSnapshot> {
+
+    // ====== Class Fields ======
+
+    private final HttpExchange exchange;
+    private final OutputStream out;
+    private Flow.Subscription subscription;
+
+    // ====== Constructor ======
+
+    /**
+     * Creates a stream over an exchange whose response headers have been sent
+     * @param exchange Exchange to write events to; closed when the stream ends
+     */
+    EventStream(HttpExchange exchange) {
+        this.exchange = exchange;
+        this.out = exchange.getResponseBody();
+    }
+
+    // ====== Subscriber Methods ======
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(BattleEventSnapshot event) {
+        String json = "{\"sequence\":" + event.sequence()
+                + ",\"type\":" + Json.quote(event.type().name().toLowerCase())
+                + ",\"text\":" + Json.quote(event.describe()) + "}";
+        try {
+            out.write(("data: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            // The client has gone; stop watching
+            subscription.cancel();
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        exchange.close();
+    }
+
+    @Override
+    public void onComplete() {
+        exchange.close();
+    }
+}
@@ -0,0 +1,142 @@
+package com.artefact.server;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Json reads and writes the small flat JSON objects used by the battle API.
+ * Request bodies are objects whose values are strings, numbers or booleans;
+ * values are returned as strings for the handler to interpret.
+ */
+final class Json {
+    // Prevent instantiation
+    private Json() {
+        throw new UnsupportedOperationException("This utility class should not be instantiated");
+    }
+
+    // ====== Parsing ======
+
+    /**
+     * Parses a flat JSON object
+     * @param text Request body; blank means an empty object
+     * @return Field names mapped to their values as text
+     * @throws IllegalArgumentException If the body is not a flat JSON object
+     */
+    static Map<String, String> parseObject(String text) {
+        Map<String, String> fields = new HashMap<>();
+        String body = text.trim();
+        if (body.isEmpty()) return fields;
+        if (!body.startsWith("{") || !body.endsWith("}")) {
+            throw new IllegalArgumentException("Request body must be a JSON object");
+        }
+
+        int[] position = {1};
+        skipWhitespace(body, position);
+        if (peek(body, position) == '}') return fields;
+        return parseFields(body, position, fields);
+    }
+
+    private static Map<String, String> parseFields(String body, int[] position, Map<String, String> fields) {
+        while (true) {
+            skipWhitespace(body, position);
+            String key = readString(body, position);
+            skipWhitespace(body, position);
+            expect(body, position, ':');
+            skipWhitespace(body, position);
+            String value = peek(body, position) == '"' ? readString(body, position) : readLiteral(body, position);
+            fields.put(key, value);
+            skipWhitespace(body, position);
+            char next = peek(body, position);
+            position[0]++;
+            if (next == '}') return fields;
+            if (next != ',') throw new IllegalArgumentException("Expected ',' or '}' in request body");
+        }
+    }
+
+    private static void skipWhitespace(String text, int[] position) {
+        while (position[0] < text.length() && Character.isWhitespace(text.charAt(position[0]))) {
+            position[0]++;
+        }
+    }
+
+    /**
+     * @return Character at the current position
+     * @throws IllegalArgumentException If the body ends before it
+     */
+    private static char peek(String text, int[] position) {
+        if (position[0] >= text.length()) {
+            throw new IllegalArgumentException("Truncated request body");
+        }
+        return text.charAt(position[0]);
+    }
+
+    private static void expect(String text, int[] position, char expected) {
+        if (position[0] >= text.length() || text.charAt(position[0]) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' in request body");
+        }
+        position[0]++;
+    }
+
+    private static String readString(String text, int[] position) {
+        expect(text, position, '"');
+        StringBuilder value = new StringBuilder();
+        while (position[0] < text.length()) {
+            char c = text.charAt(position[0]++);
+            if (c == '"') return value.toString();
+            if (c == '\\' && position[0] < text.length()) {
+                char escaped = text.charAt(position[0]++);
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    case 'u' -> {
+                        if (position[0] + 4 > text.length()) {
+                            throw new IllegalArgumentException("Truncated request body");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position[0], position[0] + 4), 16));
+                        position[0] += 4;
+                    }
+                    default -> value.append(escaped);
+                }
+            } else {
+                value.append(c);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string in request body");
+    }
+
+    private static String readLiteral(String text, int[] position) {
+        int start = position[0];
+        while (position[0] < text.length() && ",} \t\r\n".indexOf(text.charAt(position[0])) < 0) {
+            position[0]++;
+        }
+        if (start == position[0]) throw new IllegalArgumentException("Missing value in request body");
+        return text.substring(start, position[0]);
+    }
+
+    // ====== Writing ======
+
+    /**
+     * Quotes and escapes a string for JSON output
+     * @param value Text to quote
+     * @return JSON string literal
+     */
+    static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) quoted.append(String.format("\\u%04x", (int) c));
+                    else quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -14,18 +14,70 @@ public final class Constants {
     // File System Constants
     public static final String OUTPUT_DIR = "user_data";
     public static final String FILE_EXTENSION = ".txt";
+    public static final String BATTLE_JOURNAL_FILE = "battle_history.journal";
+    public static final String BATTLE_INDEX_FILE = "battle_history.index";
+    public static final int BATTLE_WRITER_QUEUE_CAPACITY = 1024;  // Battles queued before saving blocks
+    public static final long BATTLE_WRITER_FLUSH_MILLIS = 50;     // How long the writer gathers a group
+    public static final String SPECIES_CACHE_FILE = "species.cache";  // Compiled species data
+    public static final String WIN_TABLE_DIR = "win_tables";          // Solved win probability tables
+    public static final String POLICY_FILE = "opponent_policy.qpt";   // Opponent policy learned by self-play
 
     // File Content Constants
     public static final String DATE_TIME_FORMAT = "dd-MM-yyyy HH:mm:ss";
     public static final String FILE_DATE_FORMAT = "yyyy-MM-dd";
 
     // Game Constants
-    public static final int MAX_HEALTH = 100;
+    public static final int STARTING_POTIONS = 1;
+    public static final int STARTING_HEAL_COUNT = 2;
+    public static final int POKEMON_POOL_SIZE = 64;         // Idle Pokemon kept per factory on each thread
+    public static final int POKEMON_POOL_FACTORIES = 32;    // Factories each thread keeps idle Pokemon for
 
     // Battle Constants
     public static final double TYPE_ADVANTAGE_MULTIPLIER = 1.1;
+    public static final double TYPE_RESISTANCE_MULTIPLIER = 0.9;
+    public static final double TYPE_IMMUNITY_MULTIPLIER = 0.0;
     public static final int BASE_HEAL_AMOUNT = 30;
     public static final int MAX_BATTLE_HISTORY = 5;
+    public static final int BATTLE_EVENT_CAPACITY = 64;     // Events retained per battle for saving
+
+    // Computer Opponent Constants
+    public static final int COMPUTER_HEAL_THRESHOLD = 40;   // Computer considers healing below this HP
+    public static final double COMPUTER_HEAL_CHANCE = 0.7;  // Chance the computer heals when low
+    public static final int MIN_COMPUTER_HEAL = 10;
+    public static final int MAX_COMPUTER_HEAL = 30;
+    public static final long MCTS_TURN_BUDGET_MS = 200;     // Thinking time for the hard opponent
+
+    // Status Effect Constants
+    public static final int EFFECT_WHEEL_SLOTS = 64;             // Turns covered by one turn of the effect wheel
+    public static final double PARALYSIS_SKIP_CHANCE = 0.25;     // Chance a paralysed Pokemon loses its turn
+    public static final double BURN_ATTACK_MULTIPLIER = 0.5;     // Damage dealt by a burned Pokemon
+
+    // Self-Play Training Constants
+    public static final int TRAINING_EPISODES = 1_000_000;       // Battles played to train the opponent policy
+    public static final int TRAINING_ROUNDS = 20;                // Times the shard tables are merged
+    public static final int TRAINING_SHARDS = 16;                // Independent learners per round
+    public static final double LEARNING_RATE = 0.1;              // Step towards each new value estimate
+    public static final double DISCOUNT_FACTOR = 0.98;           // Weight of the next decision's value
+    public static final double EXPLORATION_START = 0.3;          // Chance of a random action in the first round
+    public static final double EXPLORATION_END = 0.02;           // Chance of a random action in the last round
+
+    // Team Battle Constants
+    public static final int TEAM_SIZE = 6;
+    public static final int TEAM_POTIONS = 3;                    // Potions shared by a whole team
+
+    // Balance Sweep Constants
+    public static final int BALANCE_BATTLES_PER_PAIRING = 5_000;  // Battles per move order for each pairing
+    public static final double BALANCE_TOLERANCE = 0.05;          // Largest acceptable distance from a 50% win rate
+
+    // Battle Server Constants
+    public static final int BATTLE_SERVER_PORT = 8080;
+    public static final int MAX_BATTLE_SESSIONS = 10_000;        // Live battles held at once
+    public static final long BATTLE_SESSION_IDLE_SECONDS = 300;  // Idle time before a battle is evicted
+    public static final int SPECTATOR_RING_CAPACITY = 256;       // Events a battle keeps for its spectators
+    public static final int SPECTATOR_BUFFER_SIZE = 128;         // Events a spectator may fall behind before skipping
+
+    // Metrics Constants
+    public static final String METRICS_PORT_PROPERTY = "artefact.metrics.port";  // Serves /metrics when set
 
     // Move Accuracy Constants
     public static final double HIGH_ACCURACY = 0.95;
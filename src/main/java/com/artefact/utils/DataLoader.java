@@ -1,5 +1,8 @@
 package com.artefact.utils;
 
+import com.artefact.jfr.UserDataLoadFlightEvent;
+import com.artefact.metrics.Metrics;
+
 import java.io.File;
 import java.io.BufferedReader;
 import java.io.FileReader;
@@ -18,7 +21,37 @@ public class DataLoader {
      */
 
     public static Map<String, String> loadMostRecentUserData() {
-        File directory = new File(Constants.OUTPUT_DIR);
+        return loadMostRecentUserData(new File(Constants.OUTPUT_DIR));
+    }
+
+    /**
+     * Attempts to load the most recent user data file from the given directory
+     * @param directory Directory to scan for user data files
+     * @return Map containing user data, or null if no file found/error occurs
+     */
+    public static Map<String, String> loadMostRecentUserData(File directory) {
+        long start = System.nanoTime();
+        UserDataLoadFlightEvent flight = new UserDataLoadFlightEvent();
+        flight.begin();
+        File mostRecent = null;
+        try {
+            mostRecent = findMostRecent(directory, flight);
+            return mostRecent == null ? null : load(mostRecent);
+        } finally {
+            Metrics.USER_DATA_LOAD_SECONDS.recordSince(start);
+            flight.end();
+            if (flight.shouldCommit()) {
+                flight.directory = directory.getPath();
+                if (mostRecent != null) {
+                    flight.file = mostRecent.getName();
+                    flight.bytes = mostRecent.length();
+                }
+                flight.commit();
+            }
+        }
+    }
+
+    private static File findMostRecent(File directory, UserDataLoadFlightEvent flight) {
         File mostRecent = null;
         long lastModified = Long.MIN_VALUE;
 
@@ -27,6 +60,8 @@ public class DataLoader {
             File[] files = directory.listFiles((dir, name) -> name.endsWith(Constants.FILE_EXTENSION));
             // If it finds a file, it continues.
             if (files != null) {
+                Metrics.USER_DATA_FILES_SCANNED.add(files.length);
+                flight.filesScanned = files.length;
                 // Shorthand loop syntax.
                 for (File file : files) {
                     if (file.lastModified() > lastModified && !file.getName().contains("battle_history")) {
@@ -36,10 +71,10 @@ public class DataLoader {
                 }
             }
         }
-        if (mostRecent == null) {
-            return null;
-        }
+        return mostRecent;
+    }
 
+    private static Map<String, String> load(File mostRecent) {
         /*  I didn't use a HashMap here as doesn't guarantee.
         *   order maintenance. LinkedHashMap does, however there is
         *   slightly more memory overhead, however the data set is never
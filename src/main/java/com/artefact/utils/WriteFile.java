@@ -1,5 +1,8 @@
 package com.artefact.utils;
 
+import com.artefact.jfr.FileWriteFlightEvent;
+import com.artefact.metrics.Metrics;
+
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -22,9 +25,19 @@ public class WriteFile {
     private int yearsOfWork;                 // Years at current workplace
     private ArrayList<Integer> menuHistory;  // History of menu selections
     private double tdeeResult;               // Calculated TDEE result
+    private final String outputDir;          // Directory files are written to
 
     // ====== Constructor ======
     public WriteFile() {
+        this(Constants.OUTPUT_DIR);
+    }
+
+    /**
+     * Creates a writer targeting a specific output directory
+     * @param outputDir Directory to write user data files into
+     */
+    public WriteFile(String outputDir) {
+        this.outputDir = outputDir;
         // Create output directory if it doesn't exist
         createOutputDirectory();
     }
@@ -48,11 +61,11 @@ public class WriteFile {
      * Creates the output directory if it doesn't exist
      */
     private void createOutputDirectory() {
-        File directory = new File(Constants.OUTPUT_DIR);
+        File directory = new File(outputDir);
         if (!directory.exists()) {
             boolean created = directory.mkdirs();
             if (!created) {
-                System.err.println("Failed to create output directory: " + Constants.OUTPUT_DIR);
+                System.err.println("Failed to create output directory: " + outputDir);
             }
         }
     }
@@ -64,7 +77,7 @@ public class WriteFile {
         LocalDate date = LocalDate.now();
         String safeLastName = lastName.replaceAll("[^a-zA-Z0-9.-]", "_");
         return String.format("%s/%s_%s%s",
-                Constants.OUTPUT_DIR,
+                outputDir,
                 safeLastName,
                 date.format(DateTimeFormatter.ofPattern(Constants.FILE_DATE_FORMAT)),
                 Constants.FILE_EXTENSION);
@@ -81,6 +94,9 @@ public class WriteFile {
             return;
         }
 
+        long start = System.nanoTime();
+        FileWriteFlightEvent flight = new FileWriteFlightEvent();
+        flight.begin();
         String filename = generateFilename();
         String dateAndTime = timeFormatter();
 
@@ -105,11 +121,23 @@ public class WriteFile {
             // Write file creation timestamp
             writer.write("File created @ " + dateAndTime);
 
+            writer.flush();
+            flight.bytes = new File(filename).length();
+            flight.succeeded = true;
+            Metrics.USER_DATA_WRITTEN_BYTES.add(flight.bytes);
             System.out.println("Successfully wrote to file: " + filename);
 
         } catch (IOException e) {
             System.err.println("Error writing to file: " + filename);
             System.err.println("Error details: " + e.getMessage());
+        } finally {
+            Metrics.USER_DATA_WRITE_SECONDS.recordSince(start);
+            flight.end();
+            if (flight.shouldCommit()) {
+                flight.kind = "user data";
+                flight.path = filename;
+                flight.commit();
+            }
         }
     }
 
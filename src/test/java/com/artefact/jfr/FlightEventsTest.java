@@ -0,0 +1,48 @@
+package com.artefact.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.artefact.pokemon.battle.BattleSession;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightEventsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testBattleSessionIsRecorded() throws Exception {
+        BattleSession session;
+        Path file = directory.resolve("battle.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.artefact.Battle");
+            recording.enable("com.artefact.BattleTurn");
+            recording.enable("com.artefact.Attack");
+            recording.start();
+            session = new BattleSession("jfr", 1, false, 42);
+            while (session.getStatus() == BattleSession.Status.ONGOING) {
+                session.attack(0);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent battle = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.artefact.Battle"))
+                .findFirst().orElseThrow();
+        assertEquals("Charizard", battle.getString("player"));
+        assertEquals(session.getTurns(), battle.getInt("turns"));
+        assertEquals(session.getStatus().name().toLowerCase(), battle.getString("outcome"));
+
+        long attacks = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.artefact.Attack")).count();
+        assertTrue(attacks >= session.getTurns() / 2);
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.artefact.BattleTurn")
+                && event.getBoolean("computer")));
+    }
+}
@@ -0,0 +1,50 @@
+package com.artefact.metrics;
+
+import org.junit.jupiter.api.Test;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricRegistryTest {
+    @Test
+    void testHistogramBucketsAndText() {
+        MetricRegistry registry = new MetricRegistry("test");
+        Counter counter = registry.counter("test_events_total", "Events");
+        Histogram histogram = registry.histogram("test_size_bytes", "Sizes", 2, 4, 1.0);
+        counter.increment();
+        counter.add(4);
+        for (long value : new long[] {0, 4, 5, 16, 17, 1000}) {
+            histogram.record(value);
+        }
+
+        assertEquals(5, counter.getCount());
+        assertEquals(6, histogram.getCount());
+        assertEquals(1000.0, histogram.getMax());
+        assertEquals(8.0, histogram.getMedian());  // Third of six values falls in the (4, 8] bucket
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("test_events_total", "Again"));
+
+        String text = registry.toText();
+        assertTrue(text.contains("test_events_total 5\n"));
+        assertTrue(text.contains("test_size_bytes_bucket{le=\"4\"} 2\n"));
+        assertTrue(text.contains("test_size_bytes_bucket{le=\"8\"} 3\n"));
+        assertTrue(text.contains("test_size_bytes_bucket{le=\"16\"} 4\n"));
+        assertTrue(text.contains("test_size_bytes_bucket{le=\"+Inf\"} 6\n"));
+        assertTrue(text.contains("test_size_bytes_sum 1042\n"));
+    }
+
+    @Test
+    void testRegistersMBeans() throws Exception {
+        MetricRegistry registry = new MetricRegistry("test");
+        registry.counter("test_started_total", "Started").increment();
+        registry.timer("test_turn_seconds", "Turns").record(2_000_000_000L);
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        registry.registerMBeans(server);
+        registry.registerMBeans(server);  // Registering again is harmless
+
+        assertEquals(1L, server.getAttribute(new ObjectName("test:type=Counter,name=test_started_total"), "Count"));
+        assertEquals(2.0, (double) server.getAttribute(
+                new ObjectName("test:type=Histogram,name=test_turn_seconds"), "Max"), 1e-9);
+    }
+}
@@ -0,0 +1,65 @@
+package com.artefact.pokemon;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.types.FirePokemon;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonPoolTest {
+    private final Supplier<Pokemon> charizard = () -> FirePokemon.create("Charizard", 100, 20);
+
+    @Test
+    void testReleasedPokemonIsResetAndReused() {
+        PokemonPool pool = new PokemonPool(4);
+        Pokemon pokemon = pool.acquire(charizard);
+        pokemon.takeDamage(60);
+        pokemon.usePotion();
+        pokemon.computerHeal(new SplittableRandom(1));
+        pool.release(charizard, pokemon);
+
+        Pokemon reused = pool.acquire(charizard);
+        assertSame(pokemon, reused);
+        assertEquals(100, reused.health);
+        assertEquals(1, reused.potions);
+        assertEquals(2, reused.healCount);
+    }
+
+    @Test
+    void testIdleCountIsCapped() {
+        PokemonPool pool = new PokemonPool(1);
+        pool.release(charizard, charizard.get());
+        pool.release(charizard, charizard.get());
+        assertEquals(1, pool.idleCount(charizard));
+    }
+
+    @Test
+    void testPokemonIsRestoredToFactoryState() {
+        PokemonPool pool = new PokemonPool(4);
+        Supplier<Pokemon> weakened = () -> {
+            Pokemon pokemon = FirePokemon.create("Charizard", 100, 20);
+            pokemon.health = 40;
+            pokemon.potions = 0;
+            return pokemon;
+        };
+        Pokemon pokemon = pool.acquire(weakened);
+        pokemon.takeDamage(30);
+        pool.release(weakened, pokemon);
+
+        Pokemon reused = pool.acquire(weakened);
+        assertEquals(40, reused.health);
+        assertEquals(0, reused.potions);
+    }
+
+    @Test
+    void testOnlyRecentFactoriesAreKept() {
+        PokemonPool pool = new PokemonPool(4, 2);
+        for (int i = 0; i < 100; i++) {
+            Supplier<Pokemon> fresh = () -> FirePokemon.create("Charizard", 100, 20);
+            pool.release(fresh, pool.acquire(fresh));
+        }
+        pool.release(charizard, pool.acquire(charizard));
+        assertEquals(2, pool.factoryCount());
+        assertEquals(1, pool.idleCount(charizard));
+    }
+}
@@ -2,13 +2,111 @@ package com.artefact.pokemon;
 
 import org.junit.jupiter.api.Test;
 import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.PokemonType;
+import com.artefact.utils.Constants;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
 import static org.junit.jupiter.api.Assertions.*;
 
 class PokemonTest {
+    public static class ElectricPokemon extends Pokemon {
+        public ElectricPokemon(String name, int health, int attackPower) {
+            super(name, PokemonType.ELECTRIC, health, attackPower, "Crackles with static.");
+        }
+
+        @Override
+        public void attack(Pokemon opponent) {
+            opponent.takeDamage(attackPower);
+        }
+    }
+
+    public static class PluginPokemon extends Pokemon {
+        public PluginPokemon(String name, int health, int attackPower) {
+            super(name, PokemonType.NORMAL, health, attackPower, "Loaded from a plugin.");
+        }
+
+        @Override
+        public void attack(Pokemon opponent) {
+            opponent.takeDamage(attackPower);
+        }
+    }
+
+    /**
+     * Loads PluginPokemon itself, as a plugin loader would, and leaves every other class to its parent
+     */
+    private static class PluginLoader extends ClassLoader {
+        PluginLoader() {
+            super(PokemonTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(PluginPokemon.class.getName())) return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) return loaded;
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    public abstract static class NoConstructorPokemon extends Pokemon {
+        protected NoConstructorPokemon() {
+            super("Missing", PokemonType.NORMAL, 1, 1, "");
+        }
+    }
+
     @Test
     void testTakeDamage() {
         Pokemon pokemon = FirePokemon.create("Charizard", 100, 20);
         pokemon.takeDamage(30);
         assertEquals(70, pokemon.getHealth());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHealsCapAtSpeciesMaximum() {
+        Pokemon small = FirePokemon.create("Charmander", 60, 10);
+        small.takeDamage(10);
+        assertEquals(10, small.usePotion());
+        assertEquals(60, small.health);
+
+        Pokemon large = FirePokemon.create("Snorlax", 150, 20);
+        large.takeDamage(30);
+        assertEquals(Constants.BASE_HEAL_AMOUNT, large.usePotion());
+        assertEquals(150, large.health);
+        large.takeDamage(5);
+        assertEquals(5, large.computerHeal(new SplittableRandom(1)));
+    }
+
+    @Test
+    void testFactoryCreatesNewSubclasses() {
+        Pokemon pokemon = Pokemon.createPokemon("Pikachu", PokemonType.ELECTRIC, 90, 18,
+                "Crackles with static.", ElectricPokemon.class);
+        assertInstanceOf(ElectricPokemon.class, pokemon);
+        assertEquals("Pikachu", pokemon.name);
+        assertEquals(90, pokemon.health);
+        assertSame(Pokemon.factoryFor(ElectricPokemon.class), Pokemon.factoryFor(ElectricPokemon.class));
+    }
+
+    @Test
+    void testFactoryRejectsClassWithoutConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> Pokemon.factoryFor(NoConstructorPokemon.class));
+    }
+
+    @Test
+    void testFactoryCreatesClassesFromChildLoaders() throws Exception {
+        Class<? extends Pokemon> plugin = new PluginLoader().loadClass(PluginPokemon.class.getName())
+                .asSubclass(Pokemon.class);
+        assertNotSame(PluginPokemon.class, plugin);
+
+        Pokemon pokemon = Pokemon.factoryFor(plugin).create("Ditto", 48, 12);
+        assertSame(plugin, pokemon.getClass());
+        assertEquals(48, pokemon.health);
+    }
+}
@@ -0,0 +1,36 @@
+package com.artefact.pokemon.ai;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectiminimaxSolverTest {
+    @Test
+    void testOpeningPositionIsSolvedAndCached() {
+        Pokemon computer = FirePokemon.create("Charizard", 100, 20);
+        Pokemon player = GrassPokemon.create("Venusaur", 100, 20);
+        ExpectiminimaxSolver solver = new ExpectiminimaxSolver();
+
+        ExpectiminimaxSolver.Evaluation first = solver.evaluate(computer, player);
+        int solved = solver.solvedStates();
+        ExpectiminimaxSolver.Evaluation second = solver.evaluate(computer, player);
+
+        assertTrue(first.winProbability() > 0.5 && first.winProbability() < 1.0);
+        assertEquals(first, second);
+        assertEquals(solved, solver.solvedStates());
+    }
+
+    @Test
+    void testFinishingBlowIsCertainWin() {
+        Pokemon computer = FirePokemon.create("Charizard", 100, 20);
+        Pokemon player = GrassPokemon.create("Venusaur", 100, 20);
+        player.health = 10;
+        player.potions = 0;
+
+        ExpectiminimaxSolver.Evaluation evaluation = new ExpectiminimaxSolver().evaluate(computer, player);
+        assertEquals(1, evaluation.action());
+        assertTrue(evaluation.winProbability() > 0.99);
+    }
+}
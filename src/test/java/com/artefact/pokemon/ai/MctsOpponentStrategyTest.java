@@ -0,0 +1,46 @@
+package com.artefact.pokemon.ai;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsOpponentStrategyTest {
+    @Test
+    void testFinishingMoveChosenWhenOpponentIsLow() {
+        Pokemon computer = FirePokemon.create("Charizard", 100, 20);
+        Pokemon player = GrassPokemon.create("Venusaur", 100, 20);
+        player.health = 20;
+
+        MctsOpponentStrategy strategy = MctsOpponentStrategy.withIterations(20_000, 2, ForkJoinPool.commonPool());
+        int action = strategy.chooseAction(computer, player, new SplittableRandom(1));
+        // Fire Blast (index 0) is the most accurate move that still knocks out the player
+        assertEquals(0, action);
+    }
+
+    @Test
+    void testHealsWhenOneHitFromFainting() {
+        Pokemon computer = FirePokemon.create("Charizard", 100, 20);
+        Pokemon player = GrassPokemon.create("Venusaur", 100, 20);
+        computer.health = 10;
+        player.health = 100;
+
+        MctsOpponentStrategy strategy = MctsOpponentStrategy.withIterations(5_000, 2, ForkJoinPool.commonPool());
+        assertEquals(OpponentStrategy.HEAL, strategy.chooseAction(computer, player, new SplittableRandom(1)));
+    }
+
+    @Test
+    void testIterationBudgetIsDeterministic() {
+        Pokemon computer = FirePokemon.create("Charizard", 100, 20);
+        Pokemon player = GrassPokemon.create("Venusaur", 100, 20);
+
+        MctsOpponentStrategy strategy = MctsOpponentStrategy.withIterations(2_000, 2, ForkJoinPool.commonPool());
+        for (long seed = 0; seed < 5; seed++) {
+            assertEquals(strategy.chooseAction(computer, player, new SplittableRandom(seed)),
+                    strategy.chooseAction(computer, player, new SplittableRandom(seed)));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.artefact.pokemon.ai;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedStateTableTest {
+    @Test
+    void testPutFindAndResize() {
+        PackedStateTable table = new PackedStateTable();
+        for (long key = 0; key < 10_000; key++) {
+            table.put(key, key / 10_000.0, (int) (key % 4));
+        }
+        assertEquals(10_000, table.size());
+        int slot = table.find(1234);
+        assertEquals(0.1234, table.value(slot), 1e-12);
+        assertEquals(2, table.action(slot));
+        assertEquals(-1, table.find(20_000));
+    }
+}
@@ -0,0 +1,57 @@
+package com.artefact.pokemon.ai;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QLearningPolicyTest {
+    @TempDir
+    Path directory;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testStatesStayInsideTable() {
+        Pokemon computer = FirePokemon.create("Charizard", 100, 20);
+        Pokemon player = GrassPokemon.create("Venusaur", 100, 20);
+        int opening = QLearningPolicy.state(computer, player);
+
+        computer.health = 1;
+        player.health = 0;
+        int lowHealth = QLearningPolicy.state(computer, player);
+
+        assertTrue(opening >= 0 && opening < QLearningPolicy.STATES);
+        assertTrue(lowHealth >= 0 && lowHealth < QLearningPolicy.STATES);
+        assertNotEquals(opening, lowHealth);
+    }
+
+    @Test
+    void testTrainingIsReproducible() {
+        SelfPlayTrainer trainer = new SelfPlayTrainer(pool);
+        assertArrayEquals(trainer.train(20_000, 11L).values, trainer.train(20_000, 11L).values);
+    }
+
+    @Test
+    void testTrainingImprovesPolicyAndRoundTrips() throws Exception {
+        SelfPlayTrainer trainer = new SelfPlayTrainer(pool);
+        QLearningPolicy policy = trainer.train(200_000, 11L);
+        assertTrue(trainer.evaluate(policy, 20_000, 12L) > 0.5);
+
+        Path file = directory.resolve("policy.qpt");
+        policy.write(file);
+        QLearningPolicy loaded = QLearningPolicy.read(file);
+        assertArrayEquals(policy.values, loaded.values);
+        assertEquals(200_000, loaded.getEpisodes());
+    }
+}
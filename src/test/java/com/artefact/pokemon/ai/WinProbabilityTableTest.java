@@ -0,0 +1,86 @@
+package com.artefact.pokemon.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.MoveEffect;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.StatusEffect;
+import com.artefact.pokemon.battle.BattleBatch;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import com.artefact.pokemon.types.WaterPokemon;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinProbabilityTableTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMatchesSimulatedBattles() {
+        Pokemon first = FirePokemon.create("Charizard", 100, 20);
+        Pokemon second = WaterPokemon.create("Blastoise", 100, 20);
+        WinProbabilityTable table = WinProbabilityTable.solve(first, second);
+
+        int battles = 100_000;
+        BattleBatch batch = new BattleBatch(first, second, battles);
+        batch.reset(battles, new SplittableRandom(42));
+        batch.runAll();
+        long wins = 0;
+        long turns = 0;
+        for (int lane = 0; lane < battles; lane++) {
+            if (batch.outcome(lane) == BattleBatch.FIRST_WON) wins++;
+            turns += batch.turns(lane);
+        }
+
+        assertEquals((double) wins / battles, table.winProbability(true), 0.01);
+        assertEquals((double) turns / battles, table.expectedTurns(true), 0.2);
+        assertEquals(1.0, table.winProbability(1, 0, 0, 0, false));
+        assertEquals(0.0, table.winProbability(0, 0, 1, 0, true));
+    }
+
+    @Test
+    void testStoredTablesAreReusedUntilMovesChange() throws Exception {
+        Pokemon fire = FirePokemon.create("Charizard", 100, 20);
+        Pokemon water = WaterPokemon.create("Blastoise", 100, 20);
+        Pokemon grass = GrassPokemon.create("Venusaur", 100, 20);
+        WinProbabilityTables tables = new WinProbabilityTables(directory);
+        double expected = tables.table(fire, water).winProbability(true);
+        tables.table(fire, grass);
+        assertEquals(2, tables.solvedCount());
+
+        WinProbabilityTables reopened = new WinProbabilityTables(directory);
+        assertEquals(expected, reopened.table(fire, water).winProbability(true));
+        reopened.table(fire, grass);
+        assertEquals(0, reopened.solvedCount());
+
+        Move first = grass.moves.get(0);
+        grass.moves.set(0, new Move(first.getName(), first.getBasePower() + 10, first.getAccuracy(), first.getDescription()));
+        reopened.table(fire, water);
+        reopened.table(fire, grass);
+        assertEquals(1, reopened.solvedCount());
+    }
+
+    @Test
+    void testFingerprintCoversEffectsAndCharging() {
+        Pokemon fire = FirePokemon.create("Charizard", 100, 20);
+        Pokemon water = WaterPokemon.create("Blastoise", 100, 20);
+        long plain = WinProbabilityTable.fingerprint(fire, water);
+
+        Move first = fire.moves.get(0);
+        fire.moves.set(0, new Move(first.getName(), first.getBasePower(), first.getAccuracy(),
+                first.getDescription(), new MoveEffect(StatusEffect.BURN, 6, 3, 1.0), 0));
+        long burning = WinProbabilityTable.fingerprint(fire, water);
+        assertNotEquals(plain, burning);
+
+        fire.moves.set(0, new Move(first.getName(), first.getBasePower(), first.getAccuracy(),
+                first.getDescription(), new MoveEffect(StatusEffect.BURN, 6, 3, 0.5), 0));
+        assertNotEquals(burning, WinProbabilityTable.fingerprint(fire, water));
+
+        fire.moves.set(0, new Move(first.getName(), first.getBasePower(), first.getAccuracy(),
+                first.getDescription(), null, 1));
+        assertNotEquals(plain, WinProbabilityTable.fingerprint(fire, water));
+    }
+}
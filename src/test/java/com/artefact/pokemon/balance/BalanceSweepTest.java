@@ -0,0 +1,45 @@
+package com.artefact.pokemon.balance;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceSweepTest {
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private BalanceSweep sweep() {
+        return new BalanceSweep(SpeciesRegistry.standard().species(), 500, 42, pool);
+    }
+
+    @Test
+    void testRefinementReusesCachedResults() {
+        BalanceSweep sweep = sweep();
+        List<BalanceConfig> coarse = BalanceSweep.grid(
+                new double[] {0.8, 1.0}, new double[] {1.0}, new double[] {1.1}, new int[] {20});
+        sweep.sweep(coarse);
+        assertEquals(2, sweep.simulatedCount());
+
+        List<BalanceResult> refined = sweep.sweep(BalanceSweep.around(coarse.get(1), 0.2, 0.1, 5));
+        assertEquals(81, refined.size());
+        assertEquals(2 + 81 - 2, sweep.simulatedCount());  // Both coarse points lie on the refined grid
+    }
+
+    @Test
+    void testResultsAreReproducible() {
+        BalanceConfig config = new BalanceConfig(0.7 + 0.1 + 0.2, 1.0, 1.25, 15);
+        BalanceResult first = sweep().evaluate(config);
+        BalanceResult second = sweep().evaluate(new BalanceConfig(1.0, 1.0, 1.25, 15));
+
+        assertEquals(3, first.pairings().size());
+        assertEquals(first, second);
+        assertEquals(first.imbalance() > 0.05, first.isFlagged(0.05));
+    }
+}
@@ -0,0 +1,30 @@
+package com.artefact.pokemon.battle;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleBatchTest {
+    @Test
+    void testLaneMatchesObjectBattle() {
+        BattleBatch batch = new BattleBatch(
+                FirePokemon.create("Charizard", 100, 20),
+                GrassPokemon.create("Venusaur", 100, 20), 64);
+        batch.reset(64, new SplittableRandom(99));
+        batch.runAll();
+
+        SplittableRandom source = new SplittableRandom(99);
+        PokemonBattler battler = PokemonBattler.headless();
+        for (int lane = 0; lane < 64; lane++) {
+            Pokemon first = FirePokemon.create("Charizard", 100, 20);
+            Pokemon second = GrassPokemon.create("Venusaur", 100, 20);
+            int turns = battler.simulateBattle(first, second, source.split());
+            assertEquals(turns, batch.turns(lane));
+            assertEquals(first.health, batch.firstHealth(lane));
+            assertEquals(second.health, batch.secondHealth(lane));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.artefact.pokemon.battle;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.MoveEffect;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.StatusEffect;
+import com.artefact.pokemon.battle.event.BattleEventLog;
+import com.artefact.pokemon.battle.event.BattleEventType;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEffectsTest {
+    private final BattleEventLog events = new BattleEventLog(64);
+    private final BattleEffects effects = new BattleEffects(events);
+    private final SplittableRandom random = new SplittableRandom(1);
+    private final Pokemon first = FirePokemon.create("Charizard", 100, 20);
+    private final Pokemon second = GrassPokemon.create("Venusaur", 100, 20);
+
+    @Test
+    void testBurnDamagesForItsDuration() {
+        effects.reset(first, second);
+        Move ember = new Move("Ember", 10, 1.0, "Burns", new MoveEffect(StatusEffect.BURN, 5, 2, 1.0), 0);
+
+        assertTrue(effects.startTurn(first, random));
+        effects.inflict(first, second, ember, random);
+        assertEquals(0.5, effects.attackMultiplier(second));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(effects.startTurn(second, random));
+            assertTrue(effects.startTurn(first, random));
+        }
+        assertEquals(90, second.health);  // Two turns of 5 damage, then the burn wears off
+        assertEquals(0, effects.activeCount(second, StatusEffect.BURN));
+        assertEquals(1.0, effects.attackMultiplier(second));
+    }
+
+    @Test
+    void testSleepSkipsTurns() {
+        effects.reset(first, second);
+        Move hypnosis = new Move("Hypnosis", 0, 1.0, "Sleeps", new MoveEffect(StatusEffect.SLEEP, 0, 2, 1.0), 0);
+
+        effects.startTurn(first, random);
+        effects.inflict(first, second, hypnosis, random);
+        assertFalse(effects.startTurn(second, random));
+        effects.startTurn(first, random);
+        assertFalse(effects.startTurn(second, random));
+        effects.startTurn(first, random);
+        assertTrue(effects.startTurn(second, random));
+        assertEquals(BattleEventType.ASLEEP, events.get(events.size() - 1).getType());
+    }
+
+    @Test
+    void testChargedMoveLandsLater() {
+        PokemonBattler battler = PokemonBattler.headless(1);
+        battler.resetEffects(first, second);
+        Move solarBeam = new Move("Solar Beam", 30, 1.0, "Charges", null, 1);
+
+        assertTrue(battler.beginTurn(first, second, random));
+        battler.executeMove(first, second, solarBeam, random);
+        assertEquals(100, second.health);
+
+        assertTrue(battler.beginTurn(second, first, random));
+        assertFalse(battler.beginTurn(first, second, random));  // Turn spent landing the move
+        assertTrue(second.health < 100);
+    }
+}
@@ -0,0 +1,90 @@
+package com.artefact.pokemon.battle;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.pokemon.team.Team;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.WaterPokemon;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleSimulatorTest {
+    @Test
+    void testSimulateCountsEveryBattle() {
+        BattleSimulator simulator = new BattleSimulator();
+        SimulationReport report = simulator.simulate(
+                () -> FirePokemon.create("Charizard", 100, 20),
+                () -> WaterPokemon.create("Blastoise", 100, 20),
+                5_000);
+        assertEquals(5_000, report.firstWins() + report.secondWins());
+        assertTrue(report.averageTurns() > 1);
+    }
+
+    @Test
+    void testSimulationKeepsSupplierState() {
+        BattleSimulator simulator = new BattleSimulator();
+        SimulationReport full = simulator.simulate(
+                () -> FirePokemon.create("Charizard", 100, 20),
+                () -> WaterPokemon.create("Blastoise", 100, 20),
+                5_000, 42L);
+        SimulationReport weakened = simulator.simulate(
+                () -> {
+                    Pokemon charizard = FirePokemon.create("Charizard", 100, 20);
+                    charizard.health = 10;
+                    charizard.potions = 0;
+                    charizard.healCount = 0;
+                    return charizard;
+                },
+                () -> WaterPokemon.create("Blastoise", 100, 20),
+                5_000, 42L);
+        // Every battle, not just each worker's first, starts from the supplier's state
+        assertTrue(weakened.firstWins() < full.firstWins() / 10);
+    }
+
+    @Test
+    void testSeededSimulationIsReproducible() {
+        BattleSimulator simulator = new BattleSimulator();
+        SimulationReport first = simulator.simulate(
+                () -> FirePokemon.create("Charizard", 100, 20),
+                () -> WaterPokemon.create("Blastoise", 100, 20),
+                10_000, 42L);
+        SimulationReport second = simulator.simulate(
+                () -> FirePokemon.create("Charizard", 100, 20),
+                () -> WaterPokemon.create("Blastoise", 100, 20),
+                10_000, 42L);
+        assertEquals(first.firstWins(), second.firstWins());
+        assertEquals(first.totalTurns(), second.totalTurns());
+    }
+
+    @Test
+    void testBatchedSimulationMatchesObjectPath() {
+        BattleSimulator simulator = new BattleSimulator();
+        SimulationReport objects = simulator.simulate(
+                () -> FirePokemon.create("Charizard", 100, 20),
+                () -> WaterPokemon.create("Blastoise", 100, 20),
+                10_000, 7L);
+        SimulationReport batched = simulator.simulateBatched(
+                FirePokemon.create("Charizard", 100, 20),
+                WaterPokemon.create("Blastoise", 100, 20),
+                10_000, 7L);
+        assertEquals(objects.firstWins(), batched.firstWins());
+        assertEquals(objects.totalTurns(), batched.totalTurns());
+    }
+
+    @Test
+    void testSeededTeamSimulationIsReproducible() {
+        BattleSimulator simulator = new BattleSimulator();
+        SpeciesRegistry registry = SpeciesRegistry.standard();
+        Team first = Team.of(registry, List.of("Charizard", "Charizard", "Blastoise", "Venusaur", "Blastoise", "Venusaur"));
+        Team second = Team.of(registry, List.of("Venusaur", "Blastoise", "Charizard", "Charizard", "Venusaur", "Blastoise"));
+
+        SimulationReport report = simulator.simulateTeams(first, second, 5_000, 11L);
+        SimulationReport again = simulator.simulateTeams(first, second, 5_000, 11L);
+        assertEquals(5_000, report.firstWins() + report.secondWins());
+        assertEquals(report.firstWins(), again.firstWins());
+        assertEquals(report.totalTurns(), again.totalTurns());
+        assertTrue(report.averageTurns() > 6 * 5);  // Every battle knocks out a whole team
+        assertEquals(6, first.remaining());
+    }
+}
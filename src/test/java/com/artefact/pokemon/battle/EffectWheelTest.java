@@ -0,0 +1,47 @@
+package com.artefact.pokemon.battle;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectWheelTest {
+    @Test
+    void testEntriesFireOnTheirTurn() {
+        EffectWheel wheel = new EffectWheel(8);
+        List<Integer> fired = new ArrayList<>();
+        wheel.schedule(3, 1, 0, 0, null);
+        wheel.schedule(11, 2, 0, 0, null);  // Same slot, one revolution later
+        wheel.schedule(3, 3, 1, 5, null);
+
+        for (long turn = 1; turn <= 10; turn++) {
+            wheel.advance(turn, (kind, side, amount, move) -> fired.add(kind));
+        }
+        assertEquals(List.of(1, 3), fired.stream().sorted().toList());
+        assertEquals(1, wheel.size());
+
+        wheel.advance(11, (kind, side, amount, move) -> fired.add(kind));
+        assertEquals(3, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testManyStackedEntriesAreReused() {
+        EffectWheel wheel = new EffectWheel(4);
+        int[] fired = new int[1];
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 500; i++) {
+                wheel.schedule(round * 10L + 1 + i % 7, 0, i & 1, i, null);
+            }
+            for (long turn = round * 10L + 1; turn <= round * 10L + 7; turn++) {
+                wheel.advance(turn, (kind, side, amount, move) -> fired[0]++);
+            }
+            assertEquals(0, wheel.size());
+        }
+        assertEquals(1_500, fired[0]);
+
+        wheel.schedule(40, 0, 0, 0, null);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+    }
+}
@@ -1,8 +1,14 @@
 package com.artefact.pokemon.battle;
 
 import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.battle.event.BattleEventType;
+import com.artefact.pokemon.species.SpeciesRegistry;
 import com.artefact.pokemon.types.FirePokemon;
 import com.artefact.pokemon.types.WaterPokemon;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
 import static org.junit.jupiter.api.Assertions.*;
 
 class PokemonBattlerTest {
@@ -12,4 +18,47 @@ class PokemonBattlerTest {
         FirePokemon playerPokemon = FirePokemon.create("Charizard", 100, 20);
         assertNotNull(battler.generateOpponent(playerPokemon));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGenerateOpponentWhenEverySpeciesSharesPlayerType() {
+        SpeciesRegistry registry = SpeciesRegistry.parse(String.join("\n",
+                "move    | Ember | 15 | HIGH | A weak but accurate fire attack",
+                "moveset | Fire  | Ember",
+                "species | Charmander | Fire | 80 | 15 | Ember | A fire lizard"));
+        FirePokemon playerPokemon = FirePokemon.create("Charizard", 100, 20);
+        assertEquals("Charmander", new PokemonBattler().generateOpponent(playerPokemon, registry).name);
+    }
+
+    @Test
+    void testStatusMovesTakeEffectInBattle() {
+        EnumSet<BattleEventType> statusEvents = EnumSet.of(BattleEventType.BURNED, BattleEventType.POISONED,
+                BattleEventType.SEEDED, BattleEventType.STATUS_DAMAGE, BattleEventType.LEECHED,
+                BattleEventType.FELL_ASLEEP, BattleEventType.PARALYSED, BattleEventType.CHARGING);
+        assertTrue(seen(false).stream().noneMatch(statusEvents::contains));
+
+        Set<BattleEventType> seen = seen(true);
+        assertTrue(seen.containsAll(EnumSet.of(BattleEventType.BURNED, BattleEventType.SEEDED,
+                BattleEventType.STATUS_DAMAGE, BattleEventType.LEECHED, BattleEventType.CHARGING)), seen.toString());
+    }
+
+    /**
+     * Runs seeded Charizard vs Venusaur battles and collects every event type published
+     */
+    private static Set<BattleEventType> seen(boolean statusMoves) {
+        SpeciesRegistry registry = SpeciesRegistry.standard();
+        PokemonBattler battler = PokemonBattler.headless();
+        Set<BattleEventType> seen = EnumSet.noneOf(BattleEventType.class);
+        battler.getEventLog().addSink(event -> seen.add(event.getType()));
+        SplittableRandom random = new SplittableRandom(23);
+        for (int i = 0; i < 50; i++) {
+            Pokemon charizard = registry.get("Charizard").create();
+            Pokemon venusaur = registry.get("Venusaur").create();
+            if (statusMoves) {
+                registry.teachStatusMoves(charizard);
+                registry.teachStatusMoves(venusaur);
+            }
+            battler.simulateBattle(charizard, venusaur, random);
+        }
+        return seen;
+    }
+}
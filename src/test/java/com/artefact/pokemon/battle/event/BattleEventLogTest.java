@@ -0,0 +1,59 @@
+package com.artefact.pokemon.battle.event;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEventLogTest {
+    private final Pokemon charizard = FirePokemon.create("Charizard", 100, 20);
+    private final Pokemon venusaur = GrassPokemon.create("Venusaur", 100, 20);
+
+    @Test
+    void testRingKeepsNewestEvents() {
+        BattleEventLog log = new BattleEventLog(4);
+        assertEquals(4, log.capacity());
+        for (int i = 0; i < 6; i++) {
+            log.publish(BattleEventType.POTION, charizard, null);
+        }
+        assertEquals(6, log.publishedCount());
+        assertEquals(4, log.size());
+        assertEquals(2, log.get(0).getSequence());
+        assertEquals(5, log.get(3).getSequence());
+
+        log.clear();
+        assertEquals(0, log.size());
+    }
+
+    @Test
+    void testDescribeMatchesCommentary() {
+        BattleEventLog log = new BattleEventLog(8);
+        Move ember = charizard.moves.get(1);
+        log.publish(BattleEventType.START, charizard, venusaur);
+        log.publish(BattleEventType.HIT, charizard, venusaur, ember, 16, 1.1);
+        log.publish(BattleEventType.MISS, charizard, venusaur, ember, 0, 1.0);
+        log.publish(BattleEventType.POTION, charizard, null, null, 20, 1.0);
+
+        assertEquals("Battle started between Charizard and Venusaur", log.get(0).describe());
+        assertEquals("Charizard used Ember dealing 16 damage! It's super effective!", log.get(1).describe());
+        assertEquals("Charizard's Ember missed!", log.get(2).describe());
+        assertEquals("Charizard used a potion and recovered 20 HP!", log.get(3).describe());
+    }
+
+    @Test
+    void testSinksReceiveEvents() {
+        BattleEventLog log = new BattleEventLog(8);
+        List<BattleEventType> seen = new ArrayList<>();
+        BattleEventSink sink = event -> seen.add(event.getType());
+        log.addSink(sink);
+        log.publish(BattleEventType.HEAL, venusaur, null, null, 20, 1.0);
+        log.removeSink(sink);
+        log.publish(BattleEventType.FAINT, venusaur, charizard);
+
+        assertEquals(List.of(BattleEventType.HEAL), seen);
+    }
+}
@@ -0,0 +1,192 @@
+package com.artefact.pokemon.battle.event;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.types.FirePokemon;
+import com.artefact.pokemon.types.GrassPokemon;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEventPublisherTest {
+    private final Pokemon charizard = FirePokemon.create("Charizard", 100, 20);
+    private final Pokemon venusaur = GrassPokemon.create("Venusaur", 100, 20);
+
+    /**
+     * Records everything it receives, requesting an initial amount up front
+     */
+    private static class Spectator implements Flow.Subscriber<BattleEventSnapshot> {
+        final long initialDemand;
+        final List<BattleEventSnapshot> received = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Flow.Subscription> subscribed = new CompletableFuture<>();
+        final CompletableFuture<Throwable> finished = new CompletableFuture<>();
+
+        Spectator(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscribed.complete(subscription);
+            if (initialDemand > 0) subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(BattleEventSnapshot item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            finished.complete(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            finished.complete(null);
+        }
+    }
+
+    @Test
+    void testSpectatorsReceiveEventsAndCompletion() throws Exception {
+        BattleEventPublisher publisher = new BattleEventPublisher(64, 16, BattleEventPublisher.OverflowPolicy.DROP_OLDEST);
+        BattleEventLog log = new BattleEventLog(8);
+        log.addSink(publisher);
+        Spectator first = new Spectator(Long.MAX_VALUE);
+        Spectator second = new Spectator(Long.MAX_VALUE);
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        first.subscribed.get(5, TimeUnit.SECONDS);
+        second.subscribed.get(5, TimeUnit.SECONDS);
+
+        log.publish(BattleEventType.START, charizard, venusaur);
+        log.publish(BattleEventType.HIT, charizard, venusaur, charizard.moves.get(1), 16, 1.1);
+        publisher.close();
+
+        assertNull(first.finished.get(5, TimeUnit.SECONDS));
+        assertNull(second.finished.get(5, TimeUnit.SECONDS));
+        assertEquals(2, first.received.size());
+        assertEquals("Charizard used Ember dealing 16 damage! It's super effective!",
+                second.received.get(1).describe());
+    }
+
+    @Test
+    void testDropOldestSkipsMissedEvents() throws Exception {
+        BattleEventPublisher publisher = new BattleEventPublisher(64, 2, BattleEventPublisher.OverflowPolicy.DROP_OLDEST);
+        BattleEventLog log = new BattleEventLog(8);
+        log.addSink(publisher);
+        Spectator slow = new Spectator(0);
+        publisher.subscribe(slow);
+        Flow.Subscription subscription = slow.subscribed.get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 5; i++) {
+            log.publish(BattleEventType.POTION, charizard, null);
+        }
+        subscription.request(10);
+        publisher.close();
+
+        assertNull(slow.finished.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(3L, 4L), slow.received.stream().map(BattleEventSnapshot::sequence).toList());
+    }
+
+    @Test
+    void testDisconnectPolicyEndsSlowSpectator() throws Exception {
+        BattleEventPublisher publisher = new BattleEventPublisher(64, 2, BattleEventPublisher.OverflowPolicy.DISCONNECT);
+        BattleEventLog log = new BattleEventLog(8);
+        log.addSink(publisher);
+        Spectator slow = new Spectator(0);
+        publisher.subscribe(slow);
+        slow.subscribed.get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 5; i++) {
+            log.publish(BattleEventType.POTION, charizard, null);
+        }
+        slow.subscribed.get().request(1);
+
+        assertInstanceOf(IllegalStateException.class, slow.finished.get(5, TimeUnit.SECONDS));
+        assertTrue(slow.received.isEmpty());
+        publisher.close();
+    }
+
+    @Test
+    void testBlockedSpectatorDoesNotHoldUpOthers() throws Exception {
+        BattleEventPublisher publisher = new BattleEventPublisher(64, 4, BattleEventPublisher.OverflowPolicy.DISCONNECT);
+        BattleEventLog log = new BattleEventLog(8);
+        log.addSink(publisher);
+        CountDownLatch release = new CountDownLatch(1);
+        Spectator stuck = new Spectator(Long.MAX_VALUE) {
+            @Override
+            public void onNext(BattleEventSnapshot item) {
+                super.onNext(item);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Spectator healthy = new Spectator(Long.MAX_VALUE);
+        publisher.subscribe(stuck);
+        publisher.subscribe(healthy);
+        stuck.subscribed.get(5, TimeUnit.SECONDS);
+        healthy.subscribed.get(5, TimeUnit.SECONDS);
+
+        // The healthy spectator keeps up event by event while the other is stuck on the first
+        for (int i = 0; i < 10; i++) {
+            log.publish(BattleEventType.POTION, charizard, null);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (healthy.received.size() <= i && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+        assertEquals(10, healthy.received.size());
+        assertFalse(healthy.finished.isDone());
+
+        release.countDown();
+        publisher.close();
+        assertNull(healthy.finished.get(5, TimeUnit.SECONDS));
+        // Only the stuck spectator fell behind, so only it is disconnected
+        assertInstanceOf(IllegalStateException.class, stuck.finished.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPublishersShareOneDispatcher() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (SpectatorDispatcher dispatcher = new SpectatorDispatcher(executor)) {
+            List<BattleEventLog> logs = List.of(new BattleEventLog(8), new BattleEventLog(8));
+            List<BattleEventPublisher> publishers = List.of(
+                    new BattleEventPublisher(64, 16, BattleEventPublisher.OverflowPolicy.DROP_OLDEST, dispatcher),
+                    new BattleEventPublisher(64, 16, BattleEventPublisher.OverflowPolicy.DROP_OLDEST, dispatcher));
+            List<Spectator> spectators = List.of(new Spectator(Long.MAX_VALUE), new Spectator(Long.MAX_VALUE));
+            for (int i = 0; i < 2; i++) {
+                logs.get(i).addSink(publishers.get(i));
+                publishers.get(i).subscribe(spectators.get(i));
+                spectators.get(i).subscribed.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(2, dispatcher.publisherCount());
+
+            logs.get(0).publish(BattleEventType.START, charizard, venusaur);
+            logs.get(1).publish(BattleEventType.START, venusaur, charizard);
+            logs.get(1).publish(BattleEventType.POTION, venusaur, null);
+            publishers.forEach(BattleEventPublisher::close);
+
+            assertNull(spectators.get(0).finished.get(5, TimeUnit.SECONDS));
+            assertNull(spectators.get(1).finished.get(5, TimeUnit.SECONDS));
+            assertEquals(1, spectators.get(0).received.size());
+            assertEquals(2, spectators.get(1).received.size());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (dispatcher.publisherCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(0, dispatcher.publisherCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.artefact.pokemon.battle.render;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameRendererTest {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+
+    private String drain() {
+        String text = bytes.toString(StandardCharsets.UTF_8);
+        bytes.reset();
+        return text;
+    }
+
+    @Test
+    void testAnsiRedrawsOnlyChangedLines() {
+        FrameRenderer renderer = new FrameRenderer(out, true);
+        renderer.line("=== Battle Status ===");
+        renderer.line().append("Charizard ").append(100);
+        renderer.present();
+        assertTrue(drain().contains("=== Battle Status ==="));
+
+        renderer.line("=== Battle Status ===");
+        renderer.line().append("Charizard ").append(84);
+        renderer.present();
+        String frame = drain();
+        assertFalse(frame.contains("Battle Status"));
+        assertTrue(frame.contains("\u001B[2;1HCharizard 84"));
+    }
+
+    @Test
+    void testPlainOutputScrollsChangedTail() {
+        FrameRenderer renderer = new FrameRenderer(out, false);
+        renderer.line("Status");
+        renderer.line("1. Attack");
+        renderer.present();
+        assertEquals("Status" + System.lineSeparator() + "1. Attack" + System.lineSeparator(), drain());
+
+        renderer.line("Status");
+        renderer.line("Available moves:");
+        renderer.present();
+        assertEquals("Available moves:" + System.lineSeparator(), drain());
+    }
+
+    @Test
+    void testInterleavedOutputForcesFullFrame() {
+        FrameRenderer renderer = new FrameRenderer(out, false);
+        renderer.line("Status");
+        renderer.line("1. Attack");
+        renderer.present();
+        renderer.interleaved().println("Charizard used Ember!");
+        drain();
+
+        renderer.line("Status");
+        renderer.line("Available moves:");
+        renderer.present();
+        assertEquals("Status" + System.lineSeparator() + "Available moves:" + System.lineSeparator(), drain());
+    }
+
+    @Test
+    void testHealthBarsUseMaxHealth() {
+        assertEquals("[██████████░░░░░░░░░░] 70/140", HealthBars.render(70, 140));
+        assertSame(HealthBars.render(50, 100), HealthBars.render(50, 100));
+    }
+}
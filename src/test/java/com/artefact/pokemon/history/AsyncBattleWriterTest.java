@@ -0,0 +1,52 @@
+package com.artefact.pokemon.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.artefact.pokemon.types.PokemonType;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncBattleWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCloseDrainsQueuedBattles() throws Exception {
+        AsyncBattleWriter writer = new AsyncBattleWriter(BattleHistory.open(tempDir), 16, 5,
+                AsyncBattleWriter.SyncPolicy.ON_CLOSE);
+        for (int i = 0; i < 500; i++) {
+            writer.submit(new BattleRecord(i, "Charizard", PokemonType.FIRE, null,
+                    "Venusaur", PokemonType.GRASS, null, List.of()));
+        }
+        writer.close();
+        assertEquals(500, writer.writtenCount());
+        assertThrows(IllegalStateException.class, () -> writer.submit(new BattleRecord(0, "Charizard",
+                PokemonType.FIRE, null, "Venusaur", PokemonType.GRASS, null, List.of())));
+
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            assertEquals(new WinLoss(500, 0), history.winLoss("Charizard", 0, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void testWriterSurvivesFailedBatch() throws Exception {
+        AsyncBattleWriter writer = new AsyncBattleWriter(BattleHistory.open(tempDir), 16, 0,
+                AsyncBattleWriter.SyncPolicy.NEVER);
+        // A record without a winner type cannot be encoded
+        writer.submit(new BattleRecord(1, "Charizard", null, null,
+                "Venusaur", PokemonType.GRASS, null, List.of()));
+        while (writer.failedCount() == 0) {
+            Thread.sleep(5);
+        }
+        writer.submit(new BattleRecord(2, "Charizard", PokemonType.FIRE, null,
+                "Venusaur", PokemonType.GRASS, null, List.of()));
+        writer.close();
+        assertEquals(1, writer.writtenCount());
+        assertEquals(1, writer.failedCount());
+
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            assertEquals(1, history.size());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.artefact.pokemon.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.artefact.pokemon.types.PokemonType;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleHistoryTest {
+    @TempDir
+    Path tempDir;
+
+    private BattleRecord battle(long timestamp, String winner, String loser) {
+        return new BattleRecord(timestamp, winner, PokemonType.FIRE, null, loser, PokemonType.GRASS, null, List.of());
+    }
+
+    @Test
+    void testWinLossAndHeadToHead() throws IOException {
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            history.record(battle(100, "Charizard", "Venusaur"));
+            history.record(battle(200, "Venusaur", "Charizard"));
+            history.record(battle(300, "Charizard", "Blastoise"));
+            history.record(battle(400, "Charizard", "Venusaur"));
+
+            assertEquals(new WinLoss(3, 1), history.winLoss("Charizard", 0, Long.MAX_VALUE));
+            assertEquals(new WinLoss(1, 1), history.winLoss("Charizard", 150, 350));
+            assertEquals(new WinLoss(2, 1), history.headToHead("Charizard", "Venusaur", 0, Long.MAX_VALUE));
+            assertEquals(new WinLoss(0, 0), history.winLoss("Pikachu", 0, Long.MAX_VALUE));
+            assertEquals(2, history.battlesBetween(200, 400).size());
+            assertEquals(300, history.battlesFor("Blastoise", 0, Long.MAX_VALUE).get(0).timestamp());
+        }
+    }
+
+    @Test
+    void testClockSteppingBackwardsKeepsRangesExact() throws IOException {
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            history.record(battle(100, "Charizard", "Venusaur"));
+            history.record(battle(300, "Venusaur", "Charizard"));
+            history.record(battle(200, "Charizard", "Blastoise"));  // Clock stepped back
+            history.record(battle(400, "Charizard", "Venusaur"));
+
+            // The late battle is found at its own time, not where it was recorded
+            assertEquals(2, history.battlesBetween(250, 500).size());
+            assertEquals(new WinLoss(1, 1), history.winLoss("Charizard", 250, 500));
+            assertEquals(List.of(battle(200, "Charizard", "Blastoise")), history.battlesBetween(150, 250));
+            assertEquals(new WinLoss(1, 0), history.headToHead("Charizard", "Blastoise", 150, 250));
+            assertEquals(List.of(100L, 200L, 300L, 400L), history.battlesFor("Charizard", 0, 500).stream()
+                    .map(BattleRecord::timestamp).toList());
+        }
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            assertEquals(2, history.battlesBetween(250, 500).size());
+            assertEquals(List.of(100L, 200L, 300L, 400L), history.battlesBetween(0, 500).stream()
+                    .map(BattleRecord::timestamp).toList());
+        }
+    }
+
+    @Test
+    void testIndexCatchesUpWithJournal() throws IOException {
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            history.record(battle(100, "Charizard", "Venusaur"));
+        }
+        // Battles appended to the journal alone are indexed on the next open
+        try (BattleJournal journal = BattleJournal.open(tempDir.resolve("battle_history.journal"))) {
+            journal.append(battle(200, "Blastoise", "Charizard"));
+        }
+
+        try (BattleHistory history = BattleHistory.open(tempDir)) {
+            assertEquals(2, history.size());
+            assertEquals(new WinLoss(1, 1), history.winLoss("Charizard", 0, Long.MAX_VALUE));
+            assertEquals(List.of(battle(200, "Blastoise", "Charizard")),
+                    history.battlesFor("Blastoise", 0, Long.MAX_VALUE));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.artefact.pokemon.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.artefact.pokemon.types.PokemonType;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleJournalTest {
+    @TempDir
+    Path tempDir;
+
+    private BattleRecord record(long timestamp) {
+        return new BattleRecord(timestamp, "Charizard", PokemonType.FIRE, PokemonType.FLYING,
+                "Venusaur", PokemonType.GRASS, null, List.of("Charizard used Ember dealing 16 damage!"));
+    }
+
+    @Test
+    void testAppendAndScan() throws IOException {
+        Path file = tempDir.resolve("history.journal");
+        long offset;
+        try (BattleJournal journal = BattleJournal.open(file)) {
+            journal.append(record(1));
+            offset = journal.append(record(2));
+            assertEquals(record(2), journal.read(offset));
+        }
+
+        List<BattleRecord> records = new ArrayList<>();
+        BattleJournal.forEach(file, (position, record) -> records.add(record));
+        assertEquals(List.of(record(1), record(2)), records);
+    }
+
+    @Test
+    void testTornRecordIsDiscarded() throws IOException {
+        Path file = tempDir.resolve("history.journal");
+        try (BattleJournal journal = BattleJournal.open(file)) {
+            journal.append(record(1));
+            journal.append(record(2));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (BattleJournal journal = BattleJournal.open(file)) {
+            journal.append(record(3));
+        }
+        List<Long> timestamps = new ArrayList<>();
+        BattleJournal.forEach(file, (position, record) -> timestamps.add(record.timestamp()));
+        assertEquals(List.of(1L, 3L), timestamps);
+    }
+
+    @Test
+    void testConvertTextHistory() throws IOException {
+        Path text = tempDir.resolve("battle_history.txt");
+        Files.writeString(text, """
+
+                Battle @ 01-02-2024 13:45:00
+                Winner: Charizard (Fire/Flying)
+                Loser: Blastoise (Water)
+                Battle Commentary:
+                Battle started between Charizard and Blastoise
+                Blastoise's Hydro Pump missed!
+                ------------------------
+                """);
+
+        try (BattleJournal journal = BattleJournal.open(tempDir.resolve("history.journal"))) {
+            assertEquals(1, TextHistoryConverter.convert(text, journal));
+            List<BattleRecord> records = new ArrayList<>();
+            journal.forEach((position, record) -> records.add(record));
+
+            BattleRecord converted = records.get(0);
+            assertEquals("Charizard", converted.winnerName());
+            assertEquals(PokemonType.FLYING, converted.winnerSecondaryType());
+            assertEquals(PokemonType.WATER, converted.loserType());
+            assertEquals(2, converted.events().size());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.artefact.pokemon.species;
+
+import com.artefact.pokemon.Move;
+import com.artefact.pokemon.MoveEffect;
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.StatusEffect;
+import com.artefact.pokemon.types.PokemonType;
+import com.artefact.utils.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpeciesRegistryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStandardRegistry() {
+        SpeciesRegistry registry = SpeciesRegistry.standard();
+        Species charizard = registry.get("Charizard");
+        assertEquals(PokemonType.FIRE, charizard.type());
+        assertEquals(100, charizard.health());
+        assertEquals(Constants.MEDIUM_ACCURACY, registry.move("Fire Blast").getAccuracy());
+        assertEquals(3, registry.moveset(PokemonType.GRASS).size());
+    }
+
+    @Test
+    void testPokemonShareMoves() {
+        Species venusaur = SpeciesRegistry.standard().get("Venusaur");
+        Pokemon first = venusaur.create();
+        Pokemon second = venusaur.create();
+        assertNotSame(first, second);
+        assertSame(first.moves.get(0), second.moves.get(0));
+        assertSame(SpeciesRegistry.standard().move("Leaf Storm"), first.moves.get(0));
+    }
+
+    @Test
+    void testStatusMovesAreOptIn() {
+        SpeciesRegistry registry = SpeciesRegistry.standard();
+        Pokemon charizard = registry.get("Charizard").create();
+        assertTrue(charizard.moves.stream().allMatch(move -> move.getEffect() == null && move.getChargeTurns() == 0));
+
+        registry.teachStatusMoves(charizard);
+        assertEquals(5, charizard.moves.size());
+        assertSame(registry.move("Will-O-Wisp"), charizard.moves.get(3));
+        assertEquals(StatusEffect.BURN, charizard.moves.get(3).getEffect().status());
+        assertEquals(1, registry.move("Overheat").getChargeTurns());
+        assertEquals(3, registry.statusMoveset(PokemonType.GRASS).size());
+    }
+
+    @Test
+    void testCacheMatchesSource() throws IOException {
+        StringBuilder text = new StringBuilder("move | Tackle | 12 | 0.9 | A full-body charge\n");
+        for (int i = 0; i < 2_000; i++) {
+            text.append("species | Species").append(i).append(" | Water/Ice | 100 | ").append(i % 30)
+                    .append(" | Tackle | Generated species\n");
+        }
+        Path source = tempDir.resolve("species.txt");
+        Path cache = tempDir.resolve("species.cache");
+        Files.writeString(source, text);
+
+        SpeciesRegistry parsed = SpeciesRegistry.load(source, cache);
+        assertTrue(Files.exists(cache));
+        SpeciesRegistry cached = SpeciesRegistry.load(source, cache);
+
+        assertEquals(2_000, cached.species().size());
+        Species last = cached.get("Species1999");
+        assertEquals(parsed.get("Species1999").attackPower(), last.attackPower());
+        assertEquals(PokemonType.ICE, last.secondaryType());
+        assertSame(cached.move("Tackle"), last.moves().get(0));
+    }
+
+    @Test
+    void testStaleCacheIsRebuilt() throws IOException {
+        Path source = tempDir.resolve("species.txt");
+        Path cache = tempDir.resolve("species.cache");
+        Files.writeString(source, "move | Ember | 15 | HIGH | Sparks\nspecies | Charmander | Fire | 100 | 10 | Ember | Lizard\n");
+        SpeciesRegistry.load(source, cache);
+
+        Files.writeString(source, "move | Ember | 15 | HIGH | Sparks\nspecies | Charmander | Fire | 100 | 12 | Ember | Lizard\n");
+        assertEquals(12, SpeciesRegistry.load(source, cache).get("Charmander").attackPower());
+    }
+
+    @Test
+    void testMoveExtrasSurviveTheCache() throws IOException {
+        Path source = tempDir.resolve("species.txt");
+        Path cache = tempDir.resolve("species.cache");
+        Files.writeString(source, "move | Ember | 15 | HIGH | Sparks | burn 4 3 0.5, charge 1\n"
+                + "move | Hypnosis | 0 | 0.6 | Sleepy | sleep 2\n"
+                + "statusset | Fire | Hypnosis\n"
+                + "species | Charmander | Fire | 100 | 10 | Ember | Lizard\n");
+        SpeciesRegistry.load(source, cache);
+        SpeciesRegistry cached = SpeciesRegistry.load(source, cache);
+        assertEquals(List.of(cached.move("Hypnosis")), cached.statusMoveset(PokemonType.FIRE));
+
+        Move ember = cached.move("Ember");
+        assertEquals(new MoveEffect(StatusEffect.BURN, 4, 3, 0.5), ember.getEffect());
+        assertEquals(1, ember.getChargeTurns());
+        assertEquals(new MoveEffect(StatusEffect.SLEEP, 0, 2, 1.0), cached.move("Hypnosis").getEffect());
+        assertThrows(IllegalArgumentException.class,
+                () -> SpeciesRegistry.parse("move | Ember | 15 | HIGH | Sparks | freeze 2"));
+    }
+
+    @Test
+    void testUnknownMoveIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SpeciesRegistry.parse("species | Charmander | Fire | 100 | 10 | Ember | Lizard"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.artefact.pokemon.team;
+
+import com.artefact.pokemon.Pokemon;
+import com.artefact.pokemon.species.SpeciesRegistry;
+import com.artefact.utils.Constants;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamTest {
+    private final SpeciesRegistry registry = SpeciesRegistry.standard();
+
+    @Test
+    void testSwitchingKeepsEachMembersState() {
+        Team team = Team.of(registry, List.of("Charizard", "Blastoise", "Venusaur"));
+        Pokemon charizard = team.active();
+        charizard.takeDamage(40);
+        charizard.usePotion();
+
+        Pokemon blastoise = team.switchTo(1);
+        assertEquals("Blastoise", blastoise.name);
+        assertEquals(90, team.health(0));
+        assertEquals(Constants.TEAM_POTIONS - 1, blastoise.potions);  // Potions are shared
+
+        assertSame(charizard, team.switchTo(0));
+        assertEquals(90, charizard.health);
+        assertThrows(IllegalArgumentException.class, () -> team.switchTo(0));
+    }
+
+    @Test
+    void testFaintedMembersAreReplacedUntilDefeated() {
+        Team team = Team.of(registry, List.of("Charizard", "Blastoise", "Venusaur"));
+        Pokemon opponent = registry.get("Blastoise").create();
+
+        team.active().takeDamage(1_000);
+        assertFalse(team.canSwitchTo(0));
+        assertEquals(2, team.remaining());
+        assertEquals(2, team.nextReplacement(opponent));  // Grass hits water hardest
+
+        team.switchTo(team.nextReplacement(opponent)).takeDamage(1_000);
+        team.switchTo(team.nextReplacement(opponent)).takeDamage(1_000);
+        assertTrue(team.isDefeated());
+        assertEquals(-1, team.nextReplacement(opponent));
+
+        team.reset();
+        assertEquals(3, team.remaining());
+        assertEquals("Charizard", team.active().name);
+    }
+
+    @Test
+    void testRandomTeamKeepsItsLead() {
+        Team team = Team.random(registry, registry.get("Venusaur"), Constants.TEAM_SIZE, new SplittableRandom(3));
+        assertEquals(Constants.TEAM_SIZE, team.size());
+        assertEquals("Venusaur", team.species(0).name());
+        assertEquals(team.toString(), team.copy().toString());
+    }
+}
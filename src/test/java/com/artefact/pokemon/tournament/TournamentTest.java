@@ -0,0 +1,45 @@
+package com.artefact.pokemon.tournament;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+    @Test
+    void testBracketOrderKeepsTopSeedsApart() {
+        assertArrayEquals(new int[] {0, 7, 3, 4, 1, 6, 2, 5}, Tournament.bracketOrder(8));
+    }
+
+    @Test
+    void testSingleEliminationWithByes() {
+        Tournament tournament = new Tournament(Entrant.roster(5), 42);
+        Entrant champion = tournament.singleElimination();
+
+        Standings standings = tournament.getStandings();
+        assertEquals(4, standings.matchesPlayed());
+        assertEquals(0, standings.losses(champion));
+        // Seeds 1 to 3 each have a first-round bye, which counts as a win
+        assertEquals(4 + 3, standings.ranking().stream().mapToInt(Standings.Line::wins).sum());
+        assertEquals(champion, standings.ranking().get(0).entrant());
+        assertEquals(champion, new Tournament(Entrant.roster(5), 42).singleElimination());
+    }
+
+    @Test
+    void testRoundRobinPlaysEveryPairing() {
+        Standings standings = new Tournament(Entrant.roster(6), 7).roundRobin();
+        assertEquals(15, standings.matchesPlayed());
+        for (Standings.Line line : standings.ranking()) {
+            assertEquals(5, line.wins() + line.losses());
+        }
+    }
+
+    @Test
+    void testSwissIsReproducible() {
+        List<Standings.Line> first = new Tournament(Entrant.roster(7), 3).swiss(3).ranking();
+        List<Standings.Line> second = new Tournament(Entrant.roster(7), 3).swiss(3).ranking();
+
+        assertEquals(first, second);
+        int totalWins = first.stream().mapToInt(Standings.Line::wins).sum();
+        assertEquals(3 * 3 + 3, totalWins);  // Three matches and one bye per round
+    }
+}
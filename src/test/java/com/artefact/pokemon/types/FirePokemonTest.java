@@ -8,6 +8,6 @@ class FirePokemonTest {
     void testFirePokemonCreation() {
         FirePokemon firePokemon = FirePokemon.create("Charizard", 100, 20);
         assertEquals("Charizard", firePokemon.name);
-        assertEquals("Fire", firePokemon.type);
+        assertEquals(PokemonType.FIRE, firePokemon.type);
     }
 }
\ No newline at end of file
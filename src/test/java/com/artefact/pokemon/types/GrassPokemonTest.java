@@ -8,6 +8,6 @@ class GrassPokemonTest {
     void testGrassPokemonCreation() {
         GrassPokemon grassPokemon = GrassPokemon.create("Sceptile", 100, 20);
         assertEquals("Sceptile", grassPokemon.name);
-        assertEquals("Grass", grassPokemon.type);
+        assertEquals(PokemonType.GRASS, grassPokemon.type);
     }
 }
\ No newline at end of file
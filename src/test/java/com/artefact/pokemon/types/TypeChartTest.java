@@ -0,0 +1,24 @@
+package com.artefact.pokemon.types;
+
+import org.junit.jupiter.api.Test;
+import com.artefact.utils.Constants;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeChartTest {
+    @Test
+    void testSingleTypeMultipliers() {
+        TypeChart chart = TypeChart.STANDARD;
+        assertEquals(Constants.TYPE_ADVANTAGE_MULTIPLIER, chart.multiplier(PokemonType.WATER, PokemonType.FIRE));
+        assertEquals(Constants.TYPE_RESISTANCE_MULTIPLIER, chart.multiplier(PokemonType.FIRE, PokemonType.WATER));
+        assertEquals(0.0, chart.multiplier(PokemonType.NORMAL, PokemonType.GHOST));
+        assertEquals(1.0, chart.multiplier(PokemonType.FIRE, PokemonType.NORMAL));
+    }
+
+    @Test
+    void testDualTypeMultipliers() {
+        TypeChart chart = new TypeChart(2.0, 0.5, 0.0);
+        assertEquals(4.0, chart.multiplier(PokemonType.ICE, PokemonType.GRASS, PokemonType.FLYING));
+        assertEquals(0.0, chart.multiplier(PokemonType.ELECTRIC, PokemonType.WATER, PokemonType.GROUND));
+        assertEquals(1.0, chart.multiplier(PokemonType.FIRE, PokemonType.WATER, PokemonType.GRASS));
+    }
+}
@@ -8,6 +8,6 @@ class WaterPokemonTest {
     void testWaterPokemonCreation() {
         WaterPokemon waterPokemon = WaterPokemon.create("Greninja", 100, 20);
         assertEquals("Greninja", waterPokemon.name);
-        assertEquals("Water", waterPokemon.type);
+        assertEquals(PokemonType.WATER, waterPokemon.type);
     }
 }
\ No newline at end of file
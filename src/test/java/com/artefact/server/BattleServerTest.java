@@ -0,0 +1,131 @@
+package com.artefact.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleServerTest {
+    private BattleServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new BattleServer(0, null, 2, 60);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String idOf(String json) {
+        int start = json.indexOf("\"id\":\"") + 6;
+        return json.substring(start, json.indexOf('"', start));
+    }
+
+    @Test
+    void testBattleLifecycle() throws Exception {
+        HttpResponse<String> created = post("/battles", "{\"starter\": 1, \"seed\": 7}");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"name\":\"Charizard\""));
+
+        String id = idOf(created.body());
+        HttpResponse<String> attacked = post("/battles/" + id + "/actions", "{\"action\": \"attack\", \"move\": 2}");
+        assertEquals(200, attacked.statusCode());
+        assertTrue(attacked.body().contains("\"turns\":2"));
+
+        HttpResponse<String> surrendered = post("/battles/" + id + "/actions", "{\"action\": \"surrender\"}");
+        assertTrue(surrendered.body().contains("\"status\":\"surrendered\""));
+        assertEquals(409, post("/battles/" + id + "/actions", "{\"action\": \"potion\"}").statusCode());
+
+        HttpRequest scrape = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/metrics")).build();
+        HttpResponse<String> metrics = client.send(scrape, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("# TYPE artefact_battles_surrendered_total counter"));
+    }
+
+    @Test
+    void testSpectatorsWatchBattleUntilItEnds() throws Exception {
+        String id = idOf(post("/battles", "{\"starter\": 1, \"seed\": 7}").body());
+        HttpRequest watch = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + server.getPort() + "/battles/" + id + "/events")).GET().build();
+        CompletableFuture<HttpResponse<Stream<String>>> first = client.sendAsync(watch, HttpResponse.BodyHandlers.ofLines());
+        CompletableFuture<HttpResponse<Stream<String>>> second = client.sendAsync(watch, HttpResponse.BodyHandlers.ofLines());
+        // Headers are sent once each spectator has joined
+        HttpResponse<Stream<String>> firstResponse = first.get(5, TimeUnit.SECONDS);
+        HttpResponse<Stream<String>> secondResponse = second.get(5, TimeUnit.SECONDS);
+        assertEquals(200, firstResponse.statusCode());
+
+        post("/battles/" + id + "/actions", "{\"action\": \"potion\"}");
+        post("/battles/" + id + "/actions", "{\"action\": \"surrender\"}");
+
+        // Both streams end with the battle
+        List<String> events = firstResponse.body().filter(line -> line.startsWith("data: ")).toList();
+        assertTrue(events.get(0).contains("\"type\":\"potion\""));
+        assertTrue(events.get(events.size() - 1).contains("\"type\":\"surrender\""));
+        assertEquals(events, secondResponse.body().filter(line -> line.startsWith("data: ")).toList());
+
+        HttpRequest missing = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + server.getPort() + "/battles/missing/events")).GET().build();
+        assertEquals(404, client.send(missing, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    void testTeamBattleSwitching() throws Exception {
+        HttpResponse<String> created = post("/battles", "{\"starter\": 2, \"format\": \"team\", \"seed\": 3}");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"opponentRemaining\":6"));
+        assertTrue(created.body().contains("{\"name\":\"Blastoise\",\"health\":100,\"active\":true}"));
+
+        String id = idOf(created.body());
+        assertEquals(400, post("/battles/" + id + "/actions", "{\"action\": \"switch\", \"member\": 1}").statusCode());
+        HttpResponse<String> switched = post("/battles/" + id + "/actions", "{\"action\": \"switch\", \"member\": 2}");
+        assertEquals(200, switched.statusCode());
+        assertTrue(switched.body().contains("\"turns\":2"));
+        assertTrue(switched.body().contains("was sent out in place of Blastoise!"));
+    }
+
+    @Test
+    void testStatusMoveBattle() throws Exception {
+        HttpResponse<String> created = post("/battles", "{\"starter\": 1, \"moves\": \"status\", \"seed\": 5}");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"Will-O-Wisp\""));
+
+        String id = idOf(created.body());
+        HttpResponse<String> charged = post("/battles/" + id + "/actions", "{\"action\": \"attack\", \"move\": 5}");
+        assertEquals(200, charged.statusCode());
+        assertTrue(charged.body().contains("Charizard is charging Overheat!"));
+    }
+
+    @Test
+    void testErrorsAndSessionLimit() throws Exception {
+        assertEquals(404, post("/battles/missing/actions", "{\"action\": \"potion\"}").statusCode());
+        assertEquals(400, post("/battles", "{\"starter\": 9}").statusCode());
+        assertEquals(400, post("/battles", "not json").statusCode());
+        assertEquals(400, post("/battles", "{").statusCode());
+        assertEquals(400, post("/battles", "{\"starter\": 1,").statusCode());
+        assertEquals(400, post("/battles", "{\"starter\": \"\\u00}").statusCode());
+
+        assertEquals(201, post("/battles", "{}").statusCode());
+        assertEquals(201, post("/battles", "{}").statusCode());
+        assertEquals(503, post("/battles", "{}").statusCode());
+        assertEquals(2, server.sessionCount());
+    }
+}